@@ -1,6 +1,7 @@
 package com.cronicasaetherium.mod;
 
 import com.mojang.logging.LogUtils;
+import net.minecraft.resources.ResourceLocation;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -10,6 +11,7 @@ import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.neoforged.neoforge.client.event.RegisterMenuScreensEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.server.ServerStartingEvent;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
@@ -20,8 +22,12 @@ import com.cronicasaetherium.mod.registry.ModEntities;
 import com.cronicasaetherium.mod.registry.ModCreativeTabs;
 import com.cronicasaetherium.mod.registry.ModBlockEntities;
 import com.cronicasaetherium.mod.registry.ModArmorMaterials;
+import com.cronicasaetherium.mod.registry.ModAttachmentTypes;
+import com.cronicasaetherium.mod.common.commands.AetheriumDebugCommand;
 import com.cronicasaetherium.mod.common.commands.ProficiencyCommand;
 import com.cronicasaetherium.mod.config.ModConfig;
+import com.cronicasaetherium.mod.client.gui.MechanicalCrusherScreen;
+import com.cronicasaetherium.mod.client.gui.SteamEngineScreen;
 import com.cronicasaetherium.mod.common.gui.ModMenuTypes;
 import com.cronicasaetherium.mod.common.recipe.ModRecipeTypes;
 
@@ -42,7 +48,17 @@ public class CronicasAetherium {
     public static final String MODID = "cronicasaetherium";
     
     // Logger para depuração e informações do mod
-    private static final Logger LOGGER = LogUtils.getLogger();
+    public static final Logger LOGGER = LogUtils.getLogger();
+    
+    /**
+     * Cria um ResourceLocation no namespace do mod
+     * 
+     * @param path Caminho do recurso
+     * @return ResourceLocation cronicasaetherium:path
+     */
+    public static ResourceLocation id(String path) {
+        return ResourceLocation.fromNamespaceAndPath(MODID, path);
+    }
     
     /**
      * Construtor principal do mod
@@ -64,6 +80,7 @@ public class CronicasAetherium {
         ModMenuTypes.register(modEventBus);
         ModRecipeTypes.register(modEventBus);
         ModArmorMaterials.register(modEventBus);
+        ModAttachmentTypes.register(modEventBus);
         
         // Registra o event bus principal do NeoForge
         NeoForge.EVENT_BUS.register(this);
@@ -128,11 +145,21 @@ public class CronicasAetherium {
             LOGGER.info("Configurando lado cliente do Crônicas de Aetherium");
             
             // TODO: Registrar renderers de entidades
-            // TODO: Registrar telas de GUI
             // TODO: Configurar keybindings para magia
             
             LOGGER.info("Configuração do cliente concluída");
         }
+        
+        /**
+         * Registro das telas de GUI das máquinas
+         * 
+         * @param event Evento de registro das telas de menus
+         */
+        @SubscribeEvent
+        public static void onRegisterMenuScreens(RegisterMenuScreensEvent event) {
+            event.register(ModMenuTypes.STEAM_ENGINE.get(), SteamEngineScreen::new);
+            event.register(ModMenuTypes.MECHANICAL_CRUSHER.get(), MechanicalCrusherScreen::new);
+        }
     }
     
     /**
@@ -143,6 +170,7 @@ public class CronicasAetherium {
      */
     public void onRegisterCommands(RegisterCommandsEvent event) {
         ProficiencyCommand.register(event.getDispatcher());
+        AetheriumDebugCommand.register(event.getDispatcher());
         LOGGER.info("Comandos do Crônicas de Aetherium registrados");
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.cronicasaetherium.mod.blocks.synergy;
 
+import com.cronicasaetherium.mod.common.capability.ProficiencyAccrual;
+import com.cronicasaetherium.mod.config.ModConfig;
 import com.cronicasaetherium.mod.registry.ModItems;
 import com.cronicasaetherium.mod.world.dimension.ModDimensions;
 import net.minecraft.core.BlockPos;
@@ -153,9 +155,7 @@ public class ArcanePortalBlock extends Block {
         player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
             "§5✨ Teleportado para: " + dimensionName));
         
-        // TODO: Adicionar XP de proficiência arcana pela viagem dimensional
-        // ModCapabilities.ifPlayerProficiencyPresent(player, proficiency -> {
-        //     proficiency.addArcanaXp(ModConfig.BASE_ARCANA_XP.get());
-        // });
+        // XP de proficiência arcana pela viagem dimensional
+        ProficiencyAccrual.grantArcana(player, ModConfig.BASE_ARCANA_XP.get());
     }
 }
\ No newline at end of file
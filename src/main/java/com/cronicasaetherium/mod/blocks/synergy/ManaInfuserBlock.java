@@ -1,16 +1,15 @@
 package com.cronicasaetherium.mod.blocks.synergy;
 
-import com.cronicasaetherium.mod.blocks.synergy.ManaInfuserBlockEntity;
+import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
@@ -34,6 +33,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public class ManaInfuserBlock extends BaseEntityBlock {
     
+    public static final MapCodec<ManaInfuserBlock> CODEC = simpleCodec(ManaInfuserBlock::new);
+    
     /**
      * Construtor da Infusora de Mana
      * Define as propriedades físicas e comportamentais do bloco
@@ -44,6 +45,11 @@ public class ManaInfuserBlock extends BaseEntityBlock {
         super(properties);
     }
     
+    @Override
+    protected MapCodec<? extends BaseEntityBlock> codec() {
+        return CODEC;
+    }
+    
     /**
      * Cria a entidade do bloco (BlockEntity) responsável pela lógica da máquina
      * 
@@ -58,27 +64,25 @@ public class ManaInfuserBlock extends BaseEntityBlock {
     }
     
     /**
-     * Configura o ticker da BlockEntity para processar lógica contínua
+     * Acorda a máquina quando um bloco vizinho muda
      * 
-     * O ticker é executado a cada tick do jogo quando a máquina está ativa,
-     * permitindo que ela processe energia, consuma itens e produza mana.
+     * A máquina não tem ticker de bloco: ela é executada pelo MachineTicker
+     * apenas enquanto pode processar, e adormece quando fica sem trabalho.
      * 
-     * @param level Nível/mundo onde está o bloco
      * @param state Estado do bloco
-     * @param blockEntityType Tipo da BlockEntity
-     * @return Ticker configurado ou null se não houver processamento
+     * @param level Nível/mundo
+     * @param pos Posição do bloco
+     * @param neighborBlock Bloco vizinho que mudou
+     * @param neighborPos Posição do vizinho
+     * @param movedByPiston Se a mudança veio de um pistão
      */
-    @Nullable
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        if (!level.isClientSide()) {
-            return (lvl, pos, st, blockEntity) -> {
-                if (blockEntity instanceof ManaInfuserBlockEntity manaInfuser) {
-                    manaInfuser.tick();
-                }
-            };
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+        
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof ManaInfuserBlockEntity manaInfuser) {
+            manaInfuser.wake();
         }
-        return null;
     }
     
     /**
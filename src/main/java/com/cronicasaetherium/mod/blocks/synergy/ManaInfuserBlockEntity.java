@@ -1,11 +1,13 @@
 package com.cronicasaetherium.mod.blocks.synergy;
 
 import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.capability.ModEnergyStorage;
+import com.cronicasaetherium.mod.common.machine.MachineBlockEntity;
 import com.cronicasaetherium.mod.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 
@@ -25,18 +27,30 @@ import net.minecraft.world.level.block.state.BlockState;
  * Esta BlockEntity serve como exemplo de como integrar sistemas tecnológicos
  * e mágicos de forma que ambos os tipos de jogador possam se beneficiar.
  */
-public class ManaInfuserBlockEntity extends BlockEntity {
+public class ManaInfuserBlockEntity extends MachineBlockEntity {
     
     // Constantes de configuração da máquina
     private static final int MAX_ENERGY = 10000; // Capacidade máxima de energia
     private static final int ENERGY_PER_OPERATION = 100; // Energia consumida por operação
     private static final int PROCESSING_TIME = 100; // Ticks para completar uma operação
+    private static final int ENERGY_PERIOD = 10; // Ticks entre consumos de energia
     
     // Estado interno da máquina
-    private int energyStored = 0; // Energia atualmente armazenada
     private int processProgress = 0; // Progresso da operação atual (0-100)
     private boolean isProcessing = false; // Se a máquina está processando
     
+    // Campos visuais sincronizados com o cliente (bits de markSync)
+    private static final int SYNC_PROCESSING = 1;
+    
+    // Sistema de energia (consome FE)
+    private final ModEnergyStorage energyStorage = new ModEnergyStorage(
+        MAX_ENERGY, ENERGY_PER_OPERATION, // Apenas recebe energia (não gera)
+        () -> {
+            markDirty();
+            wake(); // Energia recebida pode permitir processar
+        }
+    );
+    
     // TODO: Adicionar quando o sistema de inventário for implementado
     // private final ItemStackHandler inventory = new ItemStackHandler(3) {
     //     @Override
@@ -68,36 +82,44 @@ public class ManaInfuserBlockEntity extends BlockEntity {
     }
     
     /**
-     * Método principal de processamento - executado a cada tick
+     * Método principal de processamento - avança a máquina pelos ticks decorridos
      * 
      * Este método gerencia toda a lógica da máquina:
      * - Verifica se há energia suficiente
      * - Processa catalisadores se houver
      * - Atualiza progresso e estado
      * - Consome energia conforme necessário
+     * 
+     * Avança em passos até o próximo consumo de energia ou conclusão,
+     * mantendo o mesmo resultado de avançar tick a tick.
+     * 
+     * @param ticks Ticks decorridos desde o último avanço
+     * @return true se ainda pode processar; false faz a máquina adormecer
      */
-    public void tick() {
-        if (level == null || level.isClientSide()) {
-            return; // Processa apenas no servidor
-        }
-        
+    @Override
+    protected boolean advance(int ticks) {
         boolean wasProcessing = isProcessing;
+        int remaining = ticks;
         
-        // Verifica se pode iniciar ou continuar processamento
-        if (canProcess()) {
+        while (remaining > 0 && canProcess()) {
             if (!isProcessing) {
                 startProcessing();
             }
             
-            continueProcessing();
-        } else {
+            int step = Math.min(remaining, ENERGY_PERIOD - processProgress % ENERGY_PERIOD);
+            continueProcessing(step);
+            remaining -= step;
+        }
+        
+        // Parou antes de usar todos os ticks: não há mais o que processar
+        if (remaining > 0) {
             stopProcessing();
         }
         
         // Sincroniza com o cliente se o estado mudou
         if (wasProcessing != isProcessing) {
-            setChanged();
-            syncToClient();
+            markDirty();
+            markSync(SYNC_PROCESSING);
         }
         
         // TODO: Implementar lógica de geração de Mana quando o sistema for adicionado
@@ -105,6 +127,8 @@ public class ManaInfuserBlockEntity extends BlockEntity {
         //     generateMana();
         //     completeProcessing();
         // }
+        
+        return isProcessing;
     }
     
     /**
@@ -114,7 +138,7 @@ public class ManaInfuserBlockEntity extends BlockEntity {
      */
     private boolean canProcess() {
         // Verifica energia suficiente
-        if (energyStored < ENERGY_PER_OPERATION) {
+        if (energyStorage.getEnergyStored() < ENERGY_PER_OPERATION) {
             return false;
         }
         
@@ -136,13 +160,17 @@ public class ManaInfuserBlockEntity extends BlockEntity {
     
     /**
      * Continua o processo atual
+     * 
+     * @param ticks Ticks a avançar (sem ultrapassar a conclusão)
      */
-    private void continueProcessing() {
-        processProgress++;
+    private void continueProcessing(int ticks) {
+        int from = processProgress;
+        processProgress += ticks;
         
         // Consome energia gradualmente durante o processo
-        if (processProgress % 10 == 0) { // A cada 10 ticks
-            consumeEnergy(ENERGY_PER_OPERATION / 10);
+        int periods = periodsCrossed(from, processProgress, ENERGY_PERIOD);
+        if (periods > 0) {
+            consumeEnergy(periods * (ENERGY_PER_OPERATION / 10));
         }
         
         // Completa o processo quando atinge o tempo necessário
@@ -185,7 +213,7 @@ public class ManaInfuserBlockEntity extends BlockEntity {
      * @param amount Quantidade de energia a consumir
      */
     private void consumeEnergy(int amount) {
-        energyStored = Math.max(0, energyStored - amount);
+        energyStorage.removeEnergyDirect(amount);
     }
     
     /**
@@ -195,10 +223,7 @@ public class ManaInfuserBlockEntity extends BlockEntity {
      * @return Quantidade efetivamente adicionada
      */
     public int addEnergy(int amount) {
-        int addable = Math.min(amount, MAX_ENERGY - energyStored);
-        energyStored += addable;
-        setChanged();
-        return addable;
+        return energyStorage.addEnergyDirect(amount);
     }
     
     /**
@@ -207,7 +232,7 @@ public class ManaInfuserBlockEntity extends BlockEntity {
      * @return Energia armazenada
      */
     public int getEnergyStored() {
-        return energyStored;
+        return energyStorage.getEnergyStored();
     }
     
     /**
@@ -219,6 +244,16 @@ public class ManaInfuserBlockEntity extends BlockEntity {
         return MAX_ENERGY;
     }
     
+    /**
+     * Obtém o armazenamento de energia exposto como capability
+     * 
+     * @return Armazenamento de energia
+     */
+    @Override
+    public ModEnergyStorage getEnergyStorage() {
+        return energyStorage;
+    }
+    
     /**
      * Obtém o progresso atual do processamento (0-100)
      * 
@@ -239,12 +274,19 @@ public class ManaInfuserBlockEntity extends BlockEntity {
     }
     
     /**
-     * Sincroniza dados com o cliente para atualização de GUI
+     * Estado visual enviado aos clientes: apenas se está processando
      */
-    private void syncToClient() {
-        if (level != null && !level.isClientSide()) {
-            // TODO: Implementar sincronização quando necessário
-            // level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 3);
+    @Override
+    protected void writeSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_PROCESSING) != 0) {
+            buf.writeBoolean(isProcessing);
+        }
+    }
+    
+    @Override
+    protected void readSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_PROCESSING) != 0) {
+            isProcessing = buf.readBoolean();
         }
     }
     
@@ -262,7 +304,7 @@ public class ManaInfuserBlockEntity extends BlockEntity {
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
         
-        tag.putInt("energy", energyStored);
+        tag.put("energy", energyStorage.serializeNBT(registries));
         tag.putInt("progress", processProgress);
         tag.putBoolean("processing", isProcessing);
         
@@ -280,7 +322,9 @@ public class ManaInfuserBlockEntity extends BlockEntity {
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
         
-        energyStored = tag.getInt("energy");
+        if (tag.contains("energy")) {
+            energyStorage.deserializeNBT(registries, tag.get("energy"));
+        }
         processProgress = tag.getInt("progress");
         isProcessing = tag.getBoolean("processing");
         
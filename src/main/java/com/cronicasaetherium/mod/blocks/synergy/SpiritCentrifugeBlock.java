@@ -1,6 +1,6 @@
 package com.cronicasaetherium.mod.blocks.synergy;
 
-import com.cronicasaetherium.mod.registry.ModBlockEntities;
+import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.InteractionResult;
@@ -10,11 +10,8 @@ import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Centrífuga Espiritual - Máquina de sinergia entre Tecnologia e Magia
@@ -36,6 +33,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public class SpiritCentrifugeBlock extends BaseEntityBlock {
     
+    public static final MapCodec<SpiritCentrifugeBlock> CODEC = simpleCodec(SpiritCentrifugeBlock::new);
+    
     /**
      * Construtor da Centrífuga Espiritual
      */
@@ -43,6 +42,11 @@ public class SpiritCentrifugeBlock extends BaseEntityBlock {
         super(properties);
     }
     
+    @Override
+    protected MapCodec<? extends BaseEntityBlock> codec() {
+        return CODEC;
+    }
+    
     @Override
     public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
         return new SpiritCentrifugeBlockEntity(pos, state);
@@ -72,17 +76,18 @@ public class SpiritCentrifugeBlock extends BaseEntityBlock {
     }
     
     /**
-     * Ticker da BlockEntity para processamento contínuo
+     * Atualização de vizinho: acorda a máquina para reavaliar o trabalho
+     * 
+     * Não há ticker de bloco; a máquina é executada pelo MachineTicker
+     * apenas enquanto tem trabalho a fazer.
      */
-    @Nullable
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-        if (level.isClientSide()) {
-            return null;
-        }
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
         
-        return createTickerHelper(blockEntityType, ModBlockEntities.SPIRIT_CENTRIFUGE.get(),
-            (level1, pos, state1, blockEntity) -> blockEntity.tick());
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof SpiritCentrifugeBlockEntity centrifuge) {
+            centrifuge.wake();
+        }
     }
     
     /**
@@ -1,15 +1,17 @@
 package com.cronicasaetherium.mod.blocks.synergy;
 
 import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.machine.MachineBlockEntity;
+import com.cronicasaetherium.mod.common.machine.NeighborIO;
 import com.cronicasaetherium.mod.registry.ModBlockEntities;
 import com.cronicasaetherium.mod.common.capability.ModEnergyStorage;
 import com.cronicasaetherium.mod.common.capability.ModItemHandler;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.items.ItemStackHandler;
@@ -31,33 +33,41 @@ import net.neoforged.neoforge.items.ItemStackHandler;
  * - Tempo de processamento: 5 segundos (100 ticks)
  * - Separa espíritos mistos em tipos específicos
  * - Interface compatível com automação de outros mods
+ * - Saída automática dos slots 1-3 para inventários vizinhos
  * 
  * Esta máquina resolve o problema de separação manual de espíritos,
  * automatizando uma tarefa tradicionalmente mágica usando tecnologia.
  */
-public class SpiritCentrifugeBlockEntity extends BlockEntity {
+public class SpiritCentrifugeBlockEntity extends MachineBlockEntity {
     
     // Constantes de configuração da máquina
     private static final int MAX_ENERGY = 25000; // Capacidade de energia (alta para operação contínua)
     private static final int ENERGY_PER_OPERATION = 500; // FE consumido por separação
     private static final int PROCESSING_TIME = 100; // 5 segundos por operação
+    private static final int ENERGY_PERIOD = 20; // Ticks entre consumos de energia
     
     // Estado interno da máquina
     private int processProgress = 0;
     private boolean isProcessing = false;
     
+    // Campos visuais sincronizados com o cliente (bits de markSync)
+    private static final int SYNC_PROCESSING = 1;
+    
     // Sistema de energia (consome FE)
     private final ModEnergyStorage energyStorage = new ModEnergyStorage(
         MAX_ENERGY, 1000, 0, // Apenas recebe energia (não gera)
-        this::setChanged
+        () -> {
+            markDirty();
+            wake(); // Energia recebida pode permitir processar
+        }
     );
     
     // Inventário: [0] entrada, [1-3] saídas por tipo de espírito
     private final ItemStackHandler inventory = new ItemStackHandler(4) {
         @Override
         protected void onContentsChanged(int slot) {
-            setChanged();
-            syncToClient();
+            markDirty();
+            wake();
         }
         
         @Override
@@ -70,6 +80,9 @@ public class SpiritCentrifugeBlockEntity extends BlockEntity {
         }
     };
     
+    // Saída automática para inventários e entrada de energia de geradores encostados
+    private final NeighborIO neighbors = new NeighborIO(this);
+    
     /**
      * Construtor da BlockEntity
      */
@@ -82,31 +95,51 @@ public class SpiritCentrifugeBlockEntity extends BlockEntity {
     }
     
     /**
-     * Método principal de processamento - executado a cada tick
+     * Método principal de processamento - avança a máquina pelos ticks decorridos
+     * 
+     * Avança em passos até o próximo consumo de energia ou conclusão,
+     * mantendo o mesmo resultado de avançar tick a tick.
+     * 
+     * @param ticks Ticks decorridos desde o último avanço
+     * @return true se ainda pode processar; false faz a máquina adormecer
      */
-    public void tick() {
-        if (level == null || level.isClientSide()) {
-            return;
-        }
-        
+    @Override
+    protected boolean advance(int ticks) {
         boolean wasProcessing = isProcessing;
+        int remaining = ticks;
         
-        // Verifica se pode processar
-        if (canProcess()) {
+        // Sem energia para o próximo ciclo: puxa de geradores encostados
+        boolean waitingEnergy = false;
+        if (energyStorage.getEnergyStored() < ENERGY_PER_OPERATION && !inventory.getStackInSlot(0).isEmpty()) {
+            waitingEnergy = neighbors.pullEnergy(energyStorage);
+        }
+        
+        while (remaining > 0 && canProcess()) {
             if (!isProcessing) {
                 startProcessing();
             }
             
-            continueProcessing();
-        } else {
+            int step = Math.min(remaining, ENERGY_PERIOD - processProgress % ENERGY_PERIOD);
+            continueProcessing(step);
+            remaining -= step;
+        }
+        
+        // Parou antes de usar todos os ticks: não há mais o que processar
+        if (remaining > 0) {
             stopProcessing();
         }
         
         // Sincroniza com cliente se mudou estado
         if (wasProcessing != isProcessing) {
-            setChanged();
-            syncToClient();
+            markDirty();
+            markSync(SYNC_PROCESSING);
         }
+        
+        // Saídas vão para os vizinhos; espera acordada enquanto um deles estiver cheio
+        boolean waitingOutput = neighbors.pushItems(inventory, 1, 3);
+        
+        // Sem processamento possível: adormece até ser acordada
+        return isProcessing || waitingOutput || waitingEnergy;
     }
     
     /**
@@ -159,13 +192,17 @@ public class SpiritCentrifugeBlockEntity extends BlockEntity {
     
     /**
      * Continua o processo atual
+     * 
+     * @param ticks Ticks a avançar (sem ultrapassar a conclusão)
      */
-    private void continueProcessing() {
-        processProgress++;
+    private void continueProcessing(int ticks) {
+        int from = processProgress;
+        processProgress += ticks;
         
         // Consome energia gradualmente
-        if (processProgress % 20 == 0) { // A cada segundo
-            energyStorage.removeEnergyDirect(ENERGY_PER_OPERATION / 5);
+        int periods = periodsCrossed(from, processProgress, ENERGY_PERIOD);
+        if (periods > 0) {
+            energyStorage.removeEnergyDirect(periods * (ENERGY_PER_OPERATION / 5));
         }
         
         // Completa o processo
@@ -277,12 +314,28 @@ public class SpiritCentrifugeBlockEntity extends BlockEntity {
         return (processProgress * 100) / PROCESSING_TIME; 
     }
     public boolean isProcessing() { return isProcessing; }
+    @Override
     public ItemStackHandler getInventory() { return inventory; }
+    
+    @Override
+    protected int getFirstOutputSlot() { return 1; }
+    @Override
     public ModEnergyStorage getEnergyStorage() { return energyStorage; }
     
-    private void syncToClient() {
-        if (level != null && !level.isClientSide()) {
-            // TODO: Implementar sincronização de dados
+    /**
+     * Estado visual enviado aos clientes: apenas se está processando
+     */
+    @Override
+    protected void writeSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_PROCESSING) != 0) {
+            buf.writeBoolean(isProcessing);
+        }
+    }
+    
+    @Override
+    protected void readSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_PROCESSING) != 0) {
+            isProcessing = buf.readBoolean();
         }
     }
     
@@ -311,7 +364,7 @@ public class SpiritCentrifugeBlockEntity extends BlockEntity {
             inventory.deserializeNBT(registries, tag.getCompound("inventory"));
         }
         if (tag.contains("energy")) {
-            energyStorage.deserializeNBT(registries, tag.getCompound("energy"));
+            energyStorage.deserializeNBT(registries, tag.get("energy"));
         }
     }
     
@@ -0,0 +1,65 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.common.fluid.PipeNetworkManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Cano de Bronze - Transporte de fluidos Tier 1
+ *
+ * Canos conectados formam um segmento com um único tanque compartilhado,
+ * gerenciado pelo PipeNetworkManager. O cano em si não guarda estado nem
+ * possui BlockEntity; o tanque do segmento é exposto como capability de
+ * fluido em todos os canos dele.
+ */
+public class BronzePipeBlock extends Block {
+
+    /**
+     * Construtor do Cano de Bronze
+     */
+    public BronzePipeBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel && !oldState.is(this)) {
+            PipeNetworkManager manager = PipeNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+    }
+
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (level instanceof ServerLevel serverLevel && !newState.is(this)) {
+            PipeNetworkManager manager = PipeNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
+    /**
+     * Atualização de vizinho: pode ser uma máquina nova encostada no cano
+     */
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel) {
+            PipeNetworkManager manager = PipeNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onNeighborChanged(pos, neighborPos);
+            }
+        }
+    }
+}
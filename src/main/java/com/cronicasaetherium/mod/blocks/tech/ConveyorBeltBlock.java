@@ -0,0 +1,99 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.common.logistics.BeltLine;
+import com.cronicasaetherium.mod.common.logistics.ConveyorManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.DirectionProperty;
+
+/**
+ * Esteira Transportadora - Automação avançada Tier 2
+ *
+ * Assim como cabos e dutos, a esteira não possui BlockEntity: ela apenas
+ * avisa o ConveyorManager quando muda, e os itens transportados vivem nas
+ * linhas do gerenciador. Itens jogados sobre a esteira deixam de ser
+ * ItemEntity e passam a ser dados da linha.
+ *
+ * A esteira é colocada apontando para onde o jogador está olhando.
+ */
+public class ConveyorBeltBlock extends Block {
+
+    public static final DirectionProperty FACING = BlockStateProperties.HORIZONTAL_FACING;
+
+    /**
+     * Construtor da Esteira Transportadora
+     */
+    public ConveyorBeltBlock(Properties properties) {
+        super(properties);
+        this.registerDefaultState(this.stateDefinition.any().setValue(FACING, Direction.NORTH));
+    }
+
+    @Override
+    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
+        builder.add(FACING);
+    }
+
+    @Override
+    public BlockState getStateForPlacement(BlockPlaceContext context) {
+        return this.defaultBlockState().setValue(FACING, context.getHorizontalDirection());
+    }
+
+    @Override
+    protected BlockState rotate(BlockState state, Rotation rotation) {
+        return state.setValue(FACING, rotation.rotate(state.getValue(FACING)));
+    }
+
+    @Override
+    protected BlockState mirror(BlockState state, Mirror mirror) {
+        return state.rotate(mirror.getRotation(state.getValue(FACING)));
+    }
+
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+
+        // Também cobre a troca de direção de uma esteira existente
+        if (level instanceof ServerLevel serverLevel && state != oldState) {
+            ConveyorManager manager = ConveyorManager.get(serverLevel);
+            if (manager != null) {
+                manager.onBeltChanged(pos);
+            }
+        }
+    }
+
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (level instanceof ServerLevel serverLevel && !newState.is(this)) {
+            ConveyorManager manager = ConveyorManager.get(serverLevel);
+            if (manager != null) {
+                manager.onBeltChanged(pos);
+            }
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
+    /**
+     * Itens soltos sobre a esteira são absorvidos pela linha
+     */
+    @Override
+    protected void entityInside(BlockState state, Level level, BlockPos pos, Entity entity) {
+        if (level instanceof ServerLevel serverLevel && entity instanceof ItemEntity item && item.isAlive()) {
+            ConveyorManager manager = ConveyorManager.get(serverLevel);
+            if (manager != null && manager.insert(pos, item.getItem().copy(), BeltLine.CENTER, false)) {
+                item.discard();
+            }
+        }
+    }
+}
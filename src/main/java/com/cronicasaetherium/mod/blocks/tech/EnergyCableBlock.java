@@ -0,0 +1,65 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.common.energy.EnergyGridManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Cabo de Energia - Transporte de FE Tier 1
+ *
+ * Liga o Motor a Vapor às máquinas consumidoras. O cabo não guarda
+ * estado nem possui BlockEntity: ele apenas avisa o EnergyGridManager
+ * quando é colocado, removido ou quando um vizinho muda, e a rede
+ * cuida do resto.
+ */
+public class EnergyCableBlock extends Block {
+
+    /**
+     * Construtor do Cabo de Energia
+     */
+    public EnergyCableBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel && !oldState.is(this)) {
+            EnergyGridManager manager = EnergyGridManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+    }
+
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (level instanceof ServerLevel serverLevel && !newState.is(this)) {
+            EnergyGridManager manager = EnergyGridManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
+    /**
+     * Atualização de vizinho: pode ser uma máquina nova encostada no cabo
+     */
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel) {
+            EnergyGridManager manager = EnergyGridManager.get(serverLevel);
+            if (manager != null) {
+                manager.onNeighborChanged(pos, neighborPos);
+            }
+        }
+    }
+}
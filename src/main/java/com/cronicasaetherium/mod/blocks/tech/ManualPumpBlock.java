@@ -0,0 +1,77 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.phys.BlockHitResult;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+
+/**
+ * Bomba Manual - Sistema básico de transporte de fluidos
+ *
+ * A cada clique, puxa água de uma fonte encostada na bomba e a empurra
+ * para o primeiro cano (ou máquina) vizinho que aceitar. A fonte não é
+ * consumida, assim como uma fonte infinita.
+ */
+public class ManualPumpBlock extends Block {
+
+    private static final int AMOUNT_PER_PUMP = 250; // mB por clique
+
+    /**
+     * Construtor da Bomba Manual
+     */
+    public ManualPumpBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected InteractionResult useWithoutItem(BlockState state, Level level, BlockPos pos, Player player, BlockHitResult hitResult) {
+        if (level.isClientSide()) {
+            return InteractionResult.SUCCESS;
+        }
+
+        if (!hasWaterSource(level, pos)) {
+            player.displayClientMessage(Component.literal("§7A bomba precisa estar encostada em uma fonte de água"), true);
+            return InteractionResult.CONSUME;
+        }
+
+        for (Direction direction : Direction.values()) {
+            IFluidHandler target = level.getCapability(Capabilities.FluidHandler.BLOCK, pos.relative(direction), direction.getOpposite());
+            if (target == null) {
+                continue;
+            }
+
+            int filled = target.fill(new FluidStack(Fluids.WATER, AMOUNT_PER_PUMP), IFluidHandler.FluidAction.EXECUTE);
+            if (filled > 0) {
+                level.playSound(null, pos, SoundEvents.BUCKET_FILL, SoundSource.BLOCKS, 0.5f, 1.2f);
+                player.displayClientMessage(Component.literal(String.format("§bBomba Manual: +%d mB", filled)), true);
+                return InteractionResult.CONSUME;
+            }
+        }
+
+        player.displayClientMessage(Component.literal("§7Nenhum cano ou máquina com espaço para água"), true);
+        return InteractionResult.CONSUME;
+    }
+
+    /**
+     * Verifica se há uma fonte de água encostada na bomba
+     */
+    private static boolean hasWaterSource(Level level, BlockPos pos) {
+        for (Direction direction : Direction.values()) {
+            if (level.getFluidState(pos.relative(direction)).isSourceOfType(Fluids.WATER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.common.gui.menu.MechanicalCrusherMenu;
+import com.mojang.serialization.MapCodec;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.SimpleMenuProvider;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+
+/**
+ * Triturador Mecânico - Primeira máquina de processamento Tier 1
+ *
+ * Bloco que hospeda a MechanicalCrusherBlockEntity. Não possui ticker:
+ * a máquina é executada pelo MachineTicker apenas enquanto tem minério,
+ * energia e espaço de saída, e adormece no resto do tempo.
+ */
+public class MechanicalCrusherBlock extends BaseEntityBlock {
+
+    public static final MapCodec<MechanicalCrusherBlock> CODEC = simpleCodec(MechanicalCrusherBlock::new);
+
+    /**
+     * Construtor do Triturador Mecânico
+     */
+    public MechanicalCrusherBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected MapCodec<? extends BaseEntityBlock> codec() {
+        return CODEC;
+    }
+
+    @Override
+    public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new MechanicalCrusherBlockEntity(pos, state);
+    }
+
+    @Override
+    protected RenderShape getRenderShape(BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    /**
+     * Interação do jogador com a máquina
+     * Abre a interface do triturador (MechanicalCrusherMenu)
+     */
+    @Override
+    protected InteractionResult useWithoutItem(BlockState state, Level level, BlockPos pos, Player player, BlockHitResult hitResult) {
+        if (!level.isClientSide() && player instanceof ServerPlayer serverPlayer
+                && level.getBlockEntity(pos) instanceof MechanicalCrusherBlockEntity crusher) {
+            // A posição vai junto para o construtor de rede do menu no cliente
+            serverPlayer.openMenu(new SimpleMenuProvider(
+                (containerId, inventory, opener) -> new MechanicalCrusherMenu(containerId, inventory, crusher),
+                getName()), pos);
+            return InteractionResult.CONSUME;
+        }
+
+        return InteractionResult.sidedSuccess(level.isClientSide());
+    }
+
+    /**
+     * Atualização de vizinho: acorda a máquina para reavaliar o trabalho
+     */
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof MechanicalCrusherBlockEntity crusher) {
+            crusher.wake();
+        }
+    }
+
+    /**
+     * Quando a máquina é removida, dropa seus itens
+     */
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (!state.is(newState.getBlock()) && level.getBlockEntity(pos) instanceof MechanicalCrusherBlockEntity crusher) {
+            crusher.dropContents();
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+}
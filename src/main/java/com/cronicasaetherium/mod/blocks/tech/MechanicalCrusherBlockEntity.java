@@ -1,16 +1,24 @@
 package com.cronicasaetherium.mod.blocks.tech;
 
 import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.capability.ModEnergyStorage;
+import com.cronicasaetherium.mod.common.machine.MachineBlockEntity;
+import com.cronicasaetherium.mod.common.machine.NeighborIO;
+import com.cronicasaetherium.mod.common.recipe.CrushingRecipe;
+import com.cronicasaetherium.mod.common.recipe.ModRecipeTypes;
 import com.cronicasaetherium.mod.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
-import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.SingleRecipeInput;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.items.ItemStackHandler;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * BlockEntity do Triturador Mecânico - Máquina de processamento Tier 1
@@ -22,34 +30,57 @@ import net.neoforged.neoforge.items.ItemStackHandler;
  * - Outros minérios → Rendimento dobrado + subprodutos
  * 
  * Sistemas integrados:
- * - Consumo de Forge Energy do Steam Engine
+ * - Consumo de Forge Energy do Steam Engine (por cabos ou encostado nele)
+ * - Saída automática dos slots 1-2 para inventários vizinhos
  * - Inventário: slot entrada, slot saída principal, slot subproduto
  * - Processamento progressivo com animação
- * - Receitas customizadas para cada tipo de minério
+ * - Receitas por datapack (tipo cronicasaetherium:crushing) com cache da última usada
  * - Chance de subprodutos extras (balanceamento)
  * - Sincronização client-server para efeitos visuais
  * 
  * Esta máquina é essencial para a progressão Tier 1, permitindo que
  * o jogador obtenha materiais suficientes para as próximas tecnologias.
  */
-public class MechanicalCrusherBlockEntity extends BlockEntity {
+public class MechanicalCrusherBlockEntity extends MachineBlockEntity {
     
     // Constantes de configuração da máquina
     private static final int MAX_ENERGY = 10000; // Capacidade máxima de energia
     private static final int ENERGY_PER_OPERATION = 200; // Energia por operação
     private static final int PROCESSING_TIME = 200; // Ticks para completar (10 segundos)
+    private static final int ENERGY_PERIOD = 20; // Ticks entre consumos de energia
     
     // Estado interno da máquina
-    private int energyStored = 0; // Energia atualmente armazenada
     private int processProgress = 0; // Progresso da operação atual (0-200)
     private boolean isProcessing = false; // Se a máquina está processando
     
+    // Campos visuais sincronizados com o cliente (bits de markSync)
+    private static final int SYNC_PROCESSING = 1;
+    
+    // Última receita usada e o RecipeManager de onde veio (muda ao recarregar datapacks)
+    @Nullable
+    private RecipeHolder<CrushingRecipe> lastRecipe;
+    @Nullable
+    private RecipeManager lastRecipeManager;
+    
+    // Subproduto do ciclo atual, sorteado no início do ciclo (não modificar)
+    private ItemStack pendingByproduct = ItemStack.EMPTY;
+    private boolean byproductRolled = false;
+    
+    // Sistema de energia (consome FE)
+    private final ModEnergyStorage energyStorage = new ModEnergyStorage(
+        MAX_ENERGY, ENERGY_PER_OPERATION, // Apenas recebe energia (não gera)
+        () -> {
+            markDirty();
+            wake(); // Energia recebida pode permitir processar
+        }
+    );
+    
     // Inventário: [0] entrada, [1] saída principal, [2] subproduto
     private final ItemStackHandler inventory = new ItemStackHandler(3) {
         @Override
         protected void onContentsChanged(int slot) {
-            setChanged(); // Marca a BlockEntity como modificada
-            syncToClient(); // Sincroniza com o cliente
+            markDirty(); // Marca a BlockEntity como modificada
+            wake(); // Nova entrada ou saída liberada pode permitir processar
         }
         
         @Override
@@ -61,6 +92,9 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
         }
     };
     
+    // Saída automática para inventários e entrada de energia de geradores encostados
+    private final NeighborIO neighbors = new NeighborIO(this);
+    
     /**
      * Construtor da BlockEntity
      */
@@ -76,37 +110,67 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
     }
     
     /**
-     * Método principal de processamento - executado a cada tick
+     * Método principal de processamento - avança a máquina pelos ticks decorridos
      * 
      * Gerencia toda a lógica da máquina:
      * - Verifica se há energia suficiente
      * - Processa minérios se houver
      * - Atualiza progresso e estado
      * - Produz resultados quando completa
+     * 
+     * Avança em passos até o próximo consumo de energia ou conclusão,
+     * que são os únicos pontos em que canProcess() pode mudar por conta
+     * própria; o resultado é o mesmo de avançar tick a tick. Lotes grandes
+     * (chunk recarregado) param assim que faltar minério, energia ou espaço.
+     * 
+     * @param ticks Ticks decorridos desde o último avanço
+     * @return true se ainda pode processar; false faz a máquina adormecer
      */
-    public void tick() {
-        if (level == null || level.isClientSide()) {
-            return; // Processa apenas no servidor
-        }
-        
+    @Override
+    protected boolean advance(int ticks) {
         boolean wasProcessing = isProcessing;
+        int remaining = ticks;
         
-        // Verifica se pode processar
-        if (canProcess()) {
+        // Sem energia para o próximo ciclo: puxa de geradores encostados
+        boolean waitingEnergy = false;
+        if (energyStorage.getEnergyStored() < ENERGY_PER_OPERATION && !inventory.getStackInSlot(0).isEmpty()) {
+            waitingEnergy = neighbors.pullEnergy(energyStorage);
+        }
+        
+        while (remaining > 0 && canProcess()) {
             if (!isProcessing) {
                 startProcessing();
             }
             
-            continueProcessing();
-        } else {
+            // Sorteia o subproduto do ciclo; se ele não couber, o ciclo espera espaço no slot 2
+            if (!byproductRolled) {
+                rollByproduct();
+                if (!fits(2, pendingByproduct)) {
+                    break;
+                }
+            }
+            
+            int step = Math.min(remaining, ENERGY_PERIOD - processProgress % ENERGY_PERIOD);
+            continueProcessing(step);
+            remaining -= step;
+        }
+        
+        // Parou antes de usar todos os ticks: não há mais o que processar
+        if (remaining > 0) {
             stopProcessing();
         }
         
         // Sincroniza com o cliente se o estado mudou
         if (wasProcessing != isProcessing) {
-            setChanged();
-            syncToClient();
+            markDirty();
+            markSync(SYNC_PROCESSING);
         }
+        
+        // Saídas vão para os vizinhos; espera acordada enquanto um deles estiver cheio
+        boolean waitingOutput = neighbors.pushItems(inventory, 1, 2);
+        
+        // Sem processamento possível: adormece até ser acordada
+        return isProcessing || waitingOutput || waitingEnergy;
     }
     
     /**
@@ -116,7 +180,7 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
      */
     private boolean canProcess() {
         // Verifica energia suficiente
-        if (energyStored < ENERGY_PER_OPERATION) {
+        if (energyStorage.getEnergyStored() < ENERGY_PER_OPERATION) {
             return false;
         }
         
@@ -126,33 +190,44 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
             return false;
         }
         
-        // Verifica se há espaço nos slots de saída
-        CrushingResult result = getCrushingResult(input);
-        if (result == null) {
+        // Verifica se há espaço nos slots de saída (sem alocar nem sortear)
+        CrushingRecipe recipe = getCrushingRecipe(input);
+        if (recipe == null || !fits(1, recipe.getResult())) {
             return false;
         }
         
-        // Verifica slot de saída principal
-        ItemStack currentOutput = inventory.getStackInSlot(1);
-        if (!currentOutput.isEmpty()) {
-            if (!ItemStack.isSameItemSameComponents(currentOutput, result.mainOutput) ||
-                currentOutput.getCount() + result.mainOutput.getCount() > currentOutput.getMaxStackSize()) {
-                return false;
-            }
-        }
-        
-        // Verifica slot de subproduto
-        if (!result.byproduct.isEmpty()) {
-            ItemStack currentByproduct = inventory.getStackInSlot(2);
-            if (!currentByproduct.isEmpty()) {
-                if (!ItemStack.isSameItemSameComponents(currentByproduct, result.byproduct) ||
-                    currentByproduct.getCount() + result.byproduct.getCount() > currentByproduct.getMaxStackSize()) {
-                    return false;
-                }
-            }
+        // Só o subproduto já sorteado para este ciclo precisa caber (ainda não sorteado: decide no início do ciclo)
+        return !byproductRolled || fits(2, pendingByproduct);
+    }
+    
+    /**
+     * Sorteia o subproduto do ciclo que está começando
+     * 
+     * Uma única vez por ciclo; o resultado fica guardado (e salvo) até a
+     * conclusão, então o ciclo só segura quando o item sorteado não cabe.
+     */
+    private void rollByproduct() {
+        CrushingRecipe recipe = getCrushingRecipe(inventory.getStackInSlot(0));
+        pendingByproduct = recipe != null ? recipe.rollByproduct(level.random) : ItemStack.EMPTY;
+        byproductRolled = true;
+    }
+    
+    /**
+     * Verifica se uma saída cabe em um slot
+     * 
+     * @param slot Slot de saída
+     * @param output Saída pré-calculada (nunca modificada)
+     * @return true se cabe (ou se a saída é vazia)
+     */
+    private boolean fits(int slot, ItemStack output) {
+        if (output.isEmpty()) {
+            return true;
         }
         
-        return true;
+        ItemStack current = inventory.getStackInSlot(slot);
+        return current.isEmpty() ||
+            (ItemStack.isSameItemSameComponents(current, output) &&
+             current.getCount() + output.getCount() <= current.getMaxStackSize());
     }
     
     /**
@@ -167,13 +242,17 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
     
     /**
      * Continua o processo atual
+     * 
+     * @param ticks Ticks a avançar (sem ultrapassar a conclusão)
      */
-    private void continueProcessing() {
-        processProgress++;
+    private void continueProcessing(int ticks) {
+        int from = processProgress;
+        processProgress += ticks;
         
-        // Consome energia gradualmente
-        if (processProgress % 20 == 0) { // A cada segundo
-            consumeEnergy(ENERGY_PER_OPERATION / 10);
+        // Consome energia gradualmente, a cada segundo de progresso
+        int periods = periodsCrossed(from, processProgress, ENERGY_PERIOD);
+        if (periods > 0) {
+            consumeEnergy(periods * (ENERGY_PER_OPERATION / 10));
         }
         
         // Completa o processo quando atinge o tempo necessário
@@ -186,6 +265,12 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
      * Para o processamento atual
      */
     private void stopProcessing() {
+        // Sem entrada, o sorteio guardado não vale mais
+        if (inventory.getStackInSlot(0).isEmpty()) {
+            pendingByproduct = ItemStack.EMPTY;
+            byproductRolled = false;
+        }
+        
         if (isProcessing) {
             isProcessing = false;
             processProgress = 0;
@@ -199,9 +284,9 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
      */
     private void completeProcessing() {
         ItemStack input = inventory.getStackInSlot(0);
-        CrushingResult result = getCrushingResult(input);
+        CrushingRecipe recipe = getCrushingRecipe(input);
         
-        if (result != null) {
+        if (recipe != null) {
             // Consome item de entrada
             input.shrink(1);
             inventory.setStackInSlot(0, input);
@@ -209,25 +294,28 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
             // Produz saída principal
             ItemStack currentOutput = inventory.getStackInSlot(1);
             if (currentOutput.isEmpty()) {
-                inventory.setStackInSlot(1, result.mainOutput.copy());
+                inventory.setStackInSlot(1, recipe.getResult().copy());
             } else {
-                currentOutput.grow(result.mainOutput.getCount());
+                currentOutput.grow(recipe.getResult().getCount());
             }
             
-            // Produz subproduto se houver
-            if (!result.byproduct.isEmpty()) {
+            // Subproduto sorteado no início do ciclo
+            ItemStack byproduct = pendingByproduct;
+            pendingByproduct = ItemStack.EMPTY;
+            byproductRolled = false;
+            if (!byproduct.isEmpty()) {
                 ItemStack currentByproduct = inventory.getStackInSlot(2);
                 if (currentByproduct.isEmpty()) {
-                    inventory.setStackInSlot(2, result.byproduct.copy());
+                    inventory.setStackInSlot(2, byproduct.copy());
                 } else {
-                    currentByproduct.grow(result.byproduct.getCount());
+                    currentByproduct.grow(byproduct.getCount());
                 }
             }
             
-            CronicasAetherium.LOGGER.info("Triturador completou processamento: {} → {} + {}", 
+            CronicasAetherium.LOGGER.debug("Triturador completou processamento: {} → {} + {}", 
                 input.getDisplayName().getString(),
-                result.mainOutput.getDisplayName().getString(),
-                result.byproduct.isEmpty() ? "nada" : result.byproduct.getDisplayName().getString());
+                recipe.getResult().getDisplayName().getString(),
+                byproduct.isEmpty() ? "nada" : byproduct.getDisplayName().getString());
         }
         
         // Reseta para o próximo ciclo
@@ -246,72 +334,43 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
      * @return true se é entrada válida
      */
     private boolean isValidInput(ItemStack stack) {
-        // Por enquanto, apenas minérios básicos
-        return stack.getItem() == Items.COAL_ORE ||
-               stack.getItem() == Items.IRON_ORE ||
-               stack.getItem() == Items.GOLD_ORE ||
-               stack.getItem() == Items.DIAMOND_ORE ||
-               stack.getItem() == Items.DEEPSLATE_COAL_ORE ||
-               stack.getItem() == Items.DEEPSLATE_IRON_ORE ||
-               stack.getItem() == Items.DEEPSLATE_GOLD_ORE ||
-               stack.getItem() == Items.DEEPSLATE_DIAMOND_ORE;
-               // TODO: Adicionar minérios customizados quando implementados
+        if (level == null || stack.isEmpty()) {
+            return false;
+        }
+        
+        // Não altera o cache: hoppers testam itens que nunca chegam a entrar
+        if (lastRecipe != null && lastRecipeManager == level.getRecipeManager() && lastRecipe.value().matches(stack)) {
+            return true;
+        }
+        return level.getRecipeManager()
+            .getRecipeFor(ModRecipeTypes.CRUSHING.get(), new SingleRecipeInput(stack), level)
+            .isPresent();
     }
     
     /**
-     * Obtém o resultado da trituração para um item
+     * Obtém a receita de trituração para um item
+     * 
+     * A última receita encontrada fica guardada: enquanto o triturador
+     * processa o mesmo tipo de minério, a busca no RecipeManager é pulada.
+     * O cache é descartado quando os datapacks são recarregados.
      * 
      * @param input ItemStack de entrada
-     * @return Resultado da trituração ou null se inválido
+     * @return Receita compartilhada (não modificar) ou null se inválido
      */
-    private CrushingResult getCrushingResult(ItemStack input) {
-        // Receitas de trituração com subprodutos
-        if (input.getItem() == Items.COAL_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.COAL, 2), // Saída principal: 2 carvão
-                level.random.nextFloat() < 0.1f ? new ItemStack(Items.DIAMOND) : ItemStack.EMPTY // 10% chance de diamante
-            );
-        } else if (input.getItem() == Items.IRON_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.RAW_IRON, 2), // Saída principal: 2 ferro cru
-                level.random.nextFloat() < 0.15f ? new ItemStack(Items.RAW_GOLD) : ItemStack.EMPTY // 15% chance de ouro cru
-            );
-        } else if (input.getItem() == Items.GOLD_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.RAW_GOLD, 2), // Saída principal: 2 ouro cru
-                level.random.nextFloat() < 0.2f ? new ItemStack(Items.RAW_IRON) : ItemStack.EMPTY // 20% chance de ferro cru
-            );
-        } else if (input.getItem() == Items.DIAMOND_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.DIAMOND, 2), // Saída principal: 2 diamantes
-                level.random.nextFloat() < 0.05f ? new ItemStack(Items.EMERALD) : ItemStack.EMPTY // 5% chance de esmeralda
-            );
+    @Nullable
+    private CrushingRecipe getCrushingRecipe(ItemStack input) {
+        if (level == null || input.isEmpty()) {
+            return null;
         }
         
-        // Versões Deepslate (mesmo resultado, mas com melhor chance de subproduto)
-        if (input.getItem() == Items.DEEPSLATE_COAL_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.COAL, 2),
-                level.random.nextFloat() < 0.15f ? new ItemStack(Items.DIAMOND) : ItemStack.EMPTY // 15% chance (melhor)
-            );
-        } else if (input.getItem() == Items.DEEPSLATE_IRON_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.RAW_IRON, 2),
-                level.random.nextFloat() < 0.2f ? new ItemStack(Items.RAW_GOLD) : ItemStack.EMPTY // 20% chance (melhor)
-            );
-        } else if (input.getItem() == Items.DEEPSLATE_GOLD_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.RAW_GOLD, 2),
-                level.random.nextFloat() < 0.25f ? new ItemStack(Items.RAW_IRON) : ItemStack.EMPTY // 25% chance (melhor)
-            );
-        } else if (input.getItem() == Items.DEEPSLATE_DIAMOND_ORE) {
-            return new CrushingResult(
-                new ItemStack(Items.DIAMOND, 2),
-                level.random.nextFloat() < 0.1f ? new ItemStack(Items.EMERALD) : ItemStack.EMPTY // 10% chance (melhor)
-            );
+        RecipeManager recipes = level.getRecipeManager();
+        if (lastRecipe != null && lastRecipeManager == recipes && lastRecipe.value().matches(input)) {
+            return lastRecipe.value();
         }
         
-        return null; // Item não processável
+        lastRecipe = recipes.getRecipeFor(ModRecipeTypes.CRUSHING.get(), new SingleRecipeInput(input), level).orElse(null);
+        lastRecipeManager = recipes;
+        return lastRecipe != null ? lastRecipe.value() : null;
     }
     
     /**
@@ -320,7 +379,7 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
      * @param amount Quantidade de energia a consumir
      */
     private void consumeEnergy(int amount) {
-        energyStored = Math.max(0, energyStored - amount);
+        energyStorage.removeEnergyDirect(amount);
     }
     
     /**
@@ -330,32 +389,57 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
      * @return Quantidade efetivamente adicionada
      */
     public int addEnergy(int amount) {
-        int addable = Math.min(amount, MAX_ENERGY - energyStored);
-        energyStored += addable;
-        setChanged();
-        return addable;
+        return energyStorage.addEnergyDirect(amount);
+    }
+    
+    /**
+     * Dropa o conteúdo da máquina quando removida
+     */
+    public void dropContents() {
+        if (level != null && !level.isClientSide()) {
+            for (int i = 0; i < inventory.getSlots(); i++) {
+                ItemStack stack = inventory.getStackInSlot(i);
+                if (!stack.isEmpty()) {
+                    net.minecraft.world.Containers.dropItemStack(level, getBlockPos().getX(),
+                        getBlockPos().getY(), getBlockPos().getZ(), stack);
+                }
+            }
+        }
     }
     
     // ================================
     // GETTERS PARA GUI E SINCRONIZAÇÃO
     // ================================
     
-    public int getEnergyStored() { return energyStored; }
+    public int getEnergyStored() { return energyStorage.getEnergyStored(); }
     public int getMaxEnergy() { return MAX_ENERGY; }
+    @Override
+    public ModEnergyStorage getEnergyStorage() { return energyStorage; }
     public int getProcessProgress() { 
         if (!isProcessing) return 0;
         return (processProgress * 100) / PROCESSING_TIME; 
     }
     public boolean isProcessing() { return isProcessing; }
+    @Override
     public ItemStackHandler getInventory() { return inventory; }
     
+    @Override
+    protected int getFirstOutputSlot() { return 1; }
+    
     /**
-     * Sincroniza dados com o cliente
+     * Estado visual enviado aos clientes: apenas se está processando
      */
-    private void syncToClient() {
-        if (level != null && !level.isClientSide()) {
-            // TODO: Implementar sincronização quando necessário
-            // level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 3);
+    @Override
+    protected void writeSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_PROCESSING) != 0) {
+            buf.writeBoolean(isProcessing);
+        }
+    }
+    
+    @Override
+    protected void readSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_PROCESSING) != 0) {
+            isProcessing = buf.readBoolean();
         }
     }
     
@@ -367,9 +451,12 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
         
-        tag.putInt("energy", energyStored);
+        tag.put("energy", energyStorage.serializeNBT(registries));
         tag.putInt("progress", processProgress);
         tag.putBoolean("processing", isProcessing);
+        if (byproductRolled) {
+            tag.put("byproduct", pendingByproduct.saveOptional(registries));
+        }
         tag.put("inventory", inventory.serializeNBT(registries));
     }
     
@@ -377,25 +464,17 @@ public class MechanicalCrusherBlockEntity extends BlockEntity {
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
         
-        energyStored = tag.getInt("energy");
+        if (tag.contains("energy")) {
+            energyStorage.deserializeNBT(registries, tag.get("energy"));
+        }
         processProgress = tag.getInt("progress");
         isProcessing = tag.getBoolean("processing");
+        byproductRolled = tag.contains("byproduct");
+        pendingByproduct = byproductRolled
+            ? ItemStack.parseOptional(registries, tag.getCompound("byproduct")) : ItemStack.EMPTY;
         
         if (tag.contains("inventory")) {
             inventory.deserializeNBT(registries, tag.getCompound("inventory"));
         }
     }
-    
-    /**
-     * Classe interna para representar resultados da trituração
-     */
-    private static class CrushingResult {
-        public final ItemStack mainOutput;
-        public final ItemStack byproduct;
-        
-        public CrushingResult(ItemStack mainOutput, ItemStack byproduct) {
-            this.mainOutput = mainOutput;
-            this.byproduct = byproduct;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,145 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.recipe.CrushingRecipe;
+import com.cronicasaetherium.mod.common.recipe.ModRecipeTypes;
+import com.cronicasaetherium.mod.registry.ModBlocks;
+import com.cronicasaetherium.mod.registry.ModItems;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.SingleRecipeInput;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+import net.neoforged.neoforge.items.ItemStackHandler;
+
+import java.util.List;
+
+/**
+ * GameTests do Triturador Mecânico
+ *
+ * Cobrem o sorteio do subproduto (uma vez por ciclo, sempre uma das
+ * ItemStacks da tabela, sem cópias) e a espera por espaço no slot de
+ * subproduto, que só deve segurar o ciclo quando o item sorteado não cabe.
+ */
+@GameTestHolder(CronicasAetherium.MODID)
+@PrefixGameTestTemplate(false)
+public class MechanicalCrusherTests {
+
+    private static final BlockPos CRUSHER = new BlockPos(1, 1, 1);
+
+    // Tempo de um ciclo (200 ticks) mais a folga do intervalo do agendador
+    private static final int CYCLE_TICKS = 260;
+
+    /**
+     * Mesma semente, mesma sequência; toda saída é uma das ItemStacks da
+     * receita, então as verificações do triturador não alocam
+     */
+    @GameTest(template = "empty")
+    public static void byproductRollIsDeterministic(GameTestHelper helper) {
+        ItemStack gold = new ItemStack(Items.RAW_GOLD);
+        ItemStack tin = new ItemStack(ModItems.RAW_TIN.get());
+        ItemStack result = new ItemStack(Items.RAW_IRON, 2);
+        CrushingRecipe recipe = new CrushingRecipe(Ingredient.of(Items.IRON_ORE), result, 1.0F,
+            List.of(new CrushingRecipe.Byproduct(gold, 3), new CrushingRecipe.Byproduct(tin, 1)));
+
+        RandomSource first = RandomSource.create(42L);
+        RandomSource second = RandomSource.create(42L);
+        int golds = 0;
+        for (int i = 0; i < 4000; i++) {
+            ItemStack rolled = recipe.rollByproduct(first);
+            helper.assertTrue(rolled == gold || rolled == tin, "Subproduto fora da tabela ou copiado");
+            helper.assertTrue(rolled == recipe.rollByproduct(second), "Sorteio diferente com a mesma semente");
+            if (rolled == gold) {
+                golds++;
+            }
+        }
+        // Pesos 3:1
+        helper.assertTrue(golds > 2800 && golds < 3200, "Pesos da tabela ignorados: " + golds + " de 4000");
+
+        // A verificação de espaço do triturador lê esta mesma instância, sem cópia
+        helper.assertTrue(recipe.getResult() == result, "Saída principal copiada pela receita");
+
+        CrushingRecipe never = new CrushingRecipe(Ingredient.of(Items.IRON_ORE), new ItemStack(Items.RAW_IRON, 2), 0.0F,
+            List.of(new CrushingRecipe.Byproduct(gold, 1)));
+        for (int i = 0; i < 100; i++) {
+            helper.assertTrue(never.rollByproduct(first).isEmpty(), "Subproduto com chance zero");
+        }
+
+        helper.succeed();
+    }
+
+    /**
+     * O ciclo que não sorteou subproduto termina mesmo com o slot de
+     * subproduto cheio de outro item
+     */
+    @GameTest(template = "empty", timeoutTicks = CYCLE_TICKS * 2)
+    public static void fullByproductSlotDoesNotBlockEmptyRoll(GameTestHelper helper) {
+        MechanicalCrusherBlockEntity crusher = placeCrusher(helper, ItemStack.EMPTY);
+        ItemStackHandler inventory = crusher.getInventory();
+        inventory.setStackInSlot(2, new ItemStack(Items.COBBLESTONE, 64));
+        inventory.setStackInSlot(0, new ItemStack(Items.COPPER_ORE));
+
+        // Receita carregada do datapack, a mesma que o triturador guarda em cache
+        ItemStack shared = helper.getLevel().getRecipeManager()
+            .getRecipeFor(ModRecipeTypes.CRUSHING.get(), new SingleRecipeInput(new ItemStack(Items.COPPER_ORE)), helper.getLevel())
+            .orElseThrow().value().getResult();
+
+        helper.succeedWhen(() -> {
+            helper.assertTrue(inventory.getStackInSlot(0).isEmpty(), "Minério não foi triturado");
+            helper.assertTrue(inventory.getStackInSlot(1).is(ModItems.RAW_COPPER.get())
+                && inventory.getStackInSlot(1).getCount() == 2, "Saída principal incorreta");
+            helper.assertTrue(inventory.getStackInSlot(2).getCount() == 64, "Slot de subproduto alterado");
+            // A saída é copiada só ao ser produzida; a pilha compartilhada nunca vai para o slot
+            helper.assertTrue(inventory.getStackInSlot(1) != shared && shared.getCount() == 2,
+                "Pilha compartilhada da receita entregue ou alterada");
+        });
+    }
+
+    /**
+     * O ciclo cujo subproduto sorteado não cabe espera o slot liberar e
+     * então entrega exatamente o item sorteado
+     */
+    @GameTest(template = "empty", timeoutTicks = CYCLE_TICKS * 3)
+    public static void rolledByproductWaitsForRoom(GameTestHelper helper) {
+        MechanicalCrusherBlockEntity crusher = placeCrusher(helper, new ItemStack(ModItems.RAW_TIN.get()));
+        ItemStackHandler inventory = crusher.getInventory();
+        inventory.setStackInSlot(2, new ItemStack(Items.COBBLESTONE, 64));
+        inventory.setStackInSlot(0, new ItemStack(Items.COPPER_ORE));
+
+        helper.startSequence()
+            .thenExecuteAfter(CYCLE_TICKS, () -> {
+                helper.assertTrue(inventory.getStackInSlot(0).getCount() == 1, "Ciclo completou sem espaço para o subproduto");
+                helper.assertTrue(inventory.getStackInSlot(1).isEmpty(), "Saída produzida sem espaço para o subproduto");
+                inventory.setStackInSlot(2, ItemStack.EMPTY);
+            })
+            .thenWaitUntil(() -> {
+                helper.assertTrue(inventory.getStackInSlot(1).getCount() == 2, "Saída principal incorreta");
+                helper.assertTrue(inventory.getStackInSlot(2).is(ModItems.RAW_TIN.get())
+                    && inventory.getStackInSlot(2).getCount() == 1, "Subproduto diferente do sorteado");
+            })
+            .thenSucceed();
+    }
+
+    /**
+     * Coloca um triturador com energia de sobra e o subproduto do próximo
+     * ciclo já sorteado
+     */
+    private static MechanicalCrusherBlockEntity placeCrusher(GameTestHelper helper, ItemStack byproduct) {
+        helper.setBlock(CRUSHER, ModBlocks.MECHANICAL_CRUSHER.get());
+        MechanicalCrusherBlockEntity crusher = helper.getBlockEntity(CRUSHER);
+
+        // Mesmo formato do NBT salvo: o sorteio fica fixo em vez de depender do random do mundo
+        CompoundTag tag = new CompoundTag();
+        tag.put("byproduct", byproduct.saveOptional(helper.getLevel().registryAccess()));
+        crusher.loadWithComponents(tag, helper.getLevel().registryAccess());
+
+        crusher.addEnergy(crusher.getMaxEnergy());
+        return crusher;
+    }
+}
@@ -0,0 +1,105 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.common.logistics.DuctNetworkManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.BooleanProperty;
+import net.minecraft.world.phys.BlockHitResult;
+
+/**
+ * Duto Pneumático - Transporte de itens Tier 1
+ *
+ * Assim como o cabo de energia, o duto não possui BlockEntity: ele apenas
+ * avisa o DuctNetworkManager quando muda, e a rede cuida do roteamento.
+ * Um duto em modo de extração puxa itens dos inventários encostados nele
+ * e os envia aos demais inventários da rede.
+ *
+ * Agachar e clicar com a mão vazia alterna o modo de extração.
+ */
+public class PneumaticDuctBlock extends Block {
+
+    public static final BooleanProperty EXTRACT = BooleanProperty.create("extract");
+
+    /**
+     * Construtor do Duto Pneumático
+     */
+    public PneumaticDuctBlock(Properties properties) {
+        super(properties);
+        this.registerDefaultState(this.stateDefinition.any().setValue(EXTRACT, false));
+    }
+
+    @Override
+    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder) {
+        builder.add(EXTRACT);
+    }
+
+    @Override
+    protected InteractionResult useWithoutItem(BlockState state, Level level, BlockPos pos, Player player, BlockHitResult hitResult) {
+        if (!player.isShiftKeyDown()) {
+            return InteractionResult.PASS;
+        }
+        if (level.isClientSide()) {
+            return InteractionResult.SUCCESS;
+        }
+
+        boolean extract = !state.getValue(EXTRACT);
+        level.setBlock(pos, state.setValue(EXTRACT, extract), Block.UPDATE_ALL);
+        if (level instanceof ServerLevel serverLevel) {
+            DuctNetworkManager manager = DuctNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+
+        player.displayClientMessage(Component.literal(extract
+            ? "§6Duto Pneumático: modo de extração"
+            : "§7Duto Pneumático: modo de passagem"), true);
+        return InteractionResult.CONSUME;
+    }
+
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean movedByPiston) {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel && !oldState.is(this)) {
+            DuctNetworkManager manager = DuctNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+    }
+
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (level instanceof ServerLevel serverLevel && !newState.is(this)) {
+            DuctNetworkManager manager = DuctNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onMemberChanged(pos);
+            }
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
+    /**
+     * Atualização de vizinho: pode ser um inventário novo encostado no duto
+     */
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel) {
+            DuctNetworkManager manager = DuctNetworkManager.get(serverLevel);
+            if (manager != null) {
+                manager.onNeighborChanged(pos, neighborPos);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cronicasaetherium.mod.blocks.tech;
+
+import com.cronicasaetherium.mod.common.gui.menu.SteamEngineMenu;
+import com.mojang.serialization.MapCodec;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.SimpleMenuProvider;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+
+/**
+ * Motor a Vapor - Coração do sistema tecnológico Tier 1
+ *
+ * Bloco que hospeda a SteamEngineBlockEntity. Assim como o Triturador,
+ * não possui ticker: o motor é avançado pelo MachineTicker enquanto
+ * queima ou resfria, e adormece quando fica parado e frio.
+ */
+public class SteamEngineBlock extends BaseEntityBlock {
+
+    public static final MapCodec<SteamEngineBlock> CODEC = simpleCodec(SteamEngineBlock::new);
+
+    /**
+     * Construtor do Motor a Vapor
+     */
+    public SteamEngineBlock(Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    protected MapCodec<? extends BaseEntityBlock> codec() {
+        return CODEC;
+    }
+
+    @Override
+    public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new SteamEngineBlockEntity(pos, state);
+    }
+
+    @Override
+    protected RenderShape getRenderShape(BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    /**
+     * Interação do jogador com o motor
+     * Abre a interface do motor (SteamEngineMenu)
+     */
+    @Override
+    protected InteractionResult useWithoutItem(BlockState state, Level level, BlockPos pos, Player player, BlockHitResult hitResult) {
+        if (!level.isClientSide() && player instanceof ServerPlayer serverPlayer
+                && level.getBlockEntity(pos) instanceof SteamEngineBlockEntity engine) {
+            // A posição vai junto para o construtor de rede do menu no cliente
+            serverPlayer.openMenu(new SimpleMenuProvider(
+                (containerId, inventory, opener) -> new SteamEngineMenu(containerId, inventory, engine),
+                getName()), pos);
+            return InteractionResult.CONSUME;
+        }
+
+        return InteractionResult.sidedSuccess(level.isClientSide());
+    }
+
+    /**
+     * Atualização de vizinho: acorda o motor para reavaliar o trabalho
+     */
+    @Override
+    protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+        super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+
+        if (!level.isClientSide() && level.getBlockEntity(pos) instanceof SteamEngineBlockEntity engine) {
+            engine.wake();
+        }
+    }
+
+    /**
+     * Quando o motor é removido, dropa combustível e água
+     */
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston) {
+        if (!state.is(newState.getBlock()) && level.getBlockEntity(pos) instanceof SteamEngineBlockEntity engine) {
+            engine.dropContents();
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+}
@@ -1,15 +1,22 @@
 package com.cronicasaetherium.mod.blocks.tech;
 
 import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.capability.ModEnergyStorage;
+import com.cronicasaetherium.mod.common.machine.MachineBlockEntity;
 import com.cronicasaetherium.mod.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.FluidType;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import net.neoforged.neoforge.fluids.capability.templates.FluidTank;
 import net.neoforged.neoforge.items.ItemStackHandler;
 
 /**
@@ -20,16 +27,20 @@ import net.neoforged.neoforge.items.ItemStackHandler;
  * 
  * Sistemas integrados:
  * - Armazenamento de combustível (slot de entrada)
- * - Tanque de água (sistema de fluidos futuro)
+ * - Tanque de água exposto como IFluidHandler (canos de bronze e bomba manual)
  * - Geração contínua de FE enquanto há combustível e água
  * - Mecânica de aquecimento (tempo para aquecer/esfriar)
  * - Persistência de dados via NBT
  * - Sincronização client-server para efeitos visuais
  * 
+ * Roda pelo MachineTicker: o avanço é calculado em trechos (aquecimento,
+ * queima, até encher a energia ou acabar a água), então recuperar o tempo
+ * em que o chunk ficou descarregado custa o mesmo que alguns ticks.
+ * 
  * Esta BlockEntity serve como fundação para todo o sistema tecnológico,
  * fornecendo energia para Crushers, Furnaces e outras máquinas Tier 1.
  */
-public class SteamEngineBlockEntity extends BlockEntity {
+public class SteamEngineBlockEntity extends MachineBlockEntity {
     
     // Constantes de configuração da máquina
     private static final int MAX_ENERGY = 50000; // Capacidade máxima de energia
@@ -37,22 +48,45 @@ public class SteamEngineBlockEntity extends BlockEntity {
     private static final int FUEL_BURN_TIME = 1600; // Ticks de queima por carvão (80 segundos)
     private static final int WARMUP_TIME = 200; // Ticks para aquecer (10 segundos)
     private static final int COOLDOWN_TIME = 400; // Ticks para esfriar (20 segundos)
+    private static final int WATER_PERIOD = 20; // Ticks entre consumos de água
+    private static final int MAX_EXTRACT = 200; // FE fornecido por tick à rede
+    private static final int WATER_CAPACITY = 4000; // mB de água no tanque interno
     
     // Estado interno da máquina
-    private int energyStored = 0; // Energia atualmente armazenada
     private int fuelBurnTime = 0; // Tempo restante do combustível atual
     private int maxBurnTime = 0; // Tempo total de queima do combustível atual
     private int warmupProgress = 0; // Progresso de aquecimento (0-200)
-    private int waterLevel = 0; // Nível de água (0-1000, futuro sistema de fluidos)
     private boolean isActive = false; // Se o motor está funcionando
     private boolean isWarmedUp = false; // Se o motor está aquecido
     
+    // Campos visuais sincronizados com o cliente (bits de markSync)
+    private static final int SYNC_ACTIVE = 1;
+    private static final int SYNC_WARMED_UP = 1 << 1;
+    
+    // Sistema de energia (apenas fornece FE)
+    private final ModEnergyStorage energyStorage = new ModEnergyStorage(
+        MAX_ENERGY, 0, MAX_EXTRACT,
+        () -> {
+            markDirty();
+            wake(); // Espaço livre permite voltar a gerar
+        }
+    );
+    
+    // Tanque de água (abastecido por canos, bombas ou baldes)
+    private final FluidTank waterTank = new FluidTank(WATER_CAPACITY, stack -> stack.is(Fluids.WATER)) {
+        @Override
+        protected void onContentsChanged() {
+            markDirty();
+            wake(); // Água nova pode religar o motor
+        }
+    };
+    
     // Inventário para combustível
     private final ItemStackHandler inventory = new ItemStackHandler(2) {
         @Override
         protected void onContentsChanged(int slot) {
-            setChanged(); // Marca a BlockEntity como modificada
-            syncToClient(); // Sincroniza com o cliente
+            markDirty(); // Marca a BlockEntity como modificada
+            wake(); // Combustível ou água novos podem religar o motor
         }
         
         @Override
@@ -81,53 +115,79 @@ public class SteamEngineBlockEntity extends BlockEntity {
     }
     
     /**
-     * Método principal de processamento - executado a cada tick
+     * Método principal de processamento - avança o motor pelos ticks decorridos
      * 
      * Gerencia toda a lógica do motor:
      * - Aquecimento/resfriamento
      * - Queima de combustível
      * - Geração de energia
      * - Consumo de água
+     * 
+     * Os ticks são consumidos em trechos nos quais nada muda de forma
+     * descontínua (fim do aquecimento, do combustível, da água ou do espaço
+     * de energia), com o mesmo resultado de avançar tick a tick. Lotes
+     * grandes (chunk recarregado) terminam em poucas iterações, limitadas
+     * pelo combustível disponível.
+     * 
+     * @param ticks Ticks decorridos desde o último avanço
+     * @return true enquanto queima ou resfria; false faz o motor adormecer
      */
-    public void tick() {
-        if (level == null || level.isClientSide()) {
-            return; // Processa apenas no servidor
-        }
-        
+    @Override
+    protected boolean advance(int ticks) {
         boolean wasActive = isActive;
+        boolean wasWarmedUp = isWarmedUp;
+        long time = level.getGameTime() - ticks; // Último tick já simulado
+        int remaining = ticks;
         
-        // Verifica se pode operar (tem combustível e água)
-        if (canOperate()) {
+        while (remaining > 0) {
             // Inicia queima se não há combustível ativo
-            if (fuelBurnTime <= 0) {
+            if (canOperate() && fuelBurnTime <= 0) {
                 startBurning();
             }
             
-            // Processo de aquecimento
+            if (!canOperate() || fuelBurnTime <= 0) {
+                // Para de funcionar e resfria pelo resto do período
+                isActive = false;
+                coolDown(remaining);
+                break;
+            }
+            
+            int step;
             if (!isWarmedUp) {
-                warmUp();
+                // Processo de aquecimento (também consome combustível)
+                step = Math.min(remaining, Math.min(fuelBurnTime, Math.max(1, WARMUP_TIME - warmupProgress)));
+                warmUp(step);
             } else {
                 // Gera energia se aquecido
-                generateEnergy();
+                step = Math.min(remaining, fuelBurnTime);
+                if (!waterTank.isEmpty()) {
+                    step = (int) Math.min(step, Math.min(ticksUntilFull(), ticksUntilDry(time)));
+                    generateEnergy(step, time);
+                }
             }
             
             // Consome combustível
-            if (fuelBurnTime > 0) {
-                fuelBurnTime--;
-                isActive = true;
-            }
-            
-        } else {
-            // Para de funcionar e resfria
-            isActive = false;
-            coolDown();
+            fuelBurnTime -= step;
+            isActive = true;
+            time += step;
+            remaining -= step;
         }
         
         // Sincroniza com cliente se mudou estado
+        int changed = 0;
         if (wasActive != isActive) {
-            setChanged();
-            syncToClient();
+            changed |= SYNC_ACTIVE;
+        }
+        if (wasWarmedUp != isWarmedUp) {
+            changed |= SYNC_WARMED_UP;
         }
+        if (changed != 0) {
+            markSync(changed);
+        }
+        markDirty();
+        
+        // Adormece quando parado e totalmente frio
+        return isActive || warmupProgress > 0;
     }
     
     /**
@@ -140,10 +200,10 @@ public class SteamEngineBlockEntity extends BlockEntity {
         boolean hasFuel = fuelBurnTime > 0 || !inventory.getStackInSlot(0).isEmpty();
         
         // Precisa ter água (simplificado por enquanto)
-        boolean hasWater = waterLevel > 0 || !inventory.getStackInSlot(1).isEmpty();
+        boolean hasWater = !waterTank.isEmpty() || inventory.getStackInSlot(1).is(Items.WATER_BUCKET);
         
         // Precisa ter espaço para energia
-        boolean hasEnergySpace = energyStored < MAX_ENERGY;
+        boolean hasEnergySpace = !energyStorage.isFull();
         
         return hasFuel && hasWater && hasEnergySpace;
     }
@@ -163,36 +223,39 @@ public class SteamEngineBlockEntity extends BlockEntity {
             fuelBurnTime = burnTime;
             maxBurnTime = burnTime;
             
-            // Consome água (simplificado)
+            // Esvazia o balde de água no tanque, se couber
             ItemStack waterStack = inventory.getStackInSlot(1);
-            if (waterStack.getItem() == Items.WATER_BUCKET) {
+            if (waterStack.is(Items.WATER_BUCKET) && waterTank.getSpace() >= FluidType.BUCKET_VOLUME) {
                 inventory.setStackInSlot(1, new ItemStack(Items.BUCKET));
-                waterLevel = 1000; // Adiciona água
+                waterTank.fill(new FluidStack(Fluids.WATER, FluidType.BUCKET_VOLUME), IFluidHandler.FluidAction.EXECUTE);
             }
             
-            CronicasAetherium.LOGGER.info("Motor a Vapor iniciou queima na posição {}", getBlockPos());
+            CronicasAetherium.LOGGER.debug("Motor a Vapor iniciou queima na posição {}", getBlockPos());
         }
     }
     
     /**
      * Processo de aquecimento do motor
+     * 
+     * @param ticks Ticks queimando combustível
      */
-    private void warmUp() {
-        if (fuelBurnTime > 0) {
-            warmupProgress++;
-            if (warmupProgress >= WARMUP_TIME) {
-                isWarmedUp = true;
-                CronicasAetherium.LOGGER.info("Motor a Vapor aqueceu na posição {}", getBlockPos());
-            }
+    private void warmUp(int ticks) {
+        warmupProgress = Math.min(WARMUP_TIME, warmupProgress + ticks);
+        if (warmupProgress >= WARMUP_TIME) {
+            isWarmedUp = true;
+            CronicasAetherium.LOGGER.debug("Motor a Vapor aqueceu na posição {}", getBlockPos());
         }
     }
     
     /**
      * Processo de resfriamento do motor
+     * 
+     * @param ticks Ticks parado
      */
-    private void coolDown() {
+    private void coolDown(int ticks) {
         if (warmupProgress > 0) {
-            warmupProgress = Math.max(0, warmupProgress - 2); // Resfria mais devagar
+            // Resfria mais devagar
+            warmupProgress = (int) Math.max(0, warmupProgress - 2L * ticks);
             if (warmupProgress == 0) {
                 isWarmedUp = false;
             }
@@ -201,19 +264,37 @@ public class SteamEngineBlockEntity extends BlockEntity {
     
     /**
      * Gera energia do motor
+     * 
+     * @param ticks Ticks gerando (nunca além do ponto em que a energia enche ou a água acaba)
+     * @param time Último tick de jogo já simulado
      */
-    private void generateEnergy() {
-        if (isWarmedUp && fuelBurnTime > 0 && waterLevel > 0) {
-            int generated = Math.min(ENERGY_GENERATION, MAX_ENERGY - energyStored);
-            energyStored += generated;
-            
-            // Consome água gradualmente
-            if (level.getGameTime() % 20 == 0) { // A cada segundo
-                waterLevel = Math.max(0, waterLevel - 1);
-            }
+    private void generateEnergy(int ticks, long time) {
+        energyStorage.addEnergyDirect(ticks * ENERGY_GENERATION);
+        
+        // Consome água gradualmente, a cada segundo de jogo
+        int consumed = (int) periodsCrossed(time, time + ticks, WATER_PERIOD);
+        if (consumed > 0) {
+            waterTank.drain(consumed, IFluidHandler.FluidAction.EXECUTE);
         }
     }
     
+    /**
+     * Ticks de geração até a energia encher
+     */
+    private int ticksUntilFull() {
+        return (MAX_ENERGY - energyStorage.getEnergyStored() + ENERGY_GENERATION - 1) / ENERGY_GENERATION;
+    }
+    
+    /**
+     * Ticks até o consumo que zera a água, a partir do tick de jogo informado
+     * 
+     * @param time Último tick de jogo já simulado
+     */
+    private long ticksUntilDry(long time) {
+        long firstConsumption = (Math.floorDiv(time, WATER_PERIOD) + 1) * WATER_PERIOD;
+        return firstConsumption + (long) (waterTank.getFluidAmount() - 1) * WATER_PERIOD - time;
+    }
+    
     /**
      * Verifica se um item é combustível válido
      * 
@@ -251,35 +332,63 @@ public class SteamEngineBlockEntity extends BlockEntity {
      * @return Energia efetivamente extraída
      */
     public int extractEnergy(int maxExtract) {
-        int extracted = Math.min(maxExtract, energyStored);
-        energyStored -= extracted;
-        if (extracted > 0) {
-            setChanged();
+        return energyStorage.extractEnergy(maxExtract, false);
+    }
+    
+    /**
+     * Dropa o conteúdo do motor quando removido
+     */
+    public void dropContents() {
+        if (level != null && !level.isClientSide()) {
+            for (int i = 0; i < inventory.getSlots(); i++) {
+                ItemStack stack = inventory.getStackInSlot(i);
+                if (!stack.isEmpty()) {
+                    net.minecraft.world.Containers.dropItemStack(level, getBlockPos().getX(),
+                        getBlockPos().getY(), getBlockPos().getZ(), stack);
+                }
+            }
         }
-        return extracted;
     }
     
     // ================================
     // GETTERS PARA GUI E SINCRONIZAÇÃO
     // ================================
     
-    public int getEnergyStored() { return energyStored; }
+    public int getEnergyStored() { return energyStorage.getEnergyStored(); }
     public int getMaxEnergy() { return MAX_ENERGY; }
+    @Override
+    public ModEnergyStorage getEnergyStorage() { return energyStorage; }
     public int getFuelBurnTime() { return fuelBurnTime; }
     public int getMaxBurnTime() { return maxBurnTime; }
     public int getWarmupProgress() { return (warmupProgress * 100) / WARMUP_TIME; }
-    public int getWaterLevel() { return waterLevel; }
+    public int getWaterLevel() { return waterTank.getFluidAmount(); }
+    public int getWaterCapacity() { return waterTank.getCapacity(); }
+    public FluidTank getWaterTank() { return waterTank; }
     public boolean isActive() { return isActive; }
     public boolean isWarmedUp() { return isWarmedUp; }
+    @Override
     public ItemStackHandler getInventory() { return inventory; }
     
     /**
-     * Sincroniza dados com o cliente
+     * Estado visual enviado aos clientes: funcionando e aquecido
      */
-    private void syncToClient() {
-        if (level != null && !level.isClientSide()) {
-            // TODO: Implementar sincronização quando necessário
-            // level.sendBlockUpdated(getBlockPos(), getBlockState(), getBlockState(), 3);
+    @Override
+    protected void writeSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_ACTIVE) != 0) {
+            buf.writeBoolean(isActive);
+        }
+        if ((fields & SYNC_WARMED_UP) != 0) {
+            buf.writeBoolean(isWarmedUp);
+        }
+    }
+    
+    @Override
+    protected void readSync(int fields, FriendlyByteBuf buf) {
+        if ((fields & SYNC_ACTIVE) != 0) {
+            isActive = buf.readBoolean();
+        }
+        if ((fields & SYNC_WARMED_UP) != 0) {
+            isWarmedUp = buf.readBoolean();
         }
     }
     
@@ -291,11 +400,11 @@ public class SteamEngineBlockEntity extends BlockEntity {
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.saveAdditional(tag, registries);
         
-        tag.putInt("energy", energyStored);
+        tag.put("energy", energyStorage.serializeNBT(registries));
         tag.putInt("fuel_burn_time", fuelBurnTime);
         tag.putInt("max_burn_time", maxBurnTime);
         tag.putInt("warmup_progress", warmupProgress);
-        tag.putInt("water_level", waterLevel);
+        tag.put("water_tank", waterTank.writeToNBT(registries, new CompoundTag()));
         tag.putBoolean("is_active", isActive);
         tag.putBoolean("is_warmed_up", isWarmedUp);
         tag.put("inventory", inventory.serializeNBT(registries));
@@ -305,11 +414,18 @@ public class SteamEngineBlockEntity extends BlockEntity {
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
         super.loadAdditional(tag, registries);
         
-        energyStored = tag.getInt("energy");
+        if (tag.contains("energy")) {
+            energyStorage.deserializeNBT(registries, tag.get("energy"));
+        }
         fuelBurnTime = tag.getInt("fuel_burn_time");
         maxBurnTime = tag.getInt("max_burn_time");
         warmupProgress = tag.getInt("warmup_progress");
-        waterLevel = tag.getInt("water_level");
+        if (tag.contains("water_tank")) {
+            waterTank.readFromNBT(registries, tag.getCompound("water_tank"));
+        } else if (tag.getInt("water_level") > 0) {
+            // Mundos salvos antes do tanque guardavam só o nível
+            waterTank.setFluid(new FluidStack(Fluids.WATER, tag.getInt("water_level")));
+        }
         isActive = tag.getBoolean("is_active");
         isWarmedUp = tag.getBoolean("is_warmed_up");
         
@@ -0,0 +1,111 @@
+package com.cronicasaetherium.mod.client.gui;
+
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.Slot;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+/**
+ * Base das telas das máquinas Tier 1 - Interface Cliente
+ *
+ * Desenha o painel no estilo dos containers vanilla, a moldura de cada
+ * slot do menu e a barra de energia à direita, sem depender de texturas.
+ * Os valores vêm do MenuSync do menu, então a tela só lê os getters dele.
+ */
+@OnlyIn(Dist.CLIENT)
+public abstract class MachineScreen<M extends AbstractContainerMenu> extends AbstractContainerScreen<M> {
+
+    // Cores no formato ARGB
+    protected static final int PANEL_COLOR = 0xFFC6C6C6;
+    protected static final int LIGHT_EDGE = 0xFFFFFFFF;
+    protected static final int DARK_EDGE = 0xFF555555;
+    protected static final int SLOT_COLOR = 0xFF8B8B8B;
+    protected static final int BAR_BACKGROUND = 0xFF373737;
+
+    // Barra de energia (mesma altura usada por getEnergyBarHeight dos menus)
+    private static final int ENERGY_BAR_X = 152;
+    private static final int ENERGY_BAR_Y = 17;
+    private static final int ENERGY_BAR_WIDTH = 12;
+    private static final int ENERGY_BAR_HEIGHT = 52;
+    private static final int ENERGY_COLOR = 0xFFD83A3A;
+
+    protected MachineScreen(M menu, Inventory inventory, Component title) {
+        super(menu, inventory, title);
+        this.imageWidth = 176;
+        this.imageHeight = 166;
+        this.inventoryLabelY = this.imageHeight - 94;
+    }
+
+    @Override
+    public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+        super.render(guiGraphics, mouseX, mouseY, partialTick);
+        renderTooltip(guiGraphics, mouseX, mouseY);
+
+        if (isHovering(ENERGY_BAR_X, ENERGY_BAR_Y, ENERGY_BAR_WIDTH, ENERGY_BAR_HEIGHT, mouseX, mouseY)) {
+            guiGraphics.renderTooltip(font, Component.translatable("gui.cronicasaetherium.energy",
+                getEnergyStored(), getMaxEnergy()), mouseX, mouseY);
+        }
+    }
+
+    @Override
+    protected void renderBg(GuiGraphics guiGraphics, float partialTick, int mouseX, int mouseY) {
+        // Painel com bordas claras em cima/esquerda e escuras embaixo/direita
+        guiGraphics.fill(leftPos, topPos, leftPos + imageWidth, topPos + imageHeight, DARK_EDGE);
+        guiGraphics.fill(leftPos, topPos, leftPos + imageWidth - 1, topPos + imageHeight - 1, LIGHT_EDGE);
+        guiGraphics.fill(leftPos + 1, topPos + 1, leftPos + imageWidth - 1, topPos + imageHeight - 1, PANEL_COLOR);
+
+        for (Slot slot : menu.slots) {
+            int x = leftPos + slot.x - 1;
+            int y = topPos + slot.y - 1;
+            guiGraphics.fill(x, y, x + 18, y + 18, LIGHT_EDGE);
+            guiGraphics.fill(x, y, x + 17, y + 17, DARK_EDGE);
+            guiGraphics.fill(x + 1, y + 1, x + 17, y + 17, SLOT_COLOR);
+        }
+
+        drawVerticalBar(guiGraphics, ENERGY_BAR_X, ENERGY_BAR_Y, ENERGY_BAR_WIDTH, ENERGY_BAR_HEIGHT,
+            getEnergyBarHeight(), ENERGY_COLOR);
+        renderMachine(guiGraphics);
+    }
+
+    /**
+     * Barra que enche de baixo para cima
+     *
+     * @param x Posição relativa ao painel
+     * @param y Posição relativa ao painel
+     * @param filled Altura preenchida em pixels
+     */
+    protected void drawVerticalBar(GuiGraphics guiGraphics, int x, int y, int width, int height, int filled, int color) {
+        guiGraphics.fill(leftPos + x, topPos + y, leftPos + x + width, topPos + y + height, BAR_BACKGROUND);
+        if (filled > 0) {
+            int top = topPos + y + height - Math.min(filled, height);
+            guiGraphics.fill(leftPos + x, top, leftPos + x + width, topPos + y + height, color);
+        }
+    }
+
+    /**
+     * Barra que enche da esquerda para a direita (setas de progresso)
+     *
+     * @param filled Largura preenchida em pixels
+     */
+    protected void drawHorizontalBar(GuiGraphics guiGraphics, int x, int y, int width, int height, int filled, int color) {
+        guiGraphics.fill(leftPos + x, topPos + y, leftPos + x + width, topPos + y + height, BAR_BACKGROUND);
+        if (filled > 0) {
+            guiGraphics.fill(leftPos + x, topPos + y, leftPos + x + Math.min(filled, width), topPos + y + height, color);
+        }
+    }
+
+    /**
+     * Indicadores próprios de cada máquina, desenhados sobre o painel
+     */
+    protected abstract void renderMachine(GuiGraphics guiGraphics);
+
+    protected abstract int getEnergyStored();
+
+    protected abstract int getMaxEnergy();
+
+    protected abstract int getEnergyBarHeight();
+}
@@ -0,0 +1,50 @@
+package com.cronicasaetherium.mod.client.gui;
+
+import com.cronicasaetherium.mod.common.gui.menu.MechanicalCrusherMenu;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Inventory;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+/**
+ * Tela do Triturador Mecânico - Interface Cliente
+ *
+ * Entrada à esquerda, saída principal e subproduto à direita, seta de
+ * progresso entre elas e barra de energia.
+ */
+@OnlyIn(Dist.CLIENT)
+public class MechanicalCrusherScreen extends MachineScreen<MechanicalCrusherMenu> {
+
+    // Seta de progresso entre a entrada e as saídas
+    private static final int PROGRESS_X = 79;
+    private static final int PROGRESS_Y = 35;
+    private static final int PROGRESS_WIDTH = 24;
+    private static final int PROGRESS_HEIGHT = 16;
+    private static final int PROGRESS_COLOR = 0xFFF2F2F2;
+
+    public MechanicalCrusherScreen(MechanicalCrusherMenu menu, Inventory inventory, Component title) {
+        super(menu, inventory, title);
+    }
+
+    @Override
+    protected void renderMachine(GuiGraphics guiGraphics) {
+        drawHorizontalBar(guiGraphics, PROGRESS_X, PROGRESS_Y, PROGRESS_WIDTH, PROGRESS_HEIGHT,
+            menu.getProgressArrowWidth(), PROGRESS_COLOR);
+    }
+
+    @Override
+    protected int getEnergyStored() {
+        return menu.getEnergyStored();
+    }
+
+    @Override
+    protected int getMaxEnergy() {
+        return menu.getMaxEnergy();
+    }
+
+    @Override
+    protected int getEnergyBarHeight() {
+        return menu.getEnergyBarHeight();
+    }
+}
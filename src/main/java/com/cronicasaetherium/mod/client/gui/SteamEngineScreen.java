@@ -0,0 +1,74 @@
+package com.cronicasaetherium.mod.client.gui;
+
+import com.cronicasaetherium.mod.common.gui.menu.SteamEngineMenu;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.player.Inventory;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+/**
+ * Tela do Motor a Vapor - Interface Cliente
+ *
+ * Slots de combustível e de água à esquerda, indicador de queima,
+ * aquecimento e nível do tanque de água, e barra de energia.
+ */
+@OnlyIn(Dist.CLIENT)
+public class SteamEngineScreen extends MachineScreen<SteamEngineMenu> {
+
+    // Queima do combustível (altura máxima de getFuelBarHeight)
+    private static final int FUEL_X = 80;
+    private static final int FUEL_Y = 36;
+    private static final int FUEL_SIZE = 14;
+    private static final int FUEL_COLOR = 0xFFF0A020;
+
+    // Aquecimento da caldeira (altura máxima de getWarmupBarHeight)
+    private static final int WARMUP_X = 104;
+    private static final int WARMUP_Y = 31;
+    private static final int WARMUP_WIDTH = 6;
+    private static final int WARMUP_HEIGHT = 24;
+    private static final int WARMUP_COLOR = 0xFFE05020;
+
+    // Tanque de água (altura máxima de getWaterBarHeight)
+    private static final int WATER_X = 124;
+    private static final int WATER_Y = 27;
+    private static final int WATER_WIDTH = 12;
+    private static final int WATER_HEIGHT = 32;
+    private static final int WATER_COLOR = 0xFF3F76E4;
+
+    public SteamEngineScreen(SteamEngineMenu menu, Inventory inventory, Component title) {
+        super(menu, inventory, title);
+    }
+
+    @Override
+    public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
+        super.render(guiGraphics, mouseX, mouseY, partialTick);
+
+        if (isHovering(WATER_X, WATER_Y, WATER_WIDTH, WATER_HEIGHT, mouseX, mouseY)) {
+            guiGraphics.renderTooltip(font, Component.literal(
+                menu.getWaterLevel() + "/" + menu.getWaterCapacity() + " mB"), mouseX, mouseY);
+        }
+    }
+
+    @Override
+    protected void renderMachine(GuiGraphics guiGraphics) {
+        drawVerticalBar(guiGraphics, FUEL_X, FUEL_Y, FUEL_SIZE, FUEL_SIZE, menu.getFuelBarHeight(), FUEL_COLOR);
+        drawVerticalBar(guiGraphics, WARMUP_X, WARMUP_Y, WARMUP_WIDTH, WARMUP_HEIGHT, menu.getWarmupBarHeight(), WARMUP_COLOR);
+        drawVerticalBar(guiGraphics, WATER_X, WATER_Y, WATER_WIDTH, WATER_HEIGHT, menu.getWaterBarHeight(), WATER_COLOR);
+    }
+
+    @Override
+    protected int getEnergyStored() {
+        return menu.getEnergyStored();
+    }
+
+    @Override
+    protected int getMaxEnergy() {
+        return menu.getMaxEnergy();
+    }
+
+    @Override
+    protected int getEnergyBarHeight() {
+        return menu.getEnergyBarHeight();
+    }
+}
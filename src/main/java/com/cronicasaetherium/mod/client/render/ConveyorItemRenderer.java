@@ -0,0 +1,167 @@
+package com.cronicasaetherium.mod.client.render;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.logistics.BeltLine;
+import com.cronicasaetherium.mod.common.network.BeltLinePayload;
+import com.mojang.blaze3d.vertex.PoseStack;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+/**
+ * Renderizador dos itens sobre as esteiras transportadoras
+ *
+ * Guarda no cliente as linhas recebidas em BeltLinePayload e as avança a
+ * cada tick com a mesma regra do servidor (BeltLine.step), então o
+ * servidor só precisa enviar algo quando um item entra ou sai de uma
+ * linha. Os itens são desenhados interpolando entre o tick anterior e o
+ * atual.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID, value = Dist.CLIENT)
+public class ConveyorItemRenderer {
+
+    // Distância máxima (em blocos) em que os itens são desenhados
+    private static final double MAX_RENDER_DISTANCE = 48.0;
+    private static final double MAX_RENDER_DISTANCE_SQR = MAX_RENDER_DISTANCE * MAX_RENDER_DISTANCE;
+
+    // Altura dos itens acima da base da esteira
+    private static final double ITEM_HEIGHT = 0.25;
+
+    private static final Int2ObjectOpenHashMap<ClientLine> LINES = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Aplica um pacote recebido do servidor (thread principal do cliente)
+     *
+     * @param payload Estado da linha
+     */
+    public static void handle(BeltLinePayload payload) {
+        if (payload.isRemoval()) {
+            LINES.remove(payload.id());
+        } else {
+            LINES.put(payload.id(), new ClientLine(payload));
+        }
+    }
+
+    /**
+     * Avança os itens de todas as linhas, como o servidor faz
+     */
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event) {
+        Minecraft minecraft = Minecraft.getInstance();
+        if (LINES.isEmpty() || minecraft.level == null || minecraft.isPaused()) {
+            return;
+        }
+
+        for (ClientLine line : LINES.values()) {
+            System.arraycopy(line.offsets, 0, line.previous, 0, line.offsets.length);
+            BeltLine.step(line.offsets, line.offsets.length, line.length * BeltLine.STEPS_PER_BELT);
+        }
+    }
+
+    /**
+     * Desenha os itens próximos de todas as linhas
+     */
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_ENTITIES || LINES.isEmpty()) {
+            return;
+        }
+
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level == null) {
+            return;
+        }
+
+        Vec3 camera = event.getCamera().getPosition();
+        float partialTick = event.getPartialTick().getGameTimeDeltaPartialTick(false);
+        PoseStack poseStack = event.getPoseStack();
+        MultiBufferSource.BufferSource buffers = minecraft.renderBuffers().bufferSource();
+        ItemRenderer itemRenderer = minecraft.getItemRenderer();
+        BlockPos.MutableBlockPos lightPos = new BlockPos.MutableBlockPos();
+
+        for (ClientLine line : LINES.values()) {
+            for (int i = 0; i < line.stacks.length; i++) {
+                double along = Mth.lerp(partialTick, line.previous[i], line.offsets[i]) / BeltLine.STEPS_PER_BELT - 0.5;
+                double x = line.headX + 0.5 + line.facing.getStepX() * along;
+                double y = line.headY + ITEM_HEIGHT;
+                double z = line.headZ + 0.5 + line.facing.getStepZ() * along;
+                if (camera.distanceToSqr(x, y, z) > MAX_RENDER_DISTANCE_SQR) {
+                    continue;
+                }
+
+                lightPos.set(x, y, z);
+                poseStack.pushPose();
+                poseStack.translate(x - camera.x, y - camera.y, z - camera.z);
+                itemRenderer.renderStatic(line.stacks[i], ItemDisplayContext.GROUND,
+                    LevelRenderer.getLightColor(minecraft.level, lightPos), OverlayTexture.NO_OVERLAY,
+                    poseStack, buffers, minecraft.level, line.id + i);
+                poseStack.popPose();
+            }
+        }
+
+        buffers.endBatch();
+    }
+
+    /**
+     * Descarta as linhas quando o mundo do cliente é trocado (mudança de
+     * dimensão), já que o servidor não envia a remoção delas
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel().isClientSide()) {
+            LINES.clear();
+        }
+    }
+
+    /**
+     * Descarta as linhas ao sair do servidor
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        LINES.clear();
+    }
+
+    /**
+     * Cópia local de uma linha, animada pelo cliente
+     */
+    private static final class ClientLine {
+        final int id;
+        final int headX;
+        final int headY;
+        final int headZ;
+        final Direction facing;
+        final int length;
+        final ItemStack[] stacks;
+        final int[] offsets;
+        final int[] previous;
+
+        ClientLine(BeltLinePayload payload) {
+            BlockPos head = BlockPos.of(payload.head());
+            this.id = payload.id();
+            this.headX = head.getX();
+            this.headY = head.getY();
+            this.headZ = head.getZ();
+            this.facing = payload.facing();
+            this.length = payload.length();
+            this.stacks = payload.stacks();
+            this.offsets = payload.offsets().clone();
+            this.previous = payload.offsets().clone();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.cronicasaetherium.mod.client.render;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.network.OreHighlightPayload;
+import com.cronicasaetherium.mod.common.ritual.VeinRitualEffect;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.MeshData;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2ByteMap;
+import it.unimi.dsi.fastutil.shorts.Short2ByteOpenHashMap;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
+
+/**
+ * Renderizador do destaque de minérios do Ritual da Veia Oculta
+ *
+ * Mantém no cliente os minérios recebidos do servidor, organizados por
+ * seção, e aplica os deltas de cada OreHighlightPayload. Todos os
+ * contornos visíveis são desenhados em um único lote de linhas por
+ * frame, sem teste de profundidade, para que apareçam através das paredes.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID, value = Dist.CLIENT)
+public class OreHighlightRenderer {
+
+    // Distância máxima (em blocos) em que os contornos são desenhados
+    private static final double MAX_RENDER_DISTANCE = 48.0;
+    private static final double MAX_RENDER_DISTANCE_SQR = MAX_RENDER_DISTANCE * MAX_RENDER_DISTANCE;
+
+    // Raio da esfera que envolve uma seção 16x16x16 (metade da diagonal)
+    private static final double SECTION_RADIUS = 8.0 * Math.sqrt(3.0);
+
+    // Minérios destacados por seção: índice local -> tipo
+    private static final Long2ObjectMap<Short2ByteOpenHashMap> SECTIONS = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Aplica um pacote recebido do servidor (thread principal do cliente)
+     *
+     * @param payload Delta de destaques
+     */
+    public static void handle(OreHighlightPayload payload) {
+        if (payload.reset()) {
+            SECTIONS.clear();
+        }
+
+        for (long key : payload.clearedSections()) {
+            SECTIONS.remove(key);
+        }
+
+        for (OreHighlightPayload.SectionDelta delta : payload.deltas()) {
+            Short2ByteOpenHashMap ores = SECTIONS.get(delta.sectionKey());
+            if (ores == null) {
+                ores = new Short2ByteOpenHashMap();
+                SECTIONS.put(delta.sectionKey(), ores);
+            }
+
+            for (short local : delta.removed()) {
+                ores.remove(local);
+            }
+            for (int i = 0; i < delta.added().length; i++) {
+                ores.put(delta.added()[i], delta.addedTypes()[i]);
+            }
+
+            if (ores.isEmpty()) {
+                SECTIONS.remove(delta.sectionKey());
+            }
+        }
+    }
+
+    /**
+     * Desenha os contornos de todos os minérios próximos em um único lote
+     */
+    @SubscribeEvent
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS || SECTIONS.isEmpty()) {
+            return;
+        }
+
+        Vec3 camera = event.getCamera().getPosition();
+        PoseStack poseStack = event.getPoseStack();
+        poseStack.pushPose();
+        poseStack.translate(-camera.x, -camera.y, -camera.z);
+
+        BufferBuilder buffer = Tesselator.getInstance().begin(VertexFormat.Mode.LINES, DefaultVertexFormat.POSITION_COLOR_NORMAL);
+        boolean any = false;
+
+        for (Long2ObjectMap.Entry<Short2ByteOpenHashMap> entry : SECTIONS.long2ObjectEntrySet()) {
+            long key = entry.getLongKey();
+            int originX = SectionPos.sectionToBlockCoord(SectionPos.x(key));
+            int originY = SectionPos.sectionToBlockCoord(SectionPos.y(key));
+            int originZ = SectionPos.sectionToBlockCoord(SectionPos.z(key));
+
+            // Descarta a seção inteira se nenhum bloco dela pode estar no alcance
+            double sectionDistance = Math.sqrt(camera.distanceToSqr(originX + 8.0, originY + 8.0, originZ + 8.0));
+            if (sectionDistance - SECTION_RADIUS > MAX_RENDER_DISTANCE) {
+                continue;
+            }
+
+            for (Short2ByteMap.Entry ore : entry.getValue().short2ByteEntrySet()) {
+                short local = ore.getShortKey();
+                int x = originX + (local & 15);
+                int y = originY + ((local >> 8) & 15);
+                int z = originZ + ((local >> 4) & 15);
+                if (camera.distanceToSqr(x + 0.5, y + 0.5, z + 0.5) > MAX_RENDER_DISTANCE_SQR) {
+                    continue;
+                }
+
+                int color = VeinRitualEffect.OreType.VALUES[ore.getByteValue()].getColor();
+                LevelRenderer.renderLineBox(poseStack, buffer,
+                    x, y, z, x + 1, y + 1, z + 1,
+                    ((color >> 16) & 0xFF) / 255.0F, ((color >> 8) & 0xFF) / 255.0F, (color & 0xFF) / 255.0F, 1.0F);
+                any = true;
+            }
+        }
+
+        poseStack.popPose();
+
+        MeshData mesh = buffer.build();
+        if (!any || mesh == null) {
+            return;
+        }
+
+        // Sem teste de profundidade: os minérios aparecem através das paredes
+        RenderSystem.setShader(GameRenderer::getRendertypeLinesShader);
+        RenderSystem.lineWidth(2.0F);
+        RenderSystem.disableDepthTest();
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        BufferUploader.drawWithShader(mesh);
+        RenderSystem.enableDepthTest();
+        RenderSystem.disableBlend();
+        RenderSystem.lineWidth(1.0F);
+    }
+
+    /**
+     * Descarta os destaques ao sair do servidor
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        SECTIONS.clear();
+    }
+}
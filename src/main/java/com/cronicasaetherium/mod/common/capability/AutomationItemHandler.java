@@ -0,0 +1,77 @@
+package com.cronicasaetherium.mod.common.capability;
+
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+
+/**
+ * Visão de um inventário de máquina exposta para automação (dutos, funis)
+ *
+ * O inventário interno continua sem restrições para a própria máquina e
+ * para os slots do menu; esta visão apenas impede que a automação retire
+ * itens dos slots de entrada. A validação de inserção continua sendo a do
+ * inventário original (isItemValid).
+ *
+ * Os modos (SideConfig.ITEM_IN / ITEM_OUT) restringem ainda mais a visão
+ * conforme a configuração do lado por onde ela foi obtida.
+ */
+public class AutomationItemHandler implements IItemHandler {
+
+    private final IItemHandler inventory;
+    private final int firstOutput;
+    private final int modes;
+
+    /**
+     * @param inventory Inventário da máquina
+     * @param firstOutput Primeiro slot de saída; slots anteriores não permitem extração
+     */
+    public AutomationItemHandler(IItemHandler inventory, int firstOutput) {
+        this(inventory, firstOutput, SideConfig.ITEMS);
+    }
+
+    /**
+     * @param inventory Inventário da máquina
+     * @param firstOutput Primeiro slot de saída; slots anteriores não permitem extração
+     * @param modes SideConfig.ITEM_IN e/ou SideConfig.ITEM_OUT
+     */
+    public AutomationItemHandler(IItemHandler inventory, int firstOutput, int modes) {
+        this.inventory = inventory;
+        this.firstOutput = firstOutput;
+        this.modes = modes;
+    }
+
+    @Override
+    public int getSlots() {
+        return inventory.getSlots();
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return inventory.getStackInSlot(slot);
+    }
+
+    @Override
+    public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
+        if ((modes & SideConfig.ITEM_IN) == 0 || !inventory.isItemValid(slot, stack)) {
+            return stack;
+        }
+        return inventory.insertItem(slot, stack, simulate);
+    }
+
+    @Override
+    public ItemStack extractItem(int slot, int amount, boolean simulate) {
+        if (slot < firstOutput || (modes & SideConfig.ITEM_OUT) == 0) {
+            return ItemStack.EMPTY; // Entradas não saem por automação
+        }
+        return inventory.extractItem(slot, amount, simulate);
+    }
+
+    @Override
+    public int getSlotLimit(int slot) {
+        return inventory.getSlotLimit(slot);
+    }
+
+    @Override
+    public boolean isItemValid(int slot, ItemStack stack) {
+        return inventory.isItemValid(slot, stack);
+    }
+}
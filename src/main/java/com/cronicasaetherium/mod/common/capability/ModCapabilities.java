@@ -1,9 +1,16 @@
 package com.cronicasaetherium.mod.common.capability;
 
 import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.fluid.PipeNetworkManager;
+import com.cronicasaetherium.mod.common.logistics.ConveyorManager;
+import com.cronicasaetherium.mod.registry.ModAttachmentTypes;
+import com.cronicasaetherium.mod.registry.ModBlockEntities;
+import com.cronicasaetherium.mod.registry.ModBlocks;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
@@ -12,13 +19,13 @@ import net.neoforged.neoforge.capabilities.EntityCapability;
 import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
-import org.jetbrains.annotations.Nullable;
 
 /**
  * Registro central e gerenciamento das capacidades personalizadas do mod
  * 
  * Esta classe é responsável por:
  * - Registrar as capacidades customizadas (PlayerProficiency)
+ * - Expor as capabilities de energia, fluido e itens das máquinas e canos
  * - Gerenciar a anexação das capacidades às entidades apropriadas
  * - Lidar com eventos de persistência (morte, clone, etc.)
  * - Fornecer métodos de acesso convenientes para outras classes
@@ -33,8 +40,10 @@ public class ModCapabilities {
     /**
      * Capacidade de proficiência do jogador
      * 
-     * Esta capacidade é anexada apenas a jogadores (Player entities)
+     * Esta capacidade é exposta apenas para jogadores (Player entities)
      * e armazena informações sobre suas proficiências em engenharia e arcana.
+     * Os dados vivem no attachment ModAttachmentTypes.PLAYER_PROFICIENCY;
+     * a capability apenas o devolve, para outros mods.
      * 
      * ResourceLocation: cronicasaetherium:player_proficiency
      */
@@ -55,28 +64,59 @@ public class ModCapabilities {
      */
     @SubscribeEvent
     public static void registerCapabilities(RegisterCapabilitiesEvent event) {
-        // Registra a capacidade de proficiência para jogadores
+        // Registra a capacidade de proficiência para jogadores (o próprio attachment salvo)
         event.registerEntity(
             PLAYER_PROFICIENCY,
-            Player.class,
-            (player, context) -> new PlayerProficiency()
+            EntityType.PLAYER,
+            (player, context) -> player.getData(ModAttachmentTypes.PLAYER_PROFICIENCY)
         );
         
+        // Expõe a energia das máquinas para redes de energia e outros mods (conforme o lado)
+        event.registerBlockEntity(Capabilities.EnergyStorage.BLOCK, ModBlockEntities.STEAM_ENGINE.get(),
+            (engine, side) -> engine.getEnergyHandler(side));
+        event.registerBlockEntity(Capabilities.EnergyStorage.BLOCK, ModBlockEntities.MECHANICAL_CRUSHER.get(),
+            (crusher, side) -> crusher.getEnergyHandler(side));
+        event.registerBlockEntity(Capabilities.EnergyStorage.BLOCK, ModBlockEntities.SPIRIT_CENTRIFUGE.get(),
+            (centrifuge, side) -> centrifuge.getEnergyHandler(side));
+        event.registerBlockEntity(Capabilities.EnergyStorage.BLOCK, ModBlockEntities.MANA_INFUSER.get(),
+            (infuser, side) -> infuser.getEnergyHandler(side));
+        
+        // Tanque de água do motor e tanques compartilhados dos segmentos de canos
+        event.registerBlockEntity(Capabilities.FluidHandler.BLOCK, ModBlockEntities.STEAM_ENGINE.get(),
+            (engine, side) -> engine.getWaterTank());
+        event.registerBlock(Capabilities.FluidHandler.BLOCK,
+            (level, pos, state, blockEntity, side) -> level instanceof ServerLevel serverLevel
+                && PipeNetworkManager.get(serverLevel) instanceof PipeNetworkManager manager
+                ? manager.getHandler(pos) : null,
+            ModBlocks.BRONZE_PIPE.get());
+        
+        // Inventários das máquinas (conforme o lado) e entrada das esteiras para dutos pneumáticos e funis
+        event.registerBlockEntity(Capabilities.ItemHandler.BLOCK, ModBlockEntities.MECHANICAL_CRUSHER.get(),
+            (crusher, side) -> crusher.getItemHandler(side));
+        event.registerBlockEntity(Capabilities.ItemHandler.BLOCK, ModBlockEntities.SPIRIT_CENTRIFUGE.get(),
+            (centrifuge, side) -> centrifuge.getItemHandler(side));
+        event.registerBlockEntity(Capabilities.ItemHandler.BLOCK, ModBlockEntities.STEAM_ENGINE.get(),
+            (engine, side) -> engine.getItemHandler(side));
+        event.registerBlock(Capabilities.ItemHandler.BLOCK,
+            (level, pos, state, blockEntity, side) -> level instanceof ServerLevel serverLevel
+                && ConveyorManager.get(serverLevel) instanceof ConveyorManager manager
+                ? manager.getHandler(pos) : null,
+            ModBlocks.CONVEYOR_BELT.get());
+        
         CronicasAetherium.LOGGER.info("Capacidades do mod registradas com sucesso");
     }
     
     /**
      * Método utilitário para obter a capacidade de proficiência de um jogador
      * 
-     * Este método fornece uma forma conveniente e segura de acessar a
-     * capacidade de proficiência de um jogador, com verificação de nulidade.
+     * Lê o attachment diretamente: sem passar pelo sistema de capabilities
+     * e sem alocar (a instância é criada uma única vez por jogador).
      * 
      * @param player Jogador do qual obter a capacidade
-     * @return Capacidade de proficiência ou null se não estiver disponível
+     * @return Proficiências do jogador (nunca null)
      */
-    @Nullable
     public static PlayerProficiency getPlayerProficiency(Player player) {
-        return player.getCapability(PLAYER_PROFICIENCY);
+        return player.getData(ModAttachmentTypes.PLAYER_PROFICIENCY);
     }
     
     /**
@@ -135,14 +175,11 @@ class CapabilityEventHandler {
             PlayerProficiency oldProficiency = ModCapabilities.getPlayerProficiency(oldPlayer);
             PlayerProficiency newProficiency = ModCapabilities.getPlayerProficiency(newPlayer);
             
-            // Copia os dados se ambas as capacidades existirem
-            if (oldProficiency != null && newProficiency != null) {
-                newProficiency.setEngineeringXp(oldProficiency.getEngineeringXp());
-                newProficiency.setArcanaXp(oldProficiency.getArcanaXp());
-                
-                CronicasAetherium.LOGGER.debug("Dados de proficiência copiados para o jogador {}: {}", 
-                    newPlayer.getName().getString(), newProficiency.toString());
-            }
+            // Attachments não são copiados na morte automaticamente
+            newProficiency.copyFrom(oldProficiency);
+            
+            CronicasAetherium.LOGGER.debug("Dados de proficiência copiados para o jogador {}: {}", 
+                newPlayer.getName().getString(), newProficiency);
         }
     }
     
@@ -162,13 +199,8 @@ class CapabilityEventHandler {
         if (entity instanceof Player player && !event.getLevel().isClientSide()) {
             PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
             
-            if (proficiency != null) {
-                CronicasAetherium.LOGGER.debug("Jogador {} entrou no mundo com proficiências: {}", 
-                    player.getName().getString(), proficiency.toString());
-            } else {
-                CronicasAetherium.LOGGER.warn("Jogador {} entrou no mundo sem capacidade de proficiência!", 
-                    player.getName().getString());
-            }
+            CronicasAetherium.LOGGER.debug("Jogador {} entrou no mundo com proficiências: {}", 
+                player.getName().getString(), proficiency);
         }
     }
 }
\ No newline at end of file
@@ -1,21 +1,34 @@
 package com.cronicasaetherium.mod.common.capability;
 
-import net.neoforged.neoforge.energy.EnergyStorage;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.Tag;
+import net.neoforged.neoforge.common.util.INBTSerializable;
+import net.neoforged.neoforge.energy.IEnergyStorage;
 
 /**
  * Implementação customizada de armazenamento de energia para as máquinas do mod
  * 
- * Esta classe extends EnergyStorage do NeoForge para fornecer funcionalidades
- * específicas das nossas máquinas, incluindo callbacks de mudança de estado.
+ * A energia é guardada em long, então bancos de baterias podem passar de
+ * Integer.MAX_VALUE sem estourar; para o resto do jogo (e outros mods) a
+ * classe continua sendo um IEnergyStorage comum, com os valores limitados
+ * ao alcance de int. Todas as contas de espaço livre são feitas por
+ * subtração, sem risco de overflow.
  * 
  * Funcionalidades:
  * - Armazenamento configurável de Forge Energy (FE)
  * - Callbacks quando energia é adicionada/removida
  * - Controle de taxa de entrada/saída
+ * - Transferência em lote de várias fontes com um único callback
  * - Compatibilidade completa com outros mods de energia
  */
-public class ModEnergyStorage extends EnergyStorage {
+public class ModEnergyStorage implements IEnergyStorage, INBTSerializable<Tag> {
     
+    protected long energy;
+    protected final long capacity;
+    protected final long maxReceive;
+    protected final long maxExtract;
     private final Runnable onEnergyChanged;
     
     /**
@@ -25,9 +38,8 @@ public class ModEnergyStorage extends EnergyStorage {
      * @param maxReceive Taxa máxima de recepção por tick
      * @param onEnergyChanged Callback executado quando energia muda
      */
-    public ModEnergyStorage(int capacity, int maxReceive, Runnable onEnergyChanged) {
-        super(capacity, maxReceive, 0); // Apenas recebe energia
-        this.onEnergyChanged = onEnergyChanged;
+    public ModEnergyStorage(long capacity, long maxReceive, Runnable onEnergyChanged) {
+        this(capacity, maxReceive, 0, 0, onEnergyChanged); // Apenas recebe energia
     }
     
     /**
@@ -38,9 +50,8 @@ public class ModEnergyStorage extends EnergyStorage {
      * @param maxExtract Taxa máxima de extração por tick
      * @param onEnergyChanged Callback executado quando energia muda
      */
-    public ModEnergyStorage(int capacity, int maxReceive, int maxExtract, Runnable onEnergyChanged) {
-        super(capacity, maxReceive, maxExtract);
-        this.onEnergyChanged = onEnergyChanged;
+    public ModEnergyStorage(long capacity, long maxReceive, long maxExtract, Runnable onEnergyChanged) {
+        this(capacity, maxReceive, maxExtract, 0, onEnergyChanged);
     }
     
     /**
@@ -52,39 +63,149 @@ public class ModEnergyStorage extends EnergyStorage {
      * @param energy Energia inicial
      * @param onEnergyChanged Callback executado quando energia muda
      */
-    public ModEnergyStorage(int capacity, int maxReceive, int maxExtract, int energy, Runnable onEnergyChanged) {
-        super(capacity, maxReceive, maxExtract, energy);
+    public ModEnergyStorage(long capacity, long maxReceive, long maxExtract, long energy, Runnable onEnergyChanged) {
+        this.capacity = Math.max(0, capacity);
+        this.maxReceive = Math.max(0, maxReceive);
+        this.maxExtract = Math.max(0, maxExtract);
+        this.energy = Math.max(0, Math.min(energy, this.capacity));
         this.onEnergyChanged = onEnergyChanged;
     }
     
-    @Override
-    public int receiveEnergy(int maxReceive, boolean simulate) {
-        int received = super.receiveEnergy(maxReceive, simulate);
-        if (!simulate && received > 0 && onEnergyChanged != null) {
+    private void changed() {
+        if (onEnergyChanged != null) {
             onEnergyChanged.run();
         }
-        return received;
+    }
+    
+    // ===== Visão int (IEnergyStorage) =====
+    
+    @Override
+    public int receiveEnergy(int maxReceive, boolean simulate) {
+        return (int) receive(maxReceive, simulate);
     }
     
     @Override
     public int extractEnergy(int maxExtract, boolean simulate) {
-        int extracted = super.extractEnergy(maxExtract, simulate);
-        if (!simulate && extracted > 0 && onEnergyChanged != null) {
-            onEnergyChanged.run();
+        return (int) extract(maxExtract, simulate);
+    }
+    
+    @Override
+    public int getEnergyStored() {
+        return (int) Math.min(energy, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public int getMaxEnergyStored() {
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    public boolean canExtract() {
+        return maxExtract > 0;
+    }
+    
+    @Override
+    public boolean canReceive() {
+        return maxReceive > 0;
+    }
+    
+    // ===== API long =====
+    
+    /**
+     * Recebe energia respeitando a taxa máxima de recepção
+     * 
+     * @param amount Quantidade oferecida
+     * @param simulate Se true, apenas calcula
+     * @return Quantidade aceita
+     */
+    public long receive(long amount, boolean simulate) {
+        if (amount <= 0 || !canReceive()) {
+            return 0;
+        }
+        long received = Math.min(capacity - energy, Math.min(maxReceive, amount));
+        if (!simulate && received > 0) {
+            energy += received;
+            changed();
+        }
+        return received;
+    }
+    
+    /**
+     * Fornece energia respeitando a taxa máxima de extração
+     * 
+     * @param amount Quantidade pedida
+     * @param simulate Se true, apenas calcula
+     * @return Quantidade fornecida
+     */
+    public long extract(long amount, boolean simulate) {
+        if (amount <= 0 || !canExtract()) {
+            return 0;
+        }
+        long extracted = Math.min(energy, Math.min(maxExtract, amount));
+        if (!simulate && extracted > 0) {
+            energy -= extracted;
+            changed();
         }
         return extracted;
     }
     
+    /**
+     * Puxa energia de várias fontes em uma única chamada
+     * 
+     * As fontes são drenadas em ordem até encher o espaço livre ou a taxa
+     * máxima de recepção desta chamada. O callback de mudança deste
+     * armazenamento roda uma única vez no fim, não uma vez por fonte.
+     * 
+     * @param sources Fontes de energia (entradas null são ignoradas)
+     * @return Quantidade total transferida
+     */
+    public long transferFrom(IEnergyStorage... sources) {
+        if (!canReceive()) {
+            return 0;
+        }
+        
+        long room = Math.min(capacity - energy, maxReceive);
+        long moved = 0;
+        for (int i = 0; i < sources.length && moved < room; i++) {
+            IEnergyStorage source = sources[i];
+            if (source == null || source == this || !source.canExtract()) {
+                continue;
+            }
+            long wanted = room - moved;
+            moved += source instanceof ModEnergyStorage storage
+                ? storage.extract(wanted, false)
+                : source.extractEnergy((int) Math.min(wanted, Integer.MAX_VALUE), false);
+        }
+        
+        if (moved > 0) {
+            energy += moved;
+            changed();
+        }
+        return moved;
+    }
+    
+    /**
+     * Energia armazenada, sem limite de int
+     */
+    public long getEnergyStoredLong() {
+        return energy;
+    }
+    
+    /**
+     * Capacidade máxima, sem limite de int
+     */
+    public long getCapacityLong() {
+        return capacity;
+    }
+    
     /**
      * Força a mudança da quantidade de energia (para uso interno das máquinas)
      * 
      * @param energy Nova quantidade de energia
      */
-    public void setEnergyStored(int energy) {
+    public void setEnergyStored(long energy) {
         this.energy = Math.max(0, Math.min(energy, capacity));
-        if (onEnergyChanged != null) {
-            onEnergyChanged.run();
-        }
+        changed();
     }
     
     /**
@@ -94,14 +215,11 @@ public class ModEnergyStorage extends EnergyStorage {
      * @return Quantidade efetivamente adicionada
      */
     public int addEnergyDirect(int energy) {
-        int oldEnergy = this.energy;
-        this.energy = Math.min(capacity, this.energy + energy);
-        int added = this.energy - oldEnergy;
-        
-        if (added > 0 && onEnergyChanged != null) {
-            onEnergyChanged.run();
+        int added = (int) Math.min(capacity - this.energy, Math.max(0, energy));
+        if (added > 0) {
+            this.energy += added;
+            changed();
         }
-        
         return added;
     }
     
@@ -112,14 +230,11 @@ public class ModEnergyStorage extends EnergyStorage {
      * @return Quantidade efetivamente removida
      */
     public int removeEnergyDirect(int energy) {
-        int oldEnergy = this.energy;
-        this.energy = Math.max(0, this.energy - energy);
-        int removed = oldEnergy - this.energy;
-        
-        if (removed > 0 && onEnergyChanged != null) {
-            onEnergyChanged.run();
+        int removed = (int) Math.min(this.energy, Math.max(0, energy));
+        if (removed > 0) {
+            this.energy -= removed;
+            changed();
         }
-        
         return removed;
     }
     
@@ -129,7 +244,7 @@ public class ModEnergyStorage extends EnergyStorage {
      * @param amount Quantidade desejada
      * @return true se pode fornecer
      */
-    public boolean canExtract(int amount) {
+    public boolean canExtract(long amount) {
         return maxExtract > 0 && energy >= amount;
     }
     
@@ -139,8 +254,8 @@ public class ModEnergyStorage extends EnergyStorage {
      * @param amount Quantidade desejada
      * @return true se pode receber
      */
-    public boolean canReceive(int amount) {
-        return maxReceive > 0 && (energy + amount) <= capacity;
+    public boolean canReceive(long amount) {
+        return maxReceive > 0 && amount <= capacity - energy;
     }
     
     /**
@@ -150,7 +265,7 @@ public class ModEnergyStorage extends EnergyStorage {
      */
     public int getEnergyPercentage() {
         if (capacity == 0) return 0;
-        return (energy * 100) / capacity;
+        return (int) (energy * 100.0 / capacity);
     }
     
     /**
@@ -170,4 +285,19 @@ public class ModEnergyStorage extends EnergyStorage {
     public boolean isEmpty() {
         return energy <= 0;
     }
+    
+    /**
+     * Salva como LongTag; saves antigos (IntTag) continuam legíveis
+     */
+    @Override
+    public Tag serializeNBT(HolderLookup.Provider registries) {
+        return LongTag.valueOf(energy);
+    }
+    
+    @Override
+    public void deserializeNBT(HolderLookup.Provider registries, Tag tag) {
+        if (tag instanceof NumericTag numeric) {
+            energy = Math.max(0, Math.min(numeric.getAsLong(), capacity));
+        }
+    }
 }
\ No newline at end of file
@@ -2,228 +2,245 @@ package com.cronicasaetherium.mod.common.capability;
 
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
 import net.neoforged.neoforge.common.util.INBTSerializable;
 
+import java.util.Arrays;
+
 /**
- * Capacidade do jogador para armazenar dados de proficiência
- * 
+ * Dados de proficiência do jogador (data attachment)
+ *
  * Esta classe gerencia os pontos de experiência de diferentes proficiências
  * que o jogador pode desenvolver ao longo do mod. Cada proficiência representa
- * um aspecto diferente do conhecimento: engenharia (tecnologia) e arcana (magia).
- * 
+ * um aspecto diferente do conhecimento (engenharia, arcana, ...). Os tipos
+ * vêm dos data packs (ProficiencyTypes) e o XP fica em um long[] indexado
+ * pelo índice do tipo: ler ou somar XP é um acesso direto ao array.
+ *
  * Os dados persistem através de morte, viagens dimensionais e logout/login.
- * 
- * Proficiências disponíveis:
- * - Engenharia: Experiência com máquinas, automação e tecnologia
- * - Arcana: Experiência com magia, rituais e conhecimento místico
+ * A instância é criada uma única vez por jogador (ModAttachmentTypes) e
+ * o NBT só é montado de novo quando algo mudou desde o último salvamento.
+ * No NBT o XP é salvo pelo id do tipo; XP de tipos desconhecidos (data
+ * pack removido) é preservado como veio.
  */
 public class PlayerProficiency implements INBTSerializable<CompoundTag> {
-    
+
     // Constantes para as chaves de NBT
-    private static final String ENGINEERING_XP_KEY = "engineering_xp";
-    private static final String ARCANA_XP_KEY = "arcana_xp";
-    
+    private static final String XP_KEY = "xp";
+    private static final String LEGACY_ENGINEERING_XP_KEY = "engineering_xp";
+    private static final String LEGACY_ARCANA_XP_KEY = "arcana_xp";
+
     // Constantes para valores mínimos e máximos
-    private static final int MIN_XP = 0;
-    private static final int MAX_XP = Integer.MAX_VALUE;
-    
-    // Armazenamento dos pontos de experiência
-    private int engineeringXp;
-    private int arcanaXp;
-    
+    private static final long MIN_XP = 0;
+    private static final long MAX_XP = Long.MAX_VALUE;
+
+    // XP por índice de tipo (cresce quando um tipo novo é carregado)
+    private long[] xp;
+
+    // XP salvo de tipos que este servidor ainda não conhece (id → XP)
+    private CompoundTag unknownXp = new CompoundTag();
+
+    // Último NBT montado; reutilizado nos salvamentos enquanto nada mudar
+    private CompoundTag cachedTag;
+    private boolean dirty = true;
+
     /**
      * Construtor padrão
-     * Inicializa ambas as proficiências com 0 pontos de experiência
+     * Inicializa todas as proficiências com 0 pontos de experiência
      */
     public PlayerProficiency() {
-        this.engineeringXp = 0;
-        this.arcanaXp = 0;
+        this.xp = new long[ProficiencyTypes.size()];
     }
-    
+
     // ================================
-    // MÉTODOS DE ACESSO À ENGENHARIA
+    // ACESSO POR ÍNDICE
     // ================================
-    
+
     /**
-     * Obtém os pontos de experiência de engenharia do jogador
-     * 
-     * @return Quantidade atual de XP de engenharia
+     * Obtém os pontos de experiência de uma proficiência
+     *
+     * @param type Índice do tipo (ProficiencyType.index)
+     * @return Quantidade atual de XP
      */
-    public int getEngineeringXp() {
-        return this.engineeringXp;
+    public long getXp(int type) {
+        return type < this.xp.length ? this.xp[type] : 0;
     }
-    
+
     /**
-     * Define os pontos de experiência de engenharia do jogador
-     * 
-     * @param xp Nova quantidade de XP (será limitada entre MIN_XP e MAX_XP)
-     */
-    public void setEngineeringXp(int xp) {
-        this.engineeringXp = Math.max(MIN_XP, Math.min(MAX_XP, xp));
+     * Define os pontos de experiência de uma proficiência
+     *
+     * @param type Índice do tipo
+     * @param amount Nova quantidade de XP (será limitada entre MIN_XP e MAX_XP)
+     */
+    public void setXp(int type, long amount) {
+        long clamped = Math.max(MIN_XP, Math.min(MAX_XP, amount));
+        if (clamped == getXp(type)) {
+            return;
+        }
+        if (type >= this.xp.length) {
+            this.xp = Arrays.copyOf(this.xp, Math.max(type + 1, ProficiencyTypes.size()));
+        }
+        this.xp[type] = clamped;
+        this.dirty = true;
     }
-    
+
     /**
-     * Adiciona pontos de experiência de engenharia
-     * 
+     * Adiciona pontos de experiência a uma proficiência
+     *
+     * @param type Índice do tipo
      * @param amount Quantidade de XP a ser adicionada (pode ser negativa para remover)
-     * @return Quantidade final de XP de engenharia após a adição
+     * @return Quantidade final de XP após a adição
      */
-    public int addEngineeringXp(int amount) {
-        this.setEngineeringXp(this.engineeringXp + amount);
-        return this.engineeringXp;
+    public long addXp(int type, long amount) {
+        long current = getXp(type);
+        this.setXp(type, amount > 0 && current > MAX_XP - amount ? MAX_XP : current + amount);
+        return getXp(type);
     }
-    
-    // ================================
-    // MÉTODOS DE ACESSO À ARCANA
-    // ================================
-    
-    /**
-     * Obtém os pontos de experiência arcana do jogador
-     * 
-     * @return Quantidade atual de XP arcana
-     */
-    public int getArcanaXp() {
-        return this.arcanaXp;
-    }
-    
-    /**
-     * Define os pontos de experiência arcana do jogador
-     * 
-     * @param xp Nova quantidade de XP (será limitada entre MIN_XP e MAX_XP)
-     */
-    public void setArcanaXp(int xp) {
-        this.arcanaXp = Math.max(MIN_XP, Math.min(MAX_XP, xp));
-    }
-    
+
     /**
-     * Adiciona pontos de experiência arcana
-     * 
-     * @param amount Quantidade de XP a ser adicionada (pode ser negativa para remover)
-     * @return Quantidade final de XP arcana após a adição
+     * Obtém o nível atual de uma proficiência
+     *
+     * @param type Índice do tipo
+     * @return Nível calculado a partir do XP
      */
-    public int addArcanaXp(int amount) {
-        this.setArcanaXp(this.arcanaXp + amount);
-        return this.arcanaXp;
+    public int getLevel(int type) {
+        return calculateLevel(getXp(type));
     }
-    
+
     // ================================
     // MÉTODOS UTILITÁRIOS
     // ================================
-    
-    /**
-     * Obtém XP por nome do tipo de proficiência
-     * 
-     * @param proficiencyType Tipo de proficiência ("engenharia" ou "arcana")
-     * @return Quantidade de XP da proficiência especificada, ou 0 se o tipo for inválido
-     */
-    public int getXpByType(String proficiencyType) {
-        return switch (proficiencyType.toLowerCase()) {
-            case "engenharia", "engineering" -> this.engineeringXp;
-            case "arcana", "arcane" -> this.arcanaXp;
-            default -> 0;
-        };
-    }
-    
-    /**
-     * Adiciona XP por nome do tipo de proficiência
-     * 
-     * @param proficiencyType Tipo de proficiência ("engenharia" ou "arcana")
-     * @param amount Quantidade de XP a ser adicionada
-     * @return true se a operação foi bem-sucedida, false se o tipo for inválido
-     */
-    public boolean addXpByType(String proficiencyType, int amount) {
-        return switch (proficiencyType.toLowerCase()) {
-            case "engenharia", "engineering" -> {
-                this.addEngineeringXp(amount);
-                yield true;
-            }
-            case "arcana", "arcane" -> {
-                this.addArcanaXp(amount);
-                yield true;
-            }
-            default -> false;
-        };
-    }
-    
+
     /**
      * Calcula o nível aproximado com base no XP
      * Fórmula: sqrt(xp / 100) para crescimento não-linear
-     * 
+     *
      * @param xp Pontos de experiência
      * @return Nível calculado (mínimo 1)
      */
-    public int calculateLevel(int xp) {
+    public static int calculateLevel(long xp) {
         return Math.max(1, (int) Math.sqrt(xp / 100.0));
     }
-    
+
     /**
-     * Obtém o nível de engenharia do jogador
-     * 
-     * @return Nível atual de engenharia
+     * Cópia do XP por índice (para envio ao cliente)
      */
-    public int getEngineeringLevel() {
-        return calculateLevel(this.engineeringXp);
+    public long[] toArray() {
+        return this.xp.clone();
     }
-    
+
     /**
-     * Obtém o nível arcana do jogador
-     * 
-     * @return Nível atual arcana
+     * Substitui todo o XP pelos valores recebidos (no cliente, na ordem
+     * de índices do servidor)
+     *
+     * @param values XP por índice
      */
-    public int getArcanaLevel() {
-        return calculateLevel(this.arcanaXp);
+    public void setAll(long[] values) {
+        this.xp = values.clone();
+        this.dirty = true;
     }
-    
+
     /**
      * Reseta todas as proficiências para 0
      * Usado principalmente para testes ou eventos especiais
      */
     public void resetAll() {
-        this.engineeringXp = 0;
-        this.arcanaXp = 0;
+        for (int type = 0; type < this.xp.length; type++) {
+            this.setXp(type, 0);
+        }
     }
-    
+
+    /**
+     * Copia todas as proficiências de outro jogador (usado no clone após a morte)
+     *
+     * @param other Proficiências de origem
+     */
+    public void copyFrom(PlayerProficiency other) {
+        this.xp = other.xp.clone();
+        this.unknownXp = other.unknownXp.copy();
+        this.dirty = true;
+    }
+
     // ================================
     // SERIALIZAÇÃO NBT
     // ================================
-    
+
     /**
      * Serializa os dados da proficiência para NBT
      * Permite que os dados persistam entre sessões e viagens dimensionais
-     * 
+     *
+     * Enquanto nada mudar, devolve a mesma tag do salvamento anterior
+     * (quem salva apenas a lê, nunca a modifica).
+     *
      * @param provider Provider para registros de holder
      * @return CompoundTag contendo todos os dados serializados
      */
     @Override
     public CompoundTag serializeNBT(HolderLookup.Provider provider) {
-        CompoundTag tag = new CompoundTag();
-        tag.putInt(ENGINEERING_XP_KEY, this.engineeringXp);
-        tag.putInt(ARCANA_XP_KEY, this.arcanaXp);
-        return tag;
+        if (this.dirty || this.cachedTag == null) {
+            CompoundTag values = this.unknownXp.copy();
+            for (int type = 0; type < this.xp.length; type++) {
+                if (this.xp[type] != 0) {
+                    values.putLong(ProficiencyTypes.idOf(type).toString(), this.xp[type]);
+                }
+            }
+            CompoundTag tag = new CompoundTag();
+            tag.put(XP_KEY, values);
+            this.cachedTag = tag;
+            this.dirty = false;
+        }
+        return this.cachedTag;
     }
-    
+
     /**
      * Deserializa os dados da proficiência do NBT
      * Carrega os dados salvos quando o jogador entra no mundo
-     * 
+     *
+     * Aceita também o formato antigo (engineering_xp/arcana_xp como int).
+     *
      * @param provider Provider para registros de holder
      * @param nbt CompoundTag contendo os dados salvos
      */
     @Override
     public void deserializeNBT(HolderLookup.Provider provider, CompoundTag nbt) {
-        this.engineeringXp = nbt.getInt(ENGINEERING_XP_KEY);
-        this.arcanaXp = nbt.getInt(ARCANA_XP_KEY);
+        this.xp = new long[ProficiencyTypes.size()];
+        this.unknownXp = new CompoundTag();
+
+        if (nbt.contains(XP_KEY, Tag.TAG_COMPOUND)) {
+            CompoundTag values = nbt.getCompound(XP_KEY);
+            for (String key : values.getAllKeys()) {
+                ResourceLocation id = ResourceLocation.tryParse(key);
+                int type = id != null ? ProficiencyTypes.indexOf(id) : -1;
+                if (type >= 0) {
+                    this.xp[type] = Math.max(MIN_XP, values.getLong(key));
+                } else {
+                    this.unknownXp.putLong(key, values.getLong(key));
+                }
+            }
+        } else {
+            this.xp[ProficiencyTypes.ENGINEERING] = Math.max(MIN_XP, nbt.getInt(LEGACY_ENGINEERING_XP_KEY));
+            this.xp[ProficiencyTypes.ARCANA] = Math.max(MIN_XP, nbt.getInt(LEGACY_ARCANA_XP_KEY));
+        }
+        this.dirty = true; // A tag lida pertence a quem chamou
     }
-    
+
     /**
      * Método toString para depuração
-     * 
+     *
      * @return Representação em string dos dados de proficiência
      */
     @Override
     public String toString() {
-        return String.format("PlayerProficiency{engineering=%d (lvl %d), arcana=%d (lvl %d)}", 
-            this.engineeringXp, this.getEngineeringLevel(),
-            this.arcanaXp, this.getArcanaLevel());
+        StringBuilder builder = new StringBuilder("PlayerProficiency{");
+        for (int type = 0; type < this.xp.length; type++) {
+            ProficiencyType definition = ProficiencyTypes.byIndex(type);
+            if (type > 0) {
+                builder.append(", ");
+            }
+            builder.append(definition != null ? definition.id().getPath() : "#" + type)
+                .append('=').append(this.xp[type])
+                .append(" (lvl ").append(calculateLevel(this.xp[type])).append(')');
+        }
+        return builder.append('}').toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,195 @@
+package com.cronicasaetherium.mod.common.capability;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.network.ProficiencySyncPayload;
+import com.cronicasaetherium.mod.config.ModConfig;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.Arrays;
+
+/**
+ * Acúmulo de XP de proficiência durante o tick
+ *
+ * Máquinas e rituais podem conceder XP centenas de vezes por tick ao
+ * mesmo jogador. Em vez de alterar o PlayerProficiency (e avisar o
+ * cliente) a cada concessão, o XP bruto é somado por jogador e por tipo;
+ * no fim do tick do servidor o multiplicador global é aplicado uma única
+ * vez, os níveis são comparados uma vez e o cliente recebe um único
+ * pacote com os valores finais. O ranking (ProficiencyLeaderboard) é
+ * atualizado no mesmo momento.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class ProficiencyAccrual {
+
+    // XP bruto (antes do multiplicador) acumulado no tick atual, por índice de tipo
+    private static final Reference2ObjectMap<ServerPlayer, long[]> PENDING = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Concede XP de uma proficiência ao jogador no fim do tick
+     *
+     * @param player Jogador (ignorado no cliente)
+     * @param type Índice do tipo (ProficiencyType.index)
+     * @param amount XP bruto, antes do multiplicador global
+     */
+    public static void grant(Player player, int type, long amount) {
+        if (amount != 0 && player instanceof ServerPlayer serverPlayer) {
+            long[] raw = PENDING.computeIfAbsent(serverPlayer, key -> new long[ProficiencyTypes.size()]);
+            if (type >= raw.length) {
+                raw = Arrays.copyOf(raw, ProficiencyTypes.size());
+                PENDING.put(serverPlayer, raw);
+            }
+            raw[type] += amount;
+        }
+    }
+
+    /**
+     * Concede XP de engenharia ao jogador no fim do tick
+     *
+     * @param player Jogador (ignorado no cliente)
+     * @param amount XP bruto, antes do multiplicador global
+     */
+    public static void grantEngineering(Player player, long amount) {
+        grant(player, ProficiencyTypes.ENGINEERING, amount);
+    }
+
+    /**
+     * Concede XP arcana ao jogador no fim do tick
+     *
+     * @param player Jogador (ignorado no cliente)
+     * @param amount XP bruto, antes do multiplicador global
+     */
+    public static void grantArcana(Player player, long amount) {
+        grant(player, ProficiencyTypes.ARCANA, amount);
+    }
+
+    /**
+     * Agenda o envio das proficiências ao cliente no fim do tick, sem
+     * conceder XP (usado após alterações diretas, como comandos)
+     *
+     * @param player Jogador alterado
+     */
+    public static void markChanged(ServerPlayer player) {
+        PENDING.computeIfAbsent(player, key -> new long[0]);
+    }
+
+    /**
+     * Envia imediatamente as proficiências atuais ao cliente do jogador
+     *
+     * @param player Jogador a sincronizar
+     */
+    public static void sync(ServerPlayer player) {
+        PacketDistributor.sendToPlayer(player,
+            new ProficiencySyncPayload(ModCapabilities.getPlayerProficiency(player).toArray()));
+    }
+
+    /**
+     * Aplica o XP acumulado de um jogador
+     *
+     * @param player Jogador
+     * @param raw XP bruto por índice de tipo
+     * @param notify Avisar o jogador (subida de nível e pacote ao cliente)
+     */
+    private static void apply(ServerPlayer player, long[] raw, boolean notify) {
+        PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
+        double multiplier = ModConfig.PROFICIENCY_XP_MULTIPLIER.get();
+
+        for (int type = 0; type < raw.length; type++) {
+            if (raw[type] == 0) {
+                continue;
+            }
+            int oldLevel = proficiency.getLevel(type);
+            proficiency.addXp(type, Math.round(raw[type] * multiplier));
+
+            int newLevel = proficiency.getLevel(type);
+            ProficiencyType definition = ProficiencyTypes.byIndex(type);
+            if (notify && newLevel > oldLevel && definition != null) {
+                announceLevelUp(player, definition.displayName(), newLevel);
+            }
+        }
+
+        ProficiencyLeaderboard.get(player.server).update(player, proficiency);
+        if (notify) {
+            sync(player);
+        }
+    }
+
+    private static void announceLevelUp(ServerPlayer player, String name, int level) {
+        player.displayClientMessage(Component.literal(
+            String.format("§6%s§r subiu para o nível §a%d§r!", name, level)), true);
+        player.level().playSound(null, player.blockPosition(), SoundEvents.PLAYER_LEVELUP,
+            SoundSource.PLAYERS, 0.5f, 1.0f);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        for (Reference2ObjectMap.Entry<ServerPlayer, long[]> entry : PENDING.reference2ObjectEntrySet()) {
+            ServerPlayer player = entry.getKey();
+            apply(player, entry.getValue(), !player.hasDisconnected());
+        }
+        PENDING.clear();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        // Aplica o que sobrou antes de o jogador ser salvo
+        if (event.getEntity() instanceof ServerPlayer player) {
+            long[] raw = PENDING.remove(player);
+            if (raw != null) {
+                apply(player, raw, false);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerClone(PlayerEvent.Clone event) {
+        // XP concedido no mesmo tick do renascimento vai para o novo jogador
+        if (event.getOriginal() instanceof ServerPlayer original
+            && event.getEntity() instanceof ServerPlayer player) {
+            long[] raw = PENDING.remove(original);
+            if (raw != null) {
+                PENDING.put(player, raw);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) {
+            // Também coloca no ranking quem ainda não estava (ou trocou de nome)
+            ProficiencyLeaderboard.get(player.server).update(player, ModCapabilities.getPlayerProficiency(player));
+            sync(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        // O jogador do cliente é recriado ao renascer
+        if (event.getEntity() instanceof ServerPlayer player) {
+            sync(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        // O jogador do cliente é recriado ao trocar de dimensão
+        if (event.getEntity() instanceof ServerPlayer player) {
+            sync(player);
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.cronicasaetherium.mod.common.capability;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.Util;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ranking de proficiência de todos os jogadores que já entraram no servidor
+ *
+ * Guardado como SavedData do Overworld, para que /proficiency top não
+ * precise abrir o .dat de cada jogador offline. Cada tipo tem um array
+ * ordenado por XP (decrescente, empate pelo UUID): uma mudança de XP é
+ * uma busca binária e um deslocamento, e o top N é uma cópia dos N
+ * primeiros.
+ *
+ * O ranking é atualizado quando o XP acumulado de um jogador é aplicado
+ * (ProficiencyAccrual) e quando ele entra. O NBT é montado na thread do
+ * servidor durante o salvamento, mas a compressão e a escrita em disco
+ * são feitas no pool de IO, em ordem; o servidor espera as escritas
+ * pendentes ao parar.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class ProficiencyLeaderboard extends SavedData {
+
+    private static final String DATA_NAME = CronicasAetherium.MODID + "_proficiency_leaderboard";
+
+    // Ordem do ranking: mais XP primeiro, empate pelo UUID
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::xp).reversed()
+        .thenComparing(Entry::player);
+
+    // Ranking do servidor atual
+    private static ProficiencyLeaderboard instance;
+    // Última escrita agendada; as próximas esperam por ela
+    private static CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+
+    // Último nome conhecido de cada jogador
+    private final Map<UUID, String> names = new HashMap<>();
+    // Ranking por índice de tipo (null = ninguém tem XP nesse tipo)
+    private Ranking[] rankings = new Ranking[0];
+    // XP salvo de tipos que este servidor não conhece, por jogador (id → XP)
+    private final Map<UUID, CompoundTag> unknownXp = new HashMap<>();
+
+    private ProficiencyLeaderboard() {
+    }
+
+    /**
+     * Obtém (ou cria/carrega) o ranking do servidor
+     *
+     * @param server Servidor
+     * @return Ranking do servidor
+     */
+    public static ProficiencyLeaderboard get(MinecraftServer server) {
+        if (instance == null) {
+            instance = server.overworld().getDataStorage().computeIfAbsent(
+                new SavedData.Factory<>(ProficiencyLeaderboard::new, ProficiencyLeaderboard::load, null), DATA_NAME);
+        }
+        return instance;
+    }
+
+    /**
+     * Atualiza as posições de um jogador em todos os tipos
+     *
+     * Tipos em que o XP não mudou custam uma consulta ao mapa do ranking.
+     *
+     * @param player Jogador
+     * @param proficiency Proficiências atuais do jogador
+     */
+    public void update(ServerPlayer player, PlayerProficiency proficiency) {
+        UUID id = player.getUUID();
+        String name = player.getGameProfile().getName();
+        if (!name.equals(names.put(id, name))) {
+            setDirty();
+        }
+
+        int size = Math.max(ProficiencyTypes.size(), rankings.length);
+        for (int type = 0; type < size; type++) {
+            if (ranking(type, proficiency.getXp(type) != 0).set(id, proficiency.getXp(type))) {
+                setDirty();
+            }
+        }
+    }
+
+    /**
+     * Os N primeiros de um tipo
+     *
+     * @param type Índice do tipo
+     * @param count Quantidade máxima de posições
+     * @return Posições em ordem, a partir do primeiro lugar
+     */
+    public List<Entry> top(int type, int count) {
+        Ranking ranking = type < rankings.length ? rankings[type] : null;
+        if (ranking == null) {
+            return List.of();
+        }
+        return List.copyOf(ranking.sorted.subList(0, Math.min(count, ranking.sorted.size())));
+    }
+
+    /**
+     * Quantidade de jogadores com XP em um tipo
+     */
+    public int size(int type) {
+        Ranking ranking = type < rankings.length ? rankings[type] : null;
+        return ranking == null ? 0 : ranking.sorted.size();
+    }
+
+    /**
+     * Último nome conhecido de um jogador
+     */
+    public String getName(UUID player) {
+        return names.getOrDefault(player, player.toString());
+    }
+
+    /**
+     * Ranking de um tipo, criado se necessário (ou um vazio temporário
+     * quando não há o que inserir)
+     */
+    private Ranking ranking(int type, boolean create) {
+        if (type >= rankings.length) {
+            if (!create) {
+                return Ranking.EMPTY;
+            }
+            rankings = Arrays.copyOf(rankings, Math.max(type + 1, ProficiencyTypes.size()));
+        }
+        if (rankings[type] == null) {
+            if (!create) {
+                return Ranking.EMPTY;
+            }
+            rankings[type] = new Ranking();
+        }
+        return rankings[type];
+    }
+
+    // ================================
+    // SALVAMENTO
+    // ================================
+
+    /**
+     * Salva um registro por jogador: nome e XP por id de tipo
+     */
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        Map<UUID, CompoundTag> xpByPlayer = new HashMap<>();
+        for (int type = 0; type < rankings.length; type++) {
+            if (rankings[type] == null) {
+                continue;
+            }
+            String typeId = ProficiencyTypes.idOf(type).toString();
+            for (Entry entry : rankings[type].sorted) {
+                xpByPlayer.computeIfAbsent(entry.player(), key -> new CompoundTag()).putLong(typeId, entry.xp());
+            }
+        }
+
+        ListTag players = new ListTag();
+        for (Map.Entry<UUID, String> player : names.entrySet()) {
+            CompoundTag entry = new CompoundTag();
+            entry.putUUID("id", player.getKey());
+            entry.putString("name", player.getValue());
+            CompoundTag xp = unknownXp.containsKey(player.getKey())
+                ? unknownXp.get(player.getKey()).copy() : new CompoundTag();
+            CompoundTag known = xpByPlayer.get(player.getKey());
+            if (known != null) {
+                xp.merge(known);
+            }
+            entry.put("xp", xp);
+            players.add(entry);
+        }
+        tag.put("players", players);
+        return tag;
+    }
+
+    private static ProficiencyLeaderboard load(CompoundTag tag, HolderLookup.Provider registries) {
+        ProficiencyLeaderboard leaderboard = new ProficiencyLeaderboard();
+
+        ListTag players = tag.getList("players", Tag.TAG_COMPOUND);
+        for (int i = 0; i < players.size(); i++) {
+            CompoundTag entry = players.getCompound(i);
+            UUID player = entry.getUUID("id");
+            leaderboard.names.put(player, entry.getString("name"));
+
+            CompoundTag xp = entry.getCompound("xp");
+            for (String key : xp.getAllKeys()) {
+                ResourceLocation id = ResourceLocation.tryParse(key);
+                int type = id != null ? ProficiencyTypes.indexOf(id) : -1;
+                if (type >= 0) {
+                    leaderboard.ranking(type, true).append(player, xp.getLong(key));
+                } else {
+                    leaderboard.unknownXp.computeIfAbsent(player, k -> new CompoundTag()).putLong(key, xp.getLong(key));
+                }
+            }
+        }
+
+        for (Ranking ranking : leaderboard.rankings) {
+            if (ranking != null) {
+                ranking.sorted.sort(ORDER);
+            }
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Monta o NBT agora e agenda a escrita no pool de IO
+     *
+     * O SavedData padrão comprime e escreve o arquivo na thread do
+     * servidor a cada salvamento automático.
+     */
+    @Override
+    public void save(File file, HolderLookup.Provider registries) {
+        if (!isDirty()) {
+            return;
+        }
+        CompoundTag tag = new CompoundTag();
+        tag.put("data", save(new CompoundTag(), registries));
+        NbtUtils.addCurrentDataVersion(tag);
+        setDirty(false);
+
+        pendingWrite = pendingWrite.thenRunAsync(() -> write(file.toPath(), tag), Util.ioPool());
+    }
+
+    private static void write(Path path, CompoundTag tag) {
+        try {
+            // Arquivo temporário + troca: um desligamento no meio não corrompe o ranking
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            NbtIo.writeCompressed(tag, temp);
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            CronicasAetherium.LOGGER.error("Não foi possível salvar o ranking de proficiência", e);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        // Garante que o último salvamento chegou ao disco
+        pendingWrite.join();
+        instance = null;
+    }
+
+    /**
+     * Uma posição no ranking
+     *
+     * @param player UUID do jogador
+     * @param xp XP do jogador no tipo
+     */
+    public record Entry(UUID player, long xp) {
+    }
+
+    /**
+     * Ranking de um tipo: array ordenado + XP atual de cada jogador
+     */
+    private static final class Ranking {
+
+        // Devolvido quando não há ranking e nada a inserir; nunca é alterado
+        private static final Ranking EMPTY = new Ranking();
+
+        private final ObjectArrayList<Entry> sorted = new ObjectArrayList<>();
+        private final Object2LongMap<UUID> xpByPlayer = new Object2LongOpenHashMap<>();
+
+        /**
+         * Define o XP de um jogador, mantendo o array ordenado
+         *
+         * Jogadores com 0 XP ficam fora do ranking.
+         *
+         * @return true se algo mudou
+         */
+        private boolean set(UUID player, long xp) {
+            long old = xpByPlayer.getOrDefault(player, 0L);
+            if (old == xp) {
+                return false;
+            }
+            if (old != 0) {
+                sorted.remove(Collections.binarySearch(sorted, new Entry(player, old), ORDER));
+                xpByPlayer.removeLong(player);
+            }
+            if (xp != 0) {
+                Entry entry = new Entry(player, xp);
+                sorted.add(-Collections.binarySearch(sorted, entry, ORDER) - 1, entry);
+                xpByPlayer.put(player, xp);
+            }
+            return true;
+        }
+
+        /**
+         * Acrescenta sem ordenar (carregamento; ordenado uma vez no fim)
+         */
+        private void append(UUID player, long xp) {
+            if (xp != 0 && !xpByPlayer.containsKey(player)) {
+                sorted.add(new Entry(player, xp));
+                xpByPlayer.put(player, xp);
+            }
+        }
+    }
+}
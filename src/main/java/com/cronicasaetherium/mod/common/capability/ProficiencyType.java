@@ -0,0 +1,29 @@
+package com.cronicasaetherium.mod.common.capability;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.List;
+
+/**
+ * Um tipo de proficiência (engenharia, arcana, ...) carregado dos dados
+ *
+ * O índice é denso (0, 1, 2, ...) e é a posição do XP desse tipo no
+ * array de cada jogador. Ele é fixo enquanto o servidor estiver rodando;
+ * no disco o XP é salvo pelo id, então os índices podem mudar entre
+ * sessões sem perda.
+ *
+ * @param id Id do tipo (nome do arquivo em data/&lt;ns&gt;/proficiency_type)
+ * @param index Posição no array de XP do jogador
+ * @param name Nome exibido
+ * @param icon Ícone exibido antes do nome (pode ser vazio)
+ * @param aliases Nomes aceitos nos comandos, além do caminho do id
+ */
+public record ProficiencyType(ResourceLocation id, int index, String name, String icon, List<String> aliases) {
+
+    /**
+     * Nome com ícone, para mensagens
+     */
+    public String displayName() {
+        return icon.isEmpty() ? name : icon + " " + name;
+    }
+}
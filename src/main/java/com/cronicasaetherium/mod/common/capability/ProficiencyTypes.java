@@ -0,0 +1,221 @@
+package com.cronicasaetherium.mod.common.capability;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimpleJsonResourceReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.AddReloadListenerEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Registro dos tipos de proficiência, carregado dos data packs
+ *
+ * Cada arquivo em data/&lt;ns&gt;/proficiency_type/&lt;nome&gt;.json define um
+ * tipo:
+ *
+ * <pre>
+ * { "name": "Engenharia", "icon": "⚙", "aliases": ["engenharia", "engineering"] }
+ * </pre>
+ *
+ * Cada id recebe um índice denso na primeira vez que aparece e o mantém
+ * até o jogo fechar: um /reload só acrescenta índices novos, e um tipo
+ * removido deixa o índice vago (byIndex devolve null). Assim o array de
+ * XP dos jogadores já carregados continua válido após qualquer reload.
+ *
+ * Engenharia e arcana têm índices reservados (ENGINEERING e ARCANA) para
+ * o código que concede XP diretamente; outros tipos só precisam do JSON.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class ProficiencyTypes extends SimpleJsonResourceReloadListener {
+
+    private static final Gson GSON = new GsonBuilder().create();
+    private static final String DIRECTORY = "proficiency_type";
+
+    public static final ResourceLocation ENGINEERING_ID =
+        ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "engineering");
+    public static final ResourceLocation ARCANA_ID =
+        ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "arcana");
+
+    // Índice de cada id já visto, e o id de cada índice (nunca são removidos)
+    private static final Object2IntMap<ResourceLocation> INDICES = new Object2IntOpenHashMap<>();
+    private static final List<ResourceLocation> IDS = new ArrayList<>();
+    // Tipo carregado em cada índice (null = tipo não presente nos dados atuais)
+    private static final List<ProficiencyType> BY_INDEX = new ArrayList<>();
+    // Nome aceito nos comandos (minúsculo) → índice
+    private static final Object2IntMap<String> BY_NAME = new Object2IntOpenHashMap<>();
+
+    private static List<ProficiencyType> loaded = List.of();
+
+    public static final int ENGINEERING;
+    public static final int ARCANA;
+
+    static {
+        INDICES.defaultReturnValue(-1);
+        BY_NAME.defaultReturnValue(-1);
+        ENGINEERING = reserve(ENGINEERING_ID);
+        ARCANA = reserve(ARCANA_ID);
+    }
+
+    private ProficiencyTypes() {
+        super(GSON, DIRECTORY);
+    }
+
+    /**
+     * Quantidade de índices já atribuídos (tamanho do array de XP)
+     */
+    public static int size() {
+        return BY_INDEX.size();
+    }
+
+    /**
+     * Tipos presentes nos dados atuais, em ordem de índice
+     */
+    public static List<ProficiencyType> values() {
+        return loaded;
+    }
+
+    /**
+     * @return Tipo no índice, ou null se não estiver carregado
+     */
+    @Nullable
+    public static ProficiencyType byIndex(int index) {
+        return index >= 0 && index < BY_INDEX.size() ? BY_INDEX.get(index) : null;
+    }
+
+    /**
+     * Resolve um nome digitado (id, caminho do id ou apelido, sem
+     * diferenciar maiúsculas)
+     *
+     * @return Tipo, ou null se nenhum tipo carregado tiver esse nome
+     */
+    @Nullable
+    public static ProficiencyType byName(String name) {
+        return byIndex(BY_NAME.getInt(name.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * @return Índice do id, ou -1 se o id nunca foi carregado
+     */
+    public static int indexOf(ResourceLocation id) {
+        return INDICES.getInt(id);
+    }
+
+    /**
+     * Id de um índice já atribuído, carregado ou não (usado ao salvar o
+     * XP de um tipo removido por /reload)
+     */
+    public static ResourceLocation idOf(int index) {
+        return IDS.get(index);
+    }
+
+    /**
+     * Sugestões de nomes para argumentos de comando
+     */
+    public static CompletableFuture<Suggestions> suggest(SuggestionsBuilder builder) {
+        return SharedSuggestionProvider.suggest(loaded.stream().map(ProficiencyTypes::commandName), builder);
+    }
+
+    /**
+     * Nomes válidos separados por vírgula, para mensagens de erro
+     */
+    public static String validNames() {
+        return String.join(", ", loaded.stream().map(ProficiencyTypes::commandName).toList());
+    }
+
+    /**
+     * Nome principal do tipo nos comandos (primeiro apelido, ou o caminho
+     * do id)
+     */
+    public static String commandName(ProficiencyType type) {
+        return type.aliases().isEmpty() ? type.id().getPath() : type.aliases().get(0);
+    }
+
+    private static int reserve(ResourceLocation id) {
+        int index = INDICES.getInt(id);
+        if (index < 0) {
+            index = BY_INDEX.size();
+            INDICES.put(id, index);
+            IDS.add(id);
+            BY_INDEX.add(null);
+        }
+        return index;
+    }
+
+    @Override
+    protected void apply(Map<ResourceLocation, JsonElement> entries, ResourceManager resourceManager, ProfilerFiller profiler) {
+        Collections.fill(BY_INDEX, null);
+        BY_NAME.clear();
+
+        // Ordem de id: índices novos são atribuídos sempre na mesma ordem
+        List<ProficiencyType> types = new ArrayList<>();
+        new TreeMap<>(entries).forEach((id, json) -> Definition.CODEC.parse(JsonOps.INSTANCE, json)
+            .resultOrPartial(error -> CronicasAetherium.LOGGER.error("Tipo de proficiência {} inválido: {}", id, error))
+            .ifPresent(definition -> {
+                ProficiencyType type = new ProficiencyType(id, reserve(id),
+                    definition.name(), definition.icon(), List.copyOf(definition.aliases()));
+                BY_INDEX.set(type.index(), type);
+                types.add(type);
+            }));
+        types.sort((a, b) -> Integer.compare(a.index(), b.index()));
+
+        for (ProficiencyType type : types) {
+            registerName(type.id().toString(), type);
+            registerName(type.id().getPath(), type);
+            for (String alias : type.aliases()) {
+                registerName(alias, type);
+            }
+        }
+
+        loaded = List.copyOf(types);
+        CronicasAetherium.LOGGER.info("{} tipos de proficiência carregados", loaded.size());
+    }
+
+    private static void registerName(String name, ProficiencyType type) {
+        int previous = BY_NAME.putIfAbsent(name.toLowerCase(Locale.ROOT), type.index());
+        if (previous >= 0 && previous != type.index()) {
+            CronicasAetherium.LOGGER.warn("Nome de proficiência '{}' de {} já usado por {}",
+                name, type.id(), BY_INDEX.get(previous).id());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        event.addListener(new ProficiencyTypes());
+    }
+
+    /**
+     * Conteúdo de um arquivo de tipo de proficiência
+     */
+    private record Definition(String name, String icon, List<String> aliases) {
+
+        private static final Codec<Definition> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.STRING.fieldOf("name").forGetter(Definition::name),
+            Codec.STRING.optionalFieldOf("icon", "").forGetter(Definition::icon),
+            Codec.STRING.listOf().optionalFieldOf("aliases", List.of()).forGetter(Definition::aliases)
+        ).apply(instance, Definition::new));
+    }
+}
@@ -0,0 +1,118 @@
+package com.cronicasaetherium.mod.common.capability;
+
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Configuração por lado de uma máquina: o que entra e o que sai por cada face
+ *
+ * Os 6 lados × 4 modos cabem em um único int (4 bits por lado, na ordem
+ * de Direction.get3DDataValue), salvo no NBT como um int. Resolver uma
+ * capability é um deslocamento e um AND, sem alocação e sem chamadas
+ * virtuais. O lado null (acesso interno) permite tudo.
+ *
+ * Editada em jogo com a Chave de Calibração.
+ */
+public final class SideConfig {
+
+    // Modos de cada lado (bits dentro dos 4 bits do lado)
+    public static final int ENERGY_IN = 1;
+    public static final int ENERGY_OUT = 1 << 1;
+    public static final int ITEM_IN = 1 << 2;
+    public static final int ITEM_OUT = 1 << 3;
+
+    public static final int ENERGY = ENERGY_IN | ENERGY_OUT;
+    public static final int ITEMS = ITEM_IN | ITEM_OUT;
+    public static final int SIDE_MASK = ENERGY | ITEMS;
+
+    private static final int BITS_PER_SIDE = 4;
+
+    // Configurações pré-definidas comuns
+    public static final int ALL_SIDES = 0xFFFFFF;
+    public static final int NO_ENERGY = repeat(ITEMS);
+    public static final int NO_ITEMS = repeat(ENERGY);
+
+    private int bits;
+
+    public SideConfig() {
+        this(ALL_SIDES);
+    }
+
+    public SideConfig(int bits) {
+        this.bits = bits & ALL_SIDES;
+    }
+
+    /**
+     * Verifica se um lado permite algum dos modos informados
+     *
+     * @param side Lado (null = interno, sempre permitido)
+     * @param modes Bits de modo (ex.: ITEM_IN | ITEM_OUT)
+     * @return true se o lado tem pelo menos um dos modos
+     */
+    public boolean allows(@Nullable Direction side, int modes) {
+        return side == null || (bits >>> (side.get3DDataValue() * BITS_PER_SIDE) & modes) != 0;
+    }
+
+    /**
+     * Modos de um lado (null = todos)
+     */
+    public int get(@Nullable Direction side) {
+        return side == null ? SIDE_MASK : bits >>> (side.get3DDataValue() * BITS_PER_SIDE) & SIDE_MASK;
+    }
+
+    /**
+     * Substitui os modos de um grupo (ENERGY ou ITEMS) em um lado
+     *
+     * @param side Lado
+     * @param group Grupo afetado
+     * @param modes Novos modos do grupo
+     */
+    public void set(Direction side, int group, int modes) {
+        int shift = side.get3DDataValue() * BITS_PER_SIDE;
+        bits = bits & ~(group << shift) | (modes & group) << shift;
+    }
+
+    /**
+     * Avança um grupo de um lado para o próximo modo:
+     * entrada e saída → só entrada → só saída → desligado → ...
+     *
+     * @return Novos modos do grupo nesse lado
+     */
+    public int cycle(Direction side, int group) {
+        int in = group & (ENERGY_IN | ITEM_IN);
+        int out = group & (ENERGY_OUT | ITEM_OUT);
+        int current = get(side) & group;
+
+        int next;
+        if (current == group) {
+            next = in;
+        } else if (current == in) {
+            next = out;
+        } else if (current == out) {
+            next = 0;
+        } else {
+            next = group;
+        }
+        set(side, group, next);
+        return next;
+    }
+
+    /**
+     * Valor empacotado, para salvar no NBT
+     */
+    public int getBits() {
+        return bits;
+    }
+
+    public void setBits(int bits) {
+        this.bits = bits & ALL_SIDES;
+    }
+
+    private static int repeat(int modes) {
+        int result = 0;
+        for (int side = 0; side < 6; side++) {
+            result |= modes << (side * BITS_PER_SIDE);
+        }
+        return result;
+    }
+}
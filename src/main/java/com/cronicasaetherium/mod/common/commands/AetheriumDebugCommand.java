@@ -0,0 +1,239 @@
+package com.cronicasaetherium.mod.common.commands;
+
+import com.cronicasaetherium.mod.common.energy.EnergyGridManager;
+import com.cronicasaetherium.mod.common.fluid.PipeNetworkManager;
+import com.cronicasaetherium.mod.common.logistics.ConveyorManager;
+import com.cronicasaetherium.mod.common.logistics.DuctNetworkManager;
+import com.cronicasaetherium.mod.common.machine.DirtyMarker;
+import com.cronicasaetherium.mod.common.machine.MachineSyncDispatcher;
+import com.cronicasaetherium.mod.common.machine.MachineTicker;
+import com.cronicasaetherium.mod.common.ritual.OreSectionIndex;
+import com.cronicasaetherium.mod.common.ritual.SectionScanCache;
+import com.cronicasaetherium.mod.config.ModConfig;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Comandos de depuração dos sistemas internos do mod
+ *
+ * Exibem contadores de desempenho úteis para diagnosticar servidores
+ * com muitos jogadores ou máquinas.
+ *
+ * Comandos disponíveis:
+ * - /aetherium debug orecache - Estatísticas do cache de varredura do Ritual da Veia
+ * - /aetherium debug orecache reset - Zera os contadores do cache
+ * - /aetherium debug machines - Máquinas acordadas/adormecidas, sincronização e modificações no mundo atual
+ * - /aetherium debug energy - Redes de energia do mundo atual
+ * - /aetherium debug fluids - Segmentos de canos do mundo atual
+ * - /aetherium debug ducts - Redes de dutos pneumáticos do mundo atual
+ * - /aetherium debug belts - Linhas de esteiras do mundo atual
+ */
+public class AetheriumDebugCommand {
+
+    /**
+     * Registra os comandos de depuração
+     *
+     * @param dispatcher Dispatcher de comandos do servidor
+     */
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(
+            Commands.literal("aetherium")
+                .requires(source -> source.hasPermission(2)) // Requer nível de OP 2
+                .then(
+                    Commands.literal("debug")
+                        .then(
+                            Commands.literal("orecache")
+                                .executes(AetheriumDebugCommand::oreCacheStats)
+                                .then(Commands.literal("reset")
+                                    .executes(AetheriumDebugCommand::resetOreCache)
+                                )
+                        )
+                        .then(
+                            Commands.literal("machines")
+                                .executes(AetheriumDebugCommand::machineStats)
+                        )
+                        .then(
+                            Commands.literal("energy")
+                                .executes(AetheriumDebugCommand::energyStats)
+                        )
+                        .then(
+                            Commands.literal("fluids")
+                                .executes(AetheriumDebugCommand::fluidStats)
+                        )
+                        .then(
+                            Commands.literal("ducts")
+                                .executes(AetheriumDebugCommand::ductStats)
+                        )
+                        .then(
+                            Commands.literal("belts")
+                                .executes(AetheriumDebugCommand::beltStats)
+                        )
+                )
+        );
+    }
+
+    /**
+     * Comando: /aetherium debug orecache
+     * Mostra acertos/faltas do cache de varredura e o tamanho do índice no mundo atual
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int oreCacheStats(CommandContext<CommandSourceStack> context) {
+        long hits = SectionScanCache.getHits();
+        long misses = SectionScanCache.getMisses();
+        long total = hits + misses;
+        double hitRate = total > 0 ? hits * 100.0 / total : 0.0;
+
+        OreSectionIndex index = OreSectionIndex.get(context.getSource().getLevel());
+        if (index == null) {
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(
+            String.format("§6=== Cache do Ritual da Veia ===§r\n" +
+                "Acertos: §a%d§r | Faltas: §c%d§r | Taxa de acerto: §b%.1f%%§r\n" +
+                "Entradas neste mundo: §e%d§r | Seções indexadas: §e%d§r",
+                hits, misses, hitRate, index.getScanCache().size(), index.getIndexedSectionCount())
+        ), false);
+
+        return 1;
+    }
+
+    /**
+     * Comando: /aetherium debug orecache reset
+     * Zera os contadores de acertos e faltas
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int resetOreCache(CommandContext<CommandSourceStack> context) {
+        SectionScanCache.resetCounters();
+        context.getSource().sendSuccess(() -> Component.literal("Contadores do cache do Ritual da Veia zerados"), true);
+        return 1;
+    }
+
+    /**
+     * Comando: /aetherium debug machines
+     * Mostra quantas máquinas estão acordadas e adormecidas no mundo atual
+     * e o intervalo de atualização em uso, além dos pacotes de estado
+     * enviados e das marcações de modificado agrupadas
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int machineStats(CommandContext<CommandSourceStack> context) {
+        MachineTicker ticker = MachineTicker.get(context.getSource().getLevel());
+        MachineSyncDispatcher sync = MachineSyncDispatcher.get(context.getSource().getLevel());
+        DirtyMarker dirty = DirtyMarker.get(context.getSource().getLevel());
+        if (ticker == null || sync == null || dirty == null) {
+            return 0;
+        }
+        int awake = ticker.getAwakeCount();
+        int asleep = ticker.getAsleepCount();
+        int interval = ModConfig.MACHINE_UPDATE_INTERVAL.get();
+
+        context.getSource().sendSuccess(() -> Component.literal(
+            String.format("§6=== Máquinas ===§r\nAcordadas: §a%d§r | Adormecidas: §7%d§r | Total: §e%d§r\n" +
+                "Intervalo de atualização: §b%d§r ticks | Tipos ativos: §e%d§r\n" +
+                "Sincronização: §e%d§r na fila | §b%d§r pacotes enviados\n" +
+                "Modificações: §e%d§r pedidas | §b%d§r aplicadas | §a%d§r evitadas",
+                awake, asleep, awake + asleep, interval, ticker.getGroupCount(),
+                sync.getQueuedCount(), sync.getPacketsSent(),
+                dirty.getMarksRequested(), dirty.getMarksFlushed(), dirty.getMarksAvoided())
+        ), false);
+
+        return 1;
+    }
+
+    /**
+     * Comando: /aetherium debug energy
+     * Mostra as redes de energia do mundo atual e quantas vezes foram reconstruídas
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int energyStats(CommandContext<CommandSourceStack> context) {
+        EnergyGridManager manager = EnergyGridManager.get(context.getSource().getLevel());
+        if (manager == null) {
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(
+            String.format("§6=== Redes de Energia ===§r\nRedes: §a%d§r | Cabos: §e%d§r | Pontos conectados: §e%d§r\n" +
+                "Reconstruções: §b%d§r",
+                manager.getNetworkCount(), manager.getMemberCount(), manager.getEndpointCount(), manager.getRebuildCount())
+        ), false);
+
+        return 1;
+    }
+
+    /**
+     * Comando: /aetherium debug fluids
+     * Mostra os segmentos de canos do mundo atual e quantas vezes foram reconstruídos
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int fluidStats(CommandContext<CommandSourceStack> context) {
+        PipeNetworkManager manager = PipeNetworkManager.get(context.getSource().getLevel());
+        if (manager == null) {
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(
+            String.format("§6=== Canos ===§r\nSegmentos: §a%d§r | Canos: §e%d§r | Reconstruções: §b%d§r",
+                manager.getNetworkCount(), manager.getMemberCount(), manager.getRebuildCount())
+        ), false);
+
+        return 1;
+    }
+
+    /**
+     * Comando: /aetherium debug ducts
+     * Mostra as redes de dutos do mundo atual, as rotas calculadas e quantas
+     * vezes foram reconstruídas
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int ductStats(CommandContext<CommandSourceStack> context) {
+        DuctNetworkManager manager = DuctNetworkManager.get(context.getSource().getLevel());
+        if (manager == null) {
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(
+            String.format("§6=== Dutos Pneumáticos ===§r\nRedes: §a%d§r | Dutos: §e%d§r | Rotas: §e%d§r\n" +
+                "Reconstruções: §b%d§r",
+                manager.getNetworkCount(), manager.getMemberCount(), manager.getRouteCount(), manager.getRebuildCount())
+        ), false);
+
+        return 1;
+    }
+
+    /**
+     * Comando: /aetherium debug belts
+     * Mostra as linhas de esteiras do mundo atual e quantos itens transportam
+     *
+     * @param context Contexto do comando
+     * @return Código de retorno do comando
+     */
+    private static int beltStats(CommandContext<CommandSourceStack> context) {
+        ConveyorManager manager = ConveyorManager.get(context.getSource().getLevel());
+        if (manager == null) {
+            return 0;
+        }
+
+        context.getSource().sendSuccess(() -> Component.literal(
+            String.format("§6=== Esteiras ===§r\nLinhas: §a%d§r | Esteiras: §e%d§r | Itens: §e%d§r\n" +
+                "Reconstruções: §b%d§r",
+                manager.getLineCount(), manager.getBeltCount(), manager.getItemCount(), manager.getRebuildCount())
+        ), false);
+
+        return 1;
+    }
+}
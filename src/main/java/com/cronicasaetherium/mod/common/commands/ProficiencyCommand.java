@@ -2,39 +2,59 @@ package com.cronicasaetherium.mod.common.commands;
 
 import com.cronicasaetherium.mod.common.capability.ModCapabilities;
 import com.cronicasaetherium.mod.common.capability.PlayerProficiency;
+import com.cronicasaetherium.mod.common.capability.ProficiencyAccrual;
+import com.cronicasaetherium.mod.common.capability.ProficiencyLeaderboard;
+import com.cronicasaetherium.mod.common.capability.ProficiencyType;
+import com.cronicasaetherium.mod.common.capability.ProficiencyTypes;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.EntityArgument;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Comandos de administrador para o sistema de proficiência
  * 
  * Esta classe implementa comandos de console para testar e administrar
  * o sistema de proficiência dos jogadores. Os comandos permitem visualizar
- * e modificar os pontos de experiência de engenharia e arcana.
+ * e modificar os pontos de experiência de cada proficiência.
  * 
  * Comandos disponíveis:
  * - /proficiency get <jogador> <tipo> - Visualiza XP atual
- * - /proficiency add <jogador> <tipo> <quantidade> - Adiciona/remove XP
- * - /proficiency set <jogador> <tipo> <quantidade> - Define XP específico
- * - /proficiency reset <jogador> [tipo] - Reseta proficiências
+ * - /proficiency add <jogadores> <tipo> <quantidade> - Adiciona/remove XP
+ * - /proficiency set <jogadores> <tipo> <quantidade> - Define XP específico
+ * - /proficiency reset <jogadores> [tipo] - Reseta proficiências
+ * - /proficiency list <jogador> - Lista todas as proficiências
+ * - /proficiency top <tipo> [n] - Ranking de todos os jogadores, inclusive offline
  * 
- * Tipos válidos: engenharia, arcana
+ * Tipos válidos: os carregados dos data packs (ProficiencyTypes), pelo
+ * id, pelo caminho do id ou por um apelido. O nome é resolvido uma vez
+ * para o índice do tipo.
+ * 
+ * add, set e reset aceitam seletores de vários jogadores (@a, @a[team=...]):
+ * todos são alterados em uma passada, o retorno é uma única mensagem e
+ * cada jogador recebe um único pacote de sincronização no fim do tick.
  */
 public class ProficiencyCommand {
     
-    // Constantes para tipos de proficiência válidos
-    private static final String ENGINEERING_TYPE = "engenharia";
-    private static final String ARCANA_TYPE = "arcana";
+    // Tamanho padrão e máximo do /proficiency top
+    private static final int DEFAULT_TOP_COUNT = 10;
+    private static final int MAX_TOP_COUNT = 100;
+    
+    // Sugere os nomes dos tipos carregados
+    private static final SuggestionProvider<CommandSourceStack> TYPE_SUGGESTIONS =
+        (context, builder) -> ProficiencyTypes.suggest(builder);
     
     /**
      * Registra todos os comandos de proficiência
@@ -52,25 +72,17 @@ public class ProficiencyCommand {
                     Commands.literal("get")
                         .then(Commands.argument("player", EntityArgument.player())
                             .then(Commands.argument("type", StringArgumentType.string())
-                                .suggests((context, builder) -> {
-                                    builder.suggest(ENGINEERING_TYPE);
-                                    builder.suggest(ARCANA_TYPE);
-                                    return builder.buildFuture();
-                                })
+                                .suggests(TYPE_SUGGESTIONS)
                                 .executes(ProficiencyCommand::getProficiency)
                             )
                         )
                 )
                 .then(
                     Commands.literal("add")
-                        .then(Commands.argument("player", EntityArgument.player())
+                        .then(Commands.argument("targets", EntityArgument.players())
                             .then(Commands.argument("type", StringArgumentType.string())
-                                .suggests((context, builder) -> {
-                                    builder.suggest(ENGINEERING_TYPE);
-                                    builder.suggest(ARCANA_TYPE);
-                                    return builder.buildFuture();
-                                })
-                                .then(Commands.argument("amount", IntegerArgumentType.integer())
+                                .suggests(TYPE_SUGGESTIONS)
+                                .then(Commands.argument("amount", LongArgumentType.longArg())
                                     .executes(ProficiencyCommand::addProficiency)
                                 )
                             )
@@ -78,14 +90,10 @@ public class ProficiencyCommand {
                 )
                 .then(
                     Commands.literal("set")
-                        .then(Commands.argument("player", EntityArgument.player())
+                        .then(Commands.argument("targets", EntityArgument.players())
                             .then(Commands.argument("type", StringArgumentType.string())
-                                .suggests((context, builder) -> {
-                                    builder.suggest(ENGINEERING_TYPE);
-                                    builder.suggest(ARCANA_TYPE);
-                                    return builder.buildFuture();
-                                })
-                                .then(Commands.argument("amount", IntegerArgumentType.integer(0))
+                                .suggests(TYPE_SUGGESTIONS)
+                                .then(Commands.argument("amount", LongArgumentType.longArg(0))
                                     .executes(ProficiencyCommand::setProficiency)
                                 )
                             )
@@ -93,14 +101,10 @@ public class ProficiencyCommand {
                 )
                 .then(
                     Commands.literal("reset")
-                        .then(Commands.argument("player", EntityArgument.player())
+                        .then(Commands.argument("targets", EntityArgument.players())
                             .executes(ProficiencyCommand::resetAllProficiency)
                             .then(Commands.argument("type", StringArgumentType.string())
-                                .suggests((context, builder) -> {
-                                    builder.suggest(ENGINEERING_TYPE);
-                                    builder.suggest(ARCANA_TYPE);
-                                    return builder.buildFuture();
-                                })
+                                .suggests(TYPE_SUGGESTIONS)
                                 .executes(ProficiencyCommand::resetSpecificProficiency)
                             )
                         )
@@ -111,6 +115,16 @@ public class ProficiencyCommand {
                             .executes(ProficiencyCommand::listAllProficiencies)
                         )
                 )
+                .then(
+                    Commands.literal("top")
+                        .then(Commands.argument("type", StringArgumentType.string())
+                            .suggests(TYPE_SUGGESTIONS)
+                            .executes(context -> showTop(context, DEFAULT_TOP_COUNT))
+                            .then(Commands.argument("count", IntegerArgumentType.integer(1, MAX_TOP_COUNT))
+                                .executes(context -> showTop(context, IntegerArgumentType.getInteger(context, "count")))
+                            )
+                        )
+                )
         );
     }
     
@@ -123,170 +137,123 @@ public class ProficiencyCommand {
      */
     private static int getProficiency(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
         ServerPlayer player = EntityArgument.getPlayer(context, "player");
-        String type = StringArgumentType.getString(context, "type").toLowerCase();
-        
-        if (!isValidProficiencyType(type)) {
-            context.getSource().sendFailure(Component.literal("Tipo de proficiência inválido! Use: " + ENGINEERING_TYPE + " ou " + ARCANA_TYPE));
+        ProficiencyType type = resolveType(context);
+        if (type == null) {
             return 0;
         }
         
         PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
-        if (proficiency == null) {
-            context.getSource().sendFailure(Component.literal("Não foi possível acessar as proficiências do jogador " + player.getName().getString()));
-            return 0;
-        }
-        
-        int xp = proficiency.getXpByType(type);
-        int level = proficiency.calculateLevel(xp);
+        long xp = proficiency.getXp(type.index());
+        int level = PlayerProficiency.calculateLevel(xp);
         
         context.getSource().sendSuccess(() -> Component.literal(
             String.format("§6%s§r tem §b%d XP§r de §e%s§r (Nível §a%d§r)", 
-                player.getName().getString(), xp, type, level)
+                player.getName().getString(), xp, type.name(), level)
         ), true);
         
         return 1;
     }
     
     /**
-     * Comando: /proficiency add <jogador> <tipo> <quantidade>
+     * Comando: /proficiency add <jogadores> <tipo> <quantidade>
      * Adiciona (ou remove se negativo) XP de uma proficiência
      * 
      * @param context Contexto do comando
-     * @return Código de retorno do comando
+     * @return Quantidade de jogadores alterados
      */
     private static int addProficiency(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
-        ServerPlayer player = EntityArgument.getPlayer(context, "player");
-        String type = StringArgumentType.getString(context, "type").toLowerCase();
-        int amount = IntegerArgumentType.getInteger(context, "amount");
-        
-        if (!isValidProficiencyType(type)) {
-            context.getSource().sendFailure(Component.literal("Tipo de proficiência inválido! Use: " + ENGINEERING_TYPE + " ou " + ARCANA_TYPE));
-            return 0;
-        }
-        
-        PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
-        if (proficiency == null) {
-            context.getSource().sendFailure(Component.literal("Não foi possível acessar as proficiências do jogador " + player.getName().getString()));
+        Collection<ServerPlayer> targets = EntityArgument.getPlayers(context, "targets");
+        long amount = LongArgumentType.getLong(context, "amount");
+        ProficiencyType type = resolveType(context);
+        if (type == null) {
             return 0;
         }
         
-        int oldXp = proficiency.getXpByType(type);
-        boolean success = proficiency.addXpByType(type, amount);
-        
-        if (!success) {
-            context.getSource().sendFailure(Component.literal("Erro ao modificar proficiência"));
-            return 0;
+        long lastXp = 0;
+        for (ServerPlayer player : targets) {
+            lastXp = ModCapabilities.getPlayerProficiency(player).addXp(type.index(), amount);
+            ProficiencyAccrual.markChanged(player);
         }
         
-        int newXp = proficiency.getXpByType(type);
-        int newLevel = proficiency.calculateLevel(newXp);
-        
         String action = amount >= 0 ? "adicionado" : "removido";
-        context.getSource().sendSuccess(() -> Component.literal(
-            String.format("§6%s XP§r %s para §e%s§r de §6%s§r. Total: §b%d XP§r (Nível §a%d§r)", 
-                Math.abs(amount), action, type, player.getName().getString(), newXp, newLevel)
-        ), true);
+        String message = String.format("§6%s XP§r %s para §e%s§r de %s", 
+            Math.abs(amount), action, type.name(), describeTargets(targets));
+        if (targets.size() == 1) {
+            message += String.format(". Total: §b%d XP§r (Nível §a%d§r)", lastXp, PlayerProficiency.calculateLevel(lastXp));
+        }
+        sendFeedback(context, message);
         
-        return 1;
+        return targets.size();
     }
     
     /**
-     * Comando: /proficiency set <jogador> <tipo> <quantidade>
+     * Comando: /proficiency set <jogadores> <tipo> <quantidade>
      * Define a quantidade exata de XP de uma proficiência
      * 
      * @param context Contexto do comando
-     * @return Código de retorno do comando
+     * @return Quantidade de jogadores alterados
      */
     private static int setProficiency(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
-        ServerPlayer player = EntityArgument.getPlayer(context, "player");
-        String type = StringArgumentType.getString(context, "type").toLowerCase();
-        int amount = IntegerArgumentType.getInteger(context, "amount");
-        
-        if (!isValidProficiencyType(type)) {
-            context.getSource().sendFailure(Component.literal("Tipo de proficiência inválido! Use: " + ENGINEERING_TYPE + " ou " + ARCANA_TYPE));
+        Collection<ServerPlayer> targets = EntityArgument.getPlayers(context, "targets");
+        long amount = LongArgumentType.getLong(context, "amount");
+        ProficiencyType type = resolveType(context);
+        if (type == null) {
             return 0;
         }
         
-        PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
-        if (proficiency == null) {
-            context.getSource().sendFailure(Component.literal("Não foi possível acessar as proficiências do jogador " + player.getName().getString()));
-            return 0;
-        }
-        
-        if (type.equals(ENGINEERING_TYPE)) {
-            proficiency.setEngineeringXp(amount);
-        } else {
-            proficiency.setArcanaXp(amount);
+        for (ServerPlayer player : targets) {
+            ModCapabilities.getPlayerProficiency(player).setXp(type.index(), amount);
+            ProficiencyAccrual.markChanged(player);
         }
         
-        int level = proficiency.calculateLevel(amount);
+        sendFeedback(context, String.format("Proficiência §e%s§r de %s definida para §b%d XP§r (Nível §a%d§r)", 
+            type.name(), describeTargets(targets), amount, PlayerProficiency.calculateLevel(amount)));
         
-        context.getSource().sendSuccess(() -> Component.literal(
-            String.format("Proficiência §e%s§r de §6%s§r definida para §b%d XP§r (Nível §a%d§r)", 
-                type, player.getName().getString(), amount, level)
-        ), true);
-        
-        return 1;
+        return targets.size();
     }
     
     /**
-     * Comando: /proficiency reset <jogador>
-     * Reseta todas as proficiências do jogador para 0
+     * Comando: /proficiency reset <jogadores>
+     * Reseta todas as proficiências dos jogadores para 0
      * 
      * @param context Contexto do comando
-     * @return Código de retorno do comando
+     * @return Quantidade de jogadores alterados
      */
     private static int resetAllProficiency(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
-        ServerPlayer player = EntityArgument.getPlayer(context, "player");
+        Collection<ServerPlayer> targets = EntityArgument.getPlayers(context, "targets");
         
-        PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
-        if (proficiency == null) {
-            context.getSource().sendFailure(Component.literal("Não foi possível acessar as proficiências do jogador " + player.getName().getString()));
-            return 0;
+        for (ServerPlayer player : targets) {
+            ModCapabilities.getPlayerProficiency(player).resetAll();
+            ProficiencyAccrual.markChanged(player);
         }
         
-        proficiency.resetAll();
+        sendFeedback(context, String.format("Todas as proficiências de %s foram resetadas", describeTargets(targets)));
         
-        context.getSource().sendSuccess(() -> Component.literal(
-            String.format("Todas as proficiências de §6%s§r foram resetadas", player.getName().getString())
-        ), true);
-        
-        return 1;
+        return targets.size();
     }
     
     /**
-     * Comando: /proficiency reset <jogador> <tipo>
-     * Reseta uma proficiência específica do jogador para 0
+     * Comando: /proficiency reset <jogadores> <tipo>
+     * Reseta uma proficiência específica dos jogadores para 0
      * 
      * @param context Contexto do comando
-     * @return Código de retorno do comando
+     * @return Quantidade de jogadores alterados
      */
     private static int resetSpecificProficiency(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
-        ServerPlayer player = EntityArgument.getPlayer(context, "player");
-        String type = StringArgumentType.getString(context, "type").toLowerCase();
-        
-        if (!isValidProficiencyType(type)) {
-            context.getSource().sendFailure(Component.literal("Tipo de proficiência inválido! Use: " + ENGINEERING_TYPE + " ou " + ARCANA_TYPE));
-            return 0;
-        }
-        
-        PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
-        if (proficiency == null) {
-            context.getSource().sendFailure(Component.literal("Não foi possível acessar as proficiências do jogador " + player.getName().getString()));
+        Collection<ServerPlayer> targets = EntityArgument.getPlayers(context, "targets");
+        ProficiencyType type = resolveType(context);
+        if (type == null) {
             return 0;
         }
         
-        if (type.equals(ENGINEERING_TYPE)) {
-            proficiency.setEngineeringXp(0);
-        } else {
-            proficiency.setArcanaXp(0);
+        for (ServerPlayer player : targets) {
+            ModCapabilities.getPlayerProficiency(player).setXp(type.index(), 0);
+            ProficiencyAccrual.markChanged(player);
         }
         
-        context.getSource().sendSuccess(() -> Component.literal(
-            String.format("Proficiência §e%s§r de §6%s§r foi resetada", type, player.getName().getString())
-        ), true);
+        sendFeedback(context, String.format("Proficiência §e%s§r de %s foi resetada", type.name(), describeTargets(targets)));
         
-        return 1;
+        return targets.size();
     }
     
     /**
@@ -298,40 +265,99 @@ public class ProficiencyCommand {
      */
     private static int listAllProficiencies(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
         ServerPlayer player = EntityArgument.getPlayer(context, "player");
-        
         PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
-        if (proficiency == null) {
-            context.getSource().sendFailure(Component.literal("Não foi possível acessar as proficiências do jogador " + player.getName().getString()));
-            return 0;
-        }
-        
-        int engXp = proficiency.getEngineeringXp();
-        int engLevel = proficiency.getEngineeringLevel();
-        int arcXp = proficiency.getArcanaXp();
-        int arcLevel = proficiency.getArcanaLevel();
         
         context.getSource().sendSuccess(() -> Component.literal(
             String.format("§6=== Proficiências de %s ===", player.getName().getString())
         ), false);
         
-        context.getSource().sendSuccess(() -> Component.literal(
-            String.format("§e⚙ Engenharia:§r §b%d XP§r (Nível §a%d§r)", engXp, engLevel)
-        ), false);
+        for (ProficiencyType type : ProficiencyTypes.values()) {
+            long xp = proficiency.getXp(type.index());
+            int level = PlayerProficiency.calculateLevel(xp);
+            context.getSource().sendSuccess(() -> Component.literal(
+                String.format("§e%s:§r §b%d XP§r (Nível §a%d§r)", type.displayName(), xp, level)
+            ), false);
+        }
+        
+        return 1;
+    }
+    
+    /**
+     * Comando: /proficiency top <tipo> [n]
+     * Mostra os N jogadores com mais XP em uma proficiência, incluindo os
+     * que estão offline (ProficiencyLeaderboard)
+     * 
+     * @param context Contexto do comando
+     * @param count Quantidade de posições
+     * @return Quantidade de posições exibidas
+     */
+    private static int showTop(CommandContext<CommandSourceStack> context, int count) {
+        ProficiencyType type = resolveType(context);
+        if (type == null) {
+            return 0;
+        }
+        
+        ProficiencyLeaderboard leaderboard = ProficiencyLeaderboard.get(context.getSource().getServer());
+        List<ProficiencyLeaderboard.Entry> top = leaderboard.top(type.index(), count);
         
         context.getSource().sendSuccess(() -> Component.literal(
-            String.format("§e✨ Arcana:§r §b%d XP§r (Nível §a%d§r)", arcXp, arcLevel)
+            String.format("§6=== Ranking de %s (%d jogadores) ===", type.displayName(), leaderboard.size(type.index()))
         ), false);
         
-        return 1;
+        if (top.isEmpty()) {
+            context.getSource().sendSuccess(() -> Component.literal("§7Ninguém tem XP nesta proficiência ainda"), false);
+            return 0;
+        }
+        
+        for (int i = 0; i < top.size(); i++) {
+            ProficiencyLeaderboard.Entry entry = top.get(i);
+            int position = i + 1;
+            context.getSource().sendSuccess(() -> Component.literal(
+                String.format("§e#%d§r %s - §b%d XP§r (Nível §a%d§r)", position,
+                    leaderboard.getName(entry.player()), entry.xp(), PlayerProficiency.calculateLevel(entry.xp()))
+            ), false);
+        }
+        
+        return top.size();
     }
     
     /**
-     * Verifica se um tipo de proficiência é válido
+     * Descreve os alvos de um comando: o nome, se for um só jogador, ou
+     * a quantidade de jogadores
      * 
-     * @param type Tipo a verificar
-     * @return true se for válido, false caso contrário
+     * @param targets Jogadores alvo
+     * @return Texto formatado para a mensagem de retorno
      */
-    private static boolean isValidProficiencyType(String type) {
-        return ENGINEERING_TYPE.equals(type) || ARCANA_TYPE.equals(type);
+    private static String describeTargets(Collection<ServerPlayer> targets) {
+        if (targets.size() == 1) {
+            return "§6" + targets.iterator().next().getName().getString() + "§r";
+        }
+        return "§6" + targets.size() + " jogadores§r";
+    }
+    
+    /**
+     * Envia uma única mensagem de retorno (também para os operadores)
+     * 
+     * @param context Contexto do comando
+     * @param message Mensagem já formatada
+     */
+    private static void sendFeedback(CommandContext<CommandSourceStack> context, String message) {
+        context.getSource().sendSuccess(() -> Component.literal(message), true);
+    }
+    
+    /**
+     * Resolve o argumento "type" para um tipo carregado
+     * Envia a mensagem de erro quando o nome não existe
+     * 
+     * @param context Contexto do comando
+     * @return Tipo de proficiência, ou null se o nome for inválido
+     */
+    @Nullable
+    private static ProficiencyType resolveType(CommandContext<CommandSourceStack> context) {
+        ProficiencyType type = ProficiencyTypes.byName(StringArgumentType.getString(context, "type"));
+        if (type == null) {
+            context.getSource().sendFailure(Component.literal("Tipo de proficiência inválido! Use: " + ProficiencyTypes.validNames()));
+        }
+        return type;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,244 @@
+package com.cronicasaetherium.mod.common.energy;
+
+import com.cronicasaetherium.mod.common.logistics.BlockNetwork;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.Direction;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+
+import java.util.Arrays;
+
+/**
+ * Rede de energia formada por cabos conectados
+ *
+ * A topologia é resolvida uma única vez, na construção da rede pelo
+ * EnergyGridManager: os armazenamentos de energia dos blocos encostados
+ * nos cabos ficam guardados em arrays planos de produtores, consumidores
+ * e baterias. A distribuição de cada tick é só uma passada por esses
+ * arrays, sem nenhuma consulta de capability por par de blocos.
+ *
+ * A rede é descartada (e reconstruída pelo gerenciador) quando um cabo
+ * muda, quando um chunk com cabos descarrega ou quando a capability de
+ * algum ponto conectado é invalidada.
+ */
+public class EnergyGrid extends BlockNetwork {
+
+    // Posições dos blocos conectados (BlockPos.asLong)
+    final LongOpenHashSet endpoints = new LongOpenHashSet();
+
+    // Pontos por papel; armazenamentos que fornecem e recebem são baterias
+    private final Group producers = new Group();
+    private final Group consumers = new Group();
+    private final Group buffers = new Group();
+
+    // Mantém os caches vivos: são eles que avisam quando um ponto muda
+    private BlockCapabilityCache<?, ?>[] caches = new BlockCapabilityCache<?, ?>[8];
+    private int cacheCount;
+
+    // Destino que recebe primeiro as sobras do arredondamento
+    private int cursor;
+
+    /**
+     * Conecta um bloco com energia à rede
+     *
+     * @param cache Cache da capability (mantido vivo pela rede)
+     * @param storage Armazenamento resolvido na construção
+     */
+    void addEndpoint(BlockCapabilityCache<IEnergyStorage, Direction> cache, IEnergyStorage storage) {
+        if (cacheCount == caches.length) {
+            caches = Arrays.copyOf(caches, cacheCount * 2);
+        }
+        caches[cacheCount++] = cache;
+
+        if (storage.canExtract() && storage.canReceive()) {
+            buffers.add(storage);
+        } else if (storage.canExtract()) {
+            producers.add(storage);
+        } else if (storage.canReceive()) {
+            consumers.add(storage);
+        }
+    }
+
+    /**
+     * Move energia dos produtores para os consumidores
+     *
+     * A produção atende primeiro os consumidores; as baterias cobrem o que
+     * faltar e guardam o que sobrar. Baterias nunca trocam energia entre
+     * si.
+     */
+    void distribute() {
+        boolean offered = false;
+        if (consumers.count > 0 && consumers.simulateReceive() > 0) {
+            if (producers.count > 0) {
+                producers.simulateExtract();
+                offered = true;
+                transfer(producers, consumers);
+            }
+            if (buffers.count > 0) {
+                buffers.simulateExtract();
+                transfer(buffers, consumers);
+            }
+        }
+
+        if (buffers.count > 0 && producers.count > 0) {
+            if (!offered) {
+                producers.simulateExtract();
+            }
+            buffers.simulateReceive();
+            transfer(producers, buffers);
+        }
+        cursor = (cursor + 1) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Move energia de um grupo de origens para um grupo de destinos
+     *
+     * Cada destino recebe uma parte proporcional ao que pediu; as sobras
+     * do arredondamento vão para os destinos em rodízio.
+     */
+    private void transfer(Group from, Group to) {
+        long supply = from.total();
+        long demand = to.total();
+        if (supply == 0 || demand == 0) {
+            return;
+        }
+
+        long moved = 0;
+        if (supply >= demand) {
+            for (int i = 0; i < to.count; i++) {
+                moved += deliver(from, to, i, to.amounts[i]);
+            }
+        } else {
+            for (int i = 0; i < to.count; i++) {
+                moved += deliver(from, to, i, (int) ((double) to.amounts[i] * supply / demand));
+            }
+            int start = cursor % to.count;
+            for (int k = 0; k < to.count && moved < supply; k++) {
+                int i = (start + k) % to.count;
+                moved += deliver(from, to, i, (int) Math.min(supply - moved, to.amounts[i]));
+            }
+        }
+    }
+
+    /**
+     * Entrega energia das origens a um destino
+     *
+     * A simulação do destino é refeita logo antes, já com o que os
+     * destinos anteriores receberam (o mesmo armazenamento pode estar
+     * encostado na rede por mais de um lado), e só sai das origens o que
+     * ela garante.
+     *
+     * Se o destino ainda assim recusar parte da entrega, a sobra volta
+     * para as baterias da rede e depois para as origens que aceitam
+     * energia. Produtores puros (o motor a vapor, por exemplo) não
+     * recebem nada de volta; o que nenhum deles aceitar se perde.
+     *
+     * @return Energia recebida pelo destino
+     */
+    private int deliver(Group from, Group to, int index, int amount) {
+        if (amount <= 0) {
+            return 0;
+        }
+        IEnergyStorage target = to.storages[index];
+        int accepted = target.receiveEnergy(amount, true);
+
+        int taken = 0;
+        for (int i = 0; i < from.count && taken < accepted; i++) {
+            if (from.amounts[i] <= 0) {
+                continue;
+            }
+            int ask = Math.min(from.amounts[i], accepted - taken);
+            int got = from.storages[i].extractEnergy(ask, false);
+            from.amounts[i] = got < ask ? 0 : from.amounts[i] - got;
+            taken += got;
+        }
+        if (taken == 0) {
+            to.amounts[index] = 0;
+            return 0;
+        }
+
+        int received = target.receiveEnergy(taken, false);
+        to.amounts[index] = received < amount ? 0 : to.amounts[index] - received;
+        if (received < taken) {
+            // O destino recusou o que a própria simulação aceitou
+            refund(from, taken - received);
+        }
+        return received;
+    }
+
+    /**
+     * Devolve energia já extraída que nenhum destino recebeu
+     *
+     * @param from Origens da entrega
+     * @param amount Energia a devolver
+     */
+    private void refund(Group from, int amount) {
+        int left = amount;
+        for (int i = 0; i < buffers.count && left > 0; i++) {
+            left -= buffers.storages[i].receiveEnergy(left, false);
+        }
+        if (from != buffers) {
+            for (int i = 0; i < from.count && left > 0; i++) {
+                if (from.storages[i].canReceive()) {
+                    left -= from.storages[i].receiveEnergy(left, false);
+                }
+            }
+        }
+        // O que sobrar aqui se perde: nenhum ponto da rede consegue guardá-lo
+    }
+
+    public int getProducerCount() {
+        return producers.count;
+    }
+
+    public int getConsumerCount() {
+        return consumers.count;
+    }
+
+    public int getBufferCount() {
+        return buffers.count;
+    }
+
+    /**
+     * Armazenamentos de um papel, com a oferta ou o pedido de cada um no tick
+     */
+    private static final class Group {
+        private IEnergyStorage[] storages = new IEnergyStorage[4];
+        private int[] amounts = new int[4];
+        private int count;
+
+        private void add(IEnergyStorage storage) {
+            if (count == storages.length) {
+                storages = Arrays.copyOf(storages, count * 2);
+                amounts = new int[storages.length];
+            }
+            storages[count++] = storage;
+        }
+
+        private long simulateExtract() {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                amounts[i] = storages[i].extractEnergy(Integer.MAX_VALUE, true);
+                total += amounts[i];
+            }
+            return total;
+        }
+
+        private long simulateReceive() {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                amounts[i] = storages[i].receiveEnergy(Integer.MAX_VALUE, true);
+                total += amounts[i];
+            }
+            return total;
+        }
+
+        private long total() {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += amounts[i];
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cronicasaetherium.mod.common.energy;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.blocks.tech.EnergyCableBlock;
+import com.cronicasaetherium.mod.common.logistics.BlockNetworkManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Gerenciador das redes de energia de um mundo
+ *
+ * A manutenção da topologia (mapa cabo → rede, reconstrução das redes
+ * afetadas, chunks carregados e descarregados) fica no
+ * BlockNetworkManager; aqui só se decide o que é um cabo, como um
+ * armazenamento de energia entra na rede e a distribuição de cada tick.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class EnergyGridManager extends BlockNetworkManager<EnergyGrid, IEnergyStorage> {
+
+    // Um gerenciador por mundo carregado
+    private static final Registry<EnergyGridManager> MANAGERS = new Registry<>(EnergyGridManager::new);
+
+    private EnergyGridManager(ServerLevel level) {
+        super(level, Capabilities.EnergyStorage.BLOCK);
+    }
+
+    /**
+     * Obtém o gerenciador de um mundo
+     *
+     * @param level Mundo do servidor
+     * @return Gerenciador do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static EnergyGridManager get(ServerLevel level) {
+        return MANAGERS.get(level);
+    }
+
+    @Override
+    protected boolean isMember(BlockState state) {
+        return state.getBlock() instanceof EnergyCableBlock;
+    }
+
+    @Override
+    protected EnergyGrid createNetwork() {
+        return new EnergyGrid();
+    }
+
+    @Override
+    protected boolean isConnected(EnergyGrid grid, long cable, long pos) {
+        return grid.endpoints.contains(pos);
+    }
+
+    @Override
+    protected void attach(EnergyGrid grid, long cable, BlockPos pos, BlockCapabilityCache<IEnergyStorage, Direction> cache, IEnergyStorage storage) {
+        grid.endpoints.add(pos.asLong());
+        grid.addEndpoint(cache, storage);
+    }
+
+    @Override
+    protected void tickNetwork(EnergyGrid grid) {
+        grid.distribute();
+    }
+
+    /**
+     * Total de produtores, consumidores e baterias conectados neste mundo
+     */
+    public int getEndpointCount() {
+        int count = 0;
+        for (EnergyGrid grid : networks) {
+            count += grid.getProducerCount() + grid.getConsumerCount() + grid.getBufferCount();
+        }
+        return count;
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        MANAGERS.onLevelLoad(event);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        MANAGERS.onLevelTick(event);
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        MANAGERS.onChunkLoad(event);
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        MANAGERS.onChunkUnload(event);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        MANAGERS.onLevelUnload(event);
+    }
+}
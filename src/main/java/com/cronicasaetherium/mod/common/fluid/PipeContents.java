@@ -0,0 +1,71 @@
+package com.cronicasaetherium.mod.common.fluid;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.neoforged.neoforge.fluids.FluidStack;
+
+/**
+ * Fluido dos canos de um mundo, salvo como SavedData
+ *
+ * Os canos não possuem BlockEntity: o fluido de um segmento vive no
+ * tanque compartilhado, e o de um segmento descartado fica repartido por
+ * cano até que um segmento novo o recolha. Canos em chunks descarregados
+ * guardam a sua parte aqui até o chunk voltar. No salvamento, o tanque de
+ * cada segmento ativo é repartido da mesma forma, então o fluido
+ * sobrevive ao descarregamento do chunk e ao reinício do servidor.
+ */
+class PipeContents extends SavedData {
+
+    static final String DATA_NAME = CronicasAetherium.MODID + "_pipes";
+
+    // Fluido por cano (BlockPos.asLong) fora de um segmento ativo
+    final Long2ObjectOpenHashMap<FluidStack> residual = new Long2ObjectOpenHashMap<>();
+
+    // Gerenciador do mundo, que reparte os tanques ativos no salvamento
+    PipeNetworkManager manager;
+
+    /**
+     * Salva a parte de cada cano, dos segmentos ativos e dos descartados
+     */
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag pipes = new ListTag();
+        if (manager != null) {
+            for (Long2ObjectMap.Entry<FluidStack> entry : manager.shareActive().long2ObjectEntrySet()) {
+                pipes.add(writePipe(entry.getLongKey(), entry.getValue(), registries));
+            }
+        }
+        for (Long2ObjectMap.Entry<FluidStack> entry : residual.long2ObjectEntrySet()) {
+            pipes.add(writePipe(entry.getLongKey(), entry.getValue(), registries));
+        }
+        tag.put("pipes", pipes);
+        return tag;
+    }
+
+    private static CompoundTag writePipe(long pos, FluidStack fluid, HolderLookup.Provider registries) {
+        CompoundTag entry = new CompoundTag();
+        entry.putLong("pos", pos);
+        entry.put("fluid", fluid.save(registries));
+        return entry;
+    }
+
+    /**
+     * Carrega o fluido salvo; os segmentos o recolhem quando seus chunks carregam
+     */
+    static PipeContents load(CompoundTag tag, HolderLookup.Provider registries) {
+        PipeContents contents = new PipeContents();
+        ListTag pipes = tag.getList("pipes", Tag.TAG_COMPOUND);
+        for (int i = 0; i < pipes.size(); i++) {
+            CompoundTag entry = pipes.getCompound(i);
+            FluidStack.parse(registries, entry.getCompound("fluid")).ifPresent(fluid ->
+                contents.residual.put(entry.getLong("pos"), fluid));
+        }
+        return contents;
+    }
+}
@@ -0,0 +1,229 @@
+package com.cronicasaetherium.mod.common.fluid;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.blocks.tech.BronzePipeBlock;
+import com.cronicasaetherium.mod.common.logistics.BlockNetworkManager;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Gerenciador dos segmentos de canos de um mundo
+ *
+ * A manutenção da topologia fica no BlockNetworkManager. Ao descartar um
+ * segmento, o fluido dele é repartido entre os canos e devolvido aos
+ * segmentos que os absorverem, então remover um cano do meio de uma
+ * linha não esvazia as duas metades.
+ *
+ * A parte de canos em chunks descarregados espera o chunk voltar, e tudo
+ * é salvo como SavedData (PipeContents). Só se perde o fluido de canos
+ * que foram removidos.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class PipeNetworkManager extends BlockNetworkManager<PipeSegment, IFluidHandler> {
+
+    // Um gerenciador por mundo carregado
+    private static final Registry<PipeNetworkManager> MANAGERS = new Registry<>(PipeNetworkManager::new);
+
+    // Fluido fora de segmentos ativos, repartido por cano, e salvo com o mundo
+    private final PipeContents contents;
+    // Um cano foi removido: fluido sem cano deve ser descartado
+    private boolean checkStranded;
+
+    private PipeNetworkManager(ServerLevel level) {
+        super(level, Capabilities.FluidHandler.BLOCK);
+        this.contents = level.getDataStorage().computeIfAbsent(
+            new SavedData.Factory<>(PipeContents::new, PipeContents::load, null), PipeContents.DATA_NAME);
+        this.contents.manager = this;
+    }
+
+    /**
+     * Obtém o gerenciador de um mundo
+     *
+     * @param level Mundo do servidor
+     * @return Gerenciador do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static PipeNetworkManager get(ServerLevel level) {
+        return MANAGERS.get(level);
+    }
+
+    /**
+     * Tanque do segmento de um cano, exposto como capability do bloco
+     *
+     * @param pos Posição do cano
+     * @return Tanque compartilhado ou null se o segmento ainda não foi montado
+     */
+    @Nullable
+    public IFluidHandler getHandler(BlockPos pos) {
+        PipeSegment segment = networkAt(pos.asLong());
+        return segment != null ? segment.getTank() : null;
+    }
+
+    @Override
+    public void onMemberChanged(BlockPos pos) {
+        super.onMemberChanged(pos);
+        checkStranded = true;
+    }
+
+    @Override
+    protected boolean isMember(BlockState state) {
+        return state.getBlock() instanceof BronzePipeBlock;
+    }
+
+    @Override
+    protected PipeSegment createNetwork() {
+        return new PipeSegment();
+    }
+
+    @Override
+    protected boolean isConnected(PipeSegment segment, long pipe, long pos) {
+        return segment.outputs.contains(pos);
+    }
+
+    @Override
+    protected void attach(PipeSegment segment, long pipe, BlockPos pos, BlockCapabilityCache<IFluidHandler, Direction> cache, IFluidHandler target) {
+        segment.outputs.add(pos.asLong());
+        segment.addTarget(cache, target);
+    }
+
+    @Override
+    protected void tickNetwork(PipeSegment segment) {
+        segment.push();
+        // Segmento parado (cheio, alimentando um motor cheio) não precisa ser salvo de novo
+        if (segment.pollChanged()) {
+            contents.setDirty();
+        }
+    }
+
+    /**
+     * Reparte o fluido do segmento descartado entre os canos dele
+     */
+    @Override
+    protected void onDissolved(PipeSegment segment) {
+        split(segment, contents.residual);
+        contents.setDirty();
+
+        LongIterator iterator = segment.getMembers().iterator();
+        while (iterator.hasNext()) {
+            // Quem guardou o tanque antigo em cache precisa buscar o novo
+            level.invalidateCapabilities(BlockPos.of(iterator.nextLong()));
+        }
+    }
+
+    /**
+     * Reparte o tanque de um segmento em partes iguais por cano
+     *
+     * @param segment Segmento
+     * @param into Mapa cano → fluido que recebe as partes
+     */
+    private static void split(PipeSegment segment, Long2ObjectMap<FluidStack> into) {
+        FluidStack fluid = segment.getTank().getFluid();
+        if (fluid.isEmpty()) {
+            return;
+        }
+        int share = fluid.getAmount() / segment.getMemberCount();
+        int extra = fluid.getAmount() % segment.getMemberCount();
+
+        LongIterator iterator = segment.getMembers().iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            int amount = share + (extra-- > 0 ? 1 : 0);
+            if (amount > 0) {
+                into.put(pos, fluid.copyWithAmount(amount));
+            }
+        }
+    }
+
+    /**
+     * Partes por cano dos segmentos ativos, sem descartá-los (salvamento)
+     */
+    Long2ObjectOpenHashMap<FluidStack> shareActive() {
+        Long2ObjectOpenHashMap<FluidStack> shares = new Long2ObjectOpenHashMap<>();
+        for (PipeSegment segment : networks) {
+            split(segment, shares);
+        }
+        return shares;
+    }
+
+    /**
+     * Recupera o fluido dos segmentos antigos que formavam este
+     */
+    @Override
+    protected void onBuilt(PipeSegment segment) {
+        segment.resize();
+        LongIterator iterator = segment.getMembers().iterator();
+        while (iterator.hasNext()) {
+            FluidStack leftover = contents.residual.remove(iterator.nextLong());
+            if (leftover != null) {
+                segment.getTank().fill(leftover, IFluidHandler.FluidAction.EXECUTE);
+                contents.setDirty();
+            }
+        }
+    }
+
+    /**
+     * Descarta o fluido de canos removidos
+     *
+     * Canos em chunks descarregados guardam a sua parte até o chunk voltar.
+     */
+    @Override
+    protected void onRebuilt() {
+        if (!checkStranded) {
+            return;
+        }
+        checkStranded = false;
+
+        ObjectIterator<Long2ObjectMap.Entry<FluidStack>> iterator = contents.residual.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = BlockPos.of(iterator.next().getLongKey());
+            if (level.isLoaded(pos) && !isMember(level.getBlockState(pos))) {
+                iterator.remove();
+                contents.setDirty();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        MANAGERS.onLevelLoad(event);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        MANAGERS.onLevelTick(event);
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        MANAGERS.onChunkLoad(event);
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        MANAGERS.onChunkUnload(event);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        MANAGERS.onLevelUnload(event);
+    }
+}
@@ -0,0 +1,120 @@
+package com.cronicasaetherium.mod.common.fluid;
+
+import com.cronicasaetherium.mod.common.logistics.BlockNetwork;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.Direction;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import net.neoforged.neoforge.fluids.capability.templates.FluidTank;
+
+import java.util.Arrays;
+
+/**
+ * Segmento de canos de bronze conectados
+ *
+ * Todos os canos de um segmento compartilham um único tanque, com
+ * capacidade proporcional ao número de canos. Um cano longo é simulado
+ * como um só tanque, e não bloco a bloco: a vazão não depende do
+ * comprimento, e o custo por tick depende apenas de quantas saídas o
+ * segmento alimenta.
+ *
+ * As saídas (blocos com IFluidHandler encostados nos canos) são
+ * resolvidas uma vez, na construção do segmento pelo PipeNetworkManager.
+ */
+public class PipeSegment extends BlockNetwork {
+
+    public static final int CAPACITY_PER_PIPE = 250; // mB por cano
+    public static final int TRANSFER_PER_TICK = 100; // mB por saída por tick
+
+    // Posições das saídas (BlockPos.asLong)
+    final LongOpenHashSet outputs = new LongOpenHashSet();
+
+    private final FluidTank tank = new FluidTank(0) {
+        @Override
+        protected void onContentsChanged() {
+            contentsChanged = true;
+        }
+    };
+    // O tanque mudou (saídas, enchimento ou drenagem externos) desde a última consulta
+    private boolean contentsChanged;
+
+    private IFluidHandler[] targets = new IFluidHandler[4];
+    private int targetCount;
+
+    // Mantém os caches vivos: são eles que avisam quando uma saída muda
+    private BlockCapabilityCache<?, ?>[] caches = new BlockCapabilityCache<?, ?>[4];
+
+    // Saída que recebe primeiro no próximo tick (rodízio)
+    private int cursor;
+
+    /**
+     * Conecta uma saída ao segmento
+     *
+     * @param cache Cache da capability (mantido vivo pelo segmento)
+     * @param target Handler resolvido na construção
+     */
+    void addTarget(BlockCapabilityCache<IFluidHandler, Direction> cache, IFluidHandler target) {
+        if (targetCount == targets.length) {
+            targets = Arrays.copyOf(targets, targetCount * 2);
+            caches = Arrays.copyOf(caches, targetCount * 2);
+        }
+        caches[targetCount] = cache;
+        targets[targetCount++] = target;
+    }
+
+    /**
+     * Ajusta a capacidade ao número de canos, sem perder o que couber
+     */
+    void resize() {
+        tank.setCapacity(getMemberCount() * CAPACITY_PER_PIPE);
+        if (tank.getFluidAmount() > tank.getCapacity()) {
+            tank.getFluid().setAmount(tank.getCapacity());
+        }
+    }
+
+    /**
+     * Empurra o conteúdo do tanque para as saídas, em rodízio
+     */
+    void push() {
+        if (targetCount == 0 || tank.isEmpty()) {
+            return;
+        }
+
+        for (int k = 0; k < targetCount && !tank.isEmpty(); k++) {
+            int i = (cursor + k) % targetCount;
+            FluidStack offer = tank.getFluid().copyWithAmount(Math.min(tank.getFluidAmount(), TRANSFER_PER_TICK));
+            int filled = targets[i].fill(offer, IFluidHandler.FluidAction.EXECUTE);
+            if (filled > 0) {
+                tank.drain(filled, IFluidHandler.FluidAction.EXECUTE);
+            }
+        }
+        cursor = (cursor + 1) % targetCount;
+    }
+
+    /**
+     * Consome o aviso de mudança do tanque
+     *
+     * @return true se algum fluido entrou ou saiu desde a última chamada
+     */
+    boolean pollChanged() {
+        boolean changed = contentsChanged;
+        contentsChanged = false;
+        return changed;
+    }
+
+    /**
+     * Tanque compartilhado, exposto como IFluidHandler em todos os canos
+     */
+    public FluidTank getTank() {
+        return tank;
+    }
+
+    public int getPipeCount() {
+        return getMemberCount();
+    }
+
+    public int getTargetCount() {
+        return targetCount;
+    }
+}
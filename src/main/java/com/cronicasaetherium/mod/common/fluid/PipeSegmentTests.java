@@ -0,0 +1,82 @@
+package com.cronicasaetherium.mod.common.fluid;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.blocks.tech.SteamEngineBlockEntity;
+import com.cronicasaetherium.mod.registry.ModBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * GameTests dos segmentos de canos
+ *
+ * Um segmento é um único tanque, então a vazão entregue a um motor a
+ * vapor não pode depender do comprimento da linha de canos.
+ */
+@GameTestHolder(CronicasAetherium.MODID)
+@PrefixGameTestTemplate(false)
+public class PipeSegmentTests {
+
+    // Comprimentos das linhas, uma por z; a mais longa ocupa quase toda a estrutura
+    private static final int[] LENGTHS = {1, 6, 14};
+
+    // Ticks até o segmento ser montado e os canos encherem, e ticks medidos
+    private static final int WARMUP_TICKS = 10;
+    private static final int MEASURE_TICKS = 20;
+
+    /**
+     * Linhas de comprimentos diferentes, alimentadas sem limite pelo
+     * primeiro cano, entregam a mesma vazão ao motor no fim da linha
+     */
+    @GameTest(template = "empty")
+    public static void throughputDoesNotDependOnLength(GameTestHelper helper) {
+        BlockPos[] sources = new BlockPos[LENGTHS.length];
+        BlockPos[] engines = new BlockPos[LENGTHS.length];
+        for (int line = 0; line < LENGTHS.length; line++) {
+            int z = 1 + line * 3; // Linhas separadas para não formarem um só segmento
+            for (int x = 0; x < LENGTHS[line]; x++) {
+                helper.setBlock(new BlockPos(x, 1, z), ModBlocks.BRONZE_PIPE.get());
+            }
+            engines[line] = new BlockPos(LENGTHS[line], 1, z);
+            helper.setBlock(engines[line], ModBlocks.STEAM_ENGINE.get());
+            sources[line] = helper.absolutePos(new BlockPos(0, 1, z));
+        }
+
+        // Mantém o primeiro cano de cada linha cheio (null até o segmento ser montado)
+        helper.onEachTick(() -> {
+            for (BlockPos source : sources) {
+                IFluidHandler pipe = helper.getLevel().getCapability(Capabilities.FluidHandler.BLOCK, source, null);
+                if (pipe != null) {
+                    pipe.fill(new FluidStack(Fluids.WATER, 1000), IFluidHandler.FluidAction.EXECUTE);
+                }
+            }
+        });
+
+        int[] before = new int[LENGTHS.length];
+        helper.runAtTickTime(WARMUP_TICKS, () -> {
+            for (int line = 0; line < LENGTHS.length; line++) {
+                before[line] = waterIn(helper, engines[line]);
+            }
+        });
+        helper.runAtTickTime(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            int expected = MEASURE_TICKS * PipeSegment.TRANSFER_PER_TICK;
+            for (int line = 0; line < LENGTHS.length; line++) {
+                int delivered = waterIn(helper, engines[line]) - before[line];
+                helper.assertTrue(delivered == expected, "Linha de " + LENGTHS[line] + " canos entregou "
+                    + delivered + " mB em " + MEASURE_TICKS + " ticks, esperado " + expected);
+            }
+            helper.succeed();
+        });
+    }
+
+    private static int waterIn(GameTestHelper helper, BlockPos engine) {
+        SteamEngineBlockEntity blockEntity = helper.getBlockEntity(engine);
+        return blockEntity.getWaterLevel();
+    }
+}
@@ -6,9 +6,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.SimpleContainerData;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -33,19 +31,18 @@ import net.neoforged.neoforge.items.SlotItemHandler;
  * - Slots 3-29: Inventário do jogador (hotbar)
  * - Slots 30-38: Inventário do jogador (9 slots principais)
  */
-public class ManaInfuserMenu extends AbstractContainerMenu {
+public class ManaInfuserMenu extends AbstractContainerMenu implements MenuSync.Holder {
     
     private final ManaInfuserBlockEntity blockEntity;
     private final ContainerLevelAccess levelAccess;
-    private final ContainerData data;
+    private final MenuSync sync;
     
-    // Índices dos dados sincronizados
+    // Índices dos campos sincronizados (ordem de registro no MenuSync)
     private static final int DATA_ENERGY = 0;
     private static final int DATA_MAX_ENERGY = 1;
     private static final int DATA_PROGRESS = 2;
     private static final int DATA_IS_PROCESSING = 3;
     private static final int DATA_MANA_LEVEL = 4; // Para futuro sistema de mana
-    private static final int DATA_COUNT = 5;
     
     /**
      * Construtor para o servidor
@@ -54,7 +51,12 @@ public class ManaInfuserMenu extends AbstractContainerMenu {
         super(ModMenuTypes.MANA_INFUSER.get(), containerId);
         this.blockEntity = blockEntity;
         this.levelAccess = ContainerLevelAccess.create(blockEntity.getLevel(), blockEntity.getBlockPos());
-        this.data = new SimpleContainerData(DATA_COUNT);
+        this.sync = new MenuSync(containerId, playerInventory.player);
+        sync.trackInt(blockEntity::getEnergyStored, true);    // DATA_ENERGY
+        sync.trackInt(blockEntity::getMaxEnergy, false);      // DATA_MAX_ENERGY
+        sync.trackInt(blockEntity::getProcessProgress, true); // DATA_PROGRESS
+        sync.trackBoolean(blockEntity::isProcessing);         // DATA_IS_PROCESSING
+        sync.trackInt(() -> 0, false);                        // DATA_MANA_LEVEL - TODO: Implementar sistema de mana
         
         // Adiciona slots da máquina (simulados - inventário real ainda não implementado)
         // TODO: Implementar quando o sistema de inventário for adicionado à ManaInfuserBlockEntity
@@ -69,9 +71,6 @@ public class ManaInfuserMenu extends AbstractContainerMenu {
         
         // Adiciona slots do jogador
         addPlayerInventory(playerInventory);
-        
-        // Adiciona container data para sincronização
-        addDataSlots(this.data);
     }
     
     /**
@@ -146,26 +145,34 @@ public class ManaInfuserMenu extends AbstractContainerMenu {
     }
     
     /**
-     * Atualiza os dados sincronizados a cada tick
+     * Envia ao cliente apenas os campos que mudaram
      */
     @Override
     public void broadcastChanges() {
         super.broadcastChanges();
-        
-        // Atualiza dados da BlockEntity
-        data.set(DATA_ENERGY, blockEntity.getEnergyStored());
-        data.set(DATA_MAX_ENERGY, blockEntity.getMaxEnergy());
-        data.set(DATA_PROGRESS, blockEntity.getProcessProgress());
-        data.set(DATA_IS_PROCESSING, blockEntity.isProcessing() ? 1 : 0);
-        data.set(DATA_MANA_LEVEL, 0); // TODO: Implementar sistema de mana
+        sync.broadcast();
+    }
+    
+    /**
+     * Envia todos os campos (abertura do menu e ressincronizações)
+     */
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcastAll();
+    }
+    
+    @Override
+    public MenuSync getMenuSync() {
+        return sync;
     }
     
     // Getters para a GUI acessar os dados sincronizados
-    public int getEnergyStored() { return data.get(DATA_ENERGY); }
-    public int getMaxEnergy() { return data.get(DATA_MAX_ENERGY); }
-    public int getProcessProgress() { return data.get(DATA_PROGRESS); }
-    public boolean isProcessing() { return data.get(DATA_IS_PROCESSING) == 1; }
-    public int getManaLevel() { return data.get(DATA_MANA_LEVEL); }
+    public int getEnergyStored() { return sync.getInt(DATA_ENERGY); }
+    public int getMaxEnergy() { return sync.getInt(DATA_MAX_ENERGY); }
+    public int getProcessProgress() { return sync.getInt(DATA_PROGRESS); }
+    public boolean isProcessing() { return sync.getBoolean(DATA_IS_PROCESSING); }
+    public int getManaLevel() { return sync.getInt(DATA_MANA_LEVEL); }
     
     /**
      * Calcula a altura da barra de energia para renderização
@@ -173,7 +180,7 @@ public class ManaInfuserMenu extends AbstractContainerMenu {
     public int getEnergyBarHeight() {
         int maxHeight = 52; // Altura máxima da barra em pixels
         if (getMaxEnergy() == 0) return 0;
-        return (getEnergyStored() * maxHeight) / getMaxEnergy();
+        return (int) ((long) getEnergyStored() * maxHeight / getMaxEnergy());
     }
     
     /**
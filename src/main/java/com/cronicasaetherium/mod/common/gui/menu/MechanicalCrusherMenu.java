@@ -6,9 +6,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.SimpleContainerData;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -33,18 +31,17 @@ import net.neoforged.neoforge.items.SlotItemHandler;
  * - Slots 3-29: Inventário do jogador (hotbar)
  * - Slots 30-38: Inventário do jogador (9 slots principais)
  */
-public class MechanicalCrusherMenu extends AbstractContainerMenu {
+public class MechanicalCrusherMenu extends AbstractContainerMenu implements MenuSync.Holder {
     
     private final MechanicalCrusherBlockEntity blockEntity;
     private final ContainerLevelAccess levelAccess;
-    private final ContainerData data;
+    private final MenuSync sync;
     
-    // Índices dos dados sincronizados
+    // Índices dos campos sincronizados (ordem de registro no MenuSync)
     private static final int DATA_ENERGY = 0;
     private static final int DATA_MAX_ENERGY = 1;
     private static final int DATA_PROGRESS = 2;
     private static final int DATA_IS_PROCESSING = 3;
-    private static final int DATA_COUNT = 4;
     
     /**
      * Construtor para o servidor
@@ -53,7 +50,11 @@ public class MechanicalCrusherMenu extends AbstractContainerMenu {
         super(ModMenuTypes.MECHANICAL_CRUSHER.get(), containerId);
         this.blockEntity = blockEntity;
         this.levelAccess = ContainerLevelAccess.create(blockEntity.getLevel(), blockEntity.getBlockPos());
-        this.data = new SimpleContainerData(DATA_COUNT);
+        this.sync = new MenuSync(containerId, playerInventory.player);
+        sync.trackInt(blockEntity::getEnergyStored, true);    // DATA_ENERGY
+        sync.trackInt(blockEntity::getMaxEnergy, false);      // DATA_MAX_ENERGY
+        sync.trackInt(blockEntity::getProcessProgress, true); // DATA_PROGRESS
+        sync.trackBoolean(blockEntity::isProcessing);         // DATA_IS_PROCESSING
         
         // Adiciona slots da máquina
         addSlot(new SlotItemHandler(blockEntity.getInventory(), 0, 56, 35)); // Entrada
@@ -62,9 +63,6 @@ public class MechanicalCrusherMenu extends AbstractContainerMenu {
         
         // Adiciona slots do jogador
         addPlayerInventory(playerInventory);
-        
-        // Adiciona container data para sincronização
-        addDataSlots(this.data);
     }
     
     /**
@@ -139,24 +137,33 @@ public class MechanicalCrusherMenu extends AbstractContainerMenu {
     }
     
     /**
-     * Atualiza os dados sincronizados a cada tick
+     * Envia ao cliente apenas os campos que mudaram
      */
     @Override
     public void broadcastChanges() {
         super.broadcastChanges();
-        
-        // Atualiza dados da BlockEntity
-        data.set(DATA_ENERGY, blockEntity.getEnergyStored());
-        data.set(DATA_MAX_ENERGY, blockEntity.getMaxEnergy());
-        data.set(DATA_PROGRESS, blockEntity.getProcessProgress());
-        data.set(DATA_IS_PROCESSING, blockEntity.isProcessing() ? 1 : 0);
+        sync.broadcast();
+    }
+    
+    /**
+     * Envia todos os campos (abertura do menu e ressincronizações)
+     */
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcastAll();
+    }
+    
+    @Override
+    public MenuSync getMenuSync() {
+        return sync;
     }
     
     // Getters para a GUI acessar os dados sincronizados
-    public int getEnergyStored() { return data.get(DATA_ENERGY); }
-    public int getMaxEnergy() { return data.get(DATA_MAX_ENERGY); }
-    public int getProcessProgress() { return data.get(DATA_PROGRESS); }
-    public boolean isProcessing() { return data.get(DATA_IS_PROCESSING) == 1; }
+    public int getEnergyStored() { return sync.getInt(DATA_ENERGY); }
+    public int getMaxEnergy() { return sync.getInt(DATA_MAX_ENERGY); }
+    public int getProcessProgress() { return sync.getInt(DATA_PROGRESS); }
+    public boolean isProcessing() { return sync.getBoolean(DATA_IS_PROCESSING); }
     
     /**
      * Calcula a altura da barra de energia para renderização
@@ -164,7 +171,7 @@ public class MechanicalCrusherMenu extends AbstractContainerMenu {
     public int getEnergyBarHeight() {
         int maxHeight = 52; // Altura máxima da barra em pixels
         if (getMaxEnergy() == 0) return 0;
-        return (getEnergyStored() * maxHeight) / getMaxEnergy();
+        return (int) ((long) getEnergyStored() * maxHeight / getMaxEnergy());
     }
     
     /**
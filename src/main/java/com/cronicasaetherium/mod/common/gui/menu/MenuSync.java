@@ -0,0 +1,198 @@
+package com.cronicasaetherium.mod.common.gui.menu;
+
+import com.cronicasaetherium.mod.common.network.MenuSyncPayload;
+import com.cronicasaetherium.mod.config.ModConfig;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Sincronização dos valores exibidos por um menu de máquina
+ *
+ * Substitui o ContainerData do vanilla, que envia cada valor como short
+ * (truncando energia acima de 32767) e que os menus reescreviam por
+ * completo a cada tick. Aqui cada campo é registrado uma vez com a sua
+ * fonte; a cada broadcastChanges apenas os campos cujo valor mudou são
+ * enviados, juntos, em um único MenuSyncPayload com inteiros de tamanho
+ * variável. Constantes, como a capacidade máxima, só vão no envio
+ * completo da abertura do menu.
+ *
+ * Campos de barras que mudam quase todo tick (energia, progresso) podem
+ * ser limitados: só são conferidos a cada menuSyncInterval ticks. Campos
+ * de estado (ativo, processando) são enviados assim que mudam.
+ *
+ * No cliente a mesma instância apenas guarda os valores recebidos.
+ */
+public class MenuSync {
+
+    // Máximo de campos por menu (a máscara de alterados é um int)
+    private static final int MAX_FIELDS = 32;
+
+    private final int containerId;
+    private final ServerPlayer player; // null no cliente
+    private final ObjectArrayList<Field> fields = new ObjectArrayList<>();
+
+    private int throttledMask;
+    // Metade do mínimo: gameTime - lastThrottledSend não pode estourar
+    private long lastThrottledSend = Long.MIN_VALUE / 2;
+
+    /**
+     * @param containerId Id do menu dono dos campos
+     * @param player Jogador que abriu o menu (de qualquer lado)
+     */
+    public MenuSync(int containerId, Player player) {
+        this.containerId = containerId;
+        this.player = player instanceof ServerPlayer serverPlayer ? serverPlayer : null;
+    }
+
+    /**
+     * Registra um campo inteiro
+     *
+     * @param source Fonte do valor (consultada apenas no servidor)
+     * @param throttled Se o campo respeita o intervalo mínimo de envio
+     * @return Índice do campo
+     */
+    public int trackInt(IntSupplier source, boolean throttled) {
+        return track(source::getAsInt, throttled);
+    }
+
+    /**
+     * Registra um campo long, enviado sem truncamento
+     */
+    public int trackLong(LongSupplier source, boolean throttled) {
+        return track(source, throttled);
+    }
+
+    /**
+     * Registra um campo booleano, sempre enviado assim que muda
+     */
+    public int trackBoolean(BooleanSupplier source) {
+        return track(() -> source.getAsBoolean() ? 1L : 0L, false);
+    }
+
+    private int track(LongSupplier source, boolean throttled) {
+        int index = fields.size();
+        if (index >= MAX_FIELDS) {
+            throw new IllegalStateException("Menu com mais de " + MAX_FIELDS + " campos sincronizados");
+        }
+        fields.add(new Field(source));
+        if (throttled) {
+            throttledMask |= 1 << index;
+        }
+        return index;
+    }
+
+    public int getInt(int index) {
+        return (int) fields.get(index).value;
+    }
+
+    public long getLong(int index) {
+        return fields.get(index).value;
+    }
+
+    public boolean getBoolean(int index) {
+        return fields.get(index).value != 0L;
+    }
+
+    /**
+     * Envia os campos alterados desde o último envio (chamado a cada tick
+     * pelo broadcastChanges do menu)
+     */
+    public void broadcast() {
+        if (player == null) {
+            return;
+        }
+
+        long gameTime = player.serverLevel().getGameTime();
+        boolean throttleOpen = gameTime - lastThrottledSend >= ModConfig.MENU_SYNC_INTERVAL.get();
+
+        int mask = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            if (!throttleOpen && (throttledMask & (1 << i)) != 0) {
+                continue;
+            }
+            Field field = fields.get(i);
+            long value = field.source.getAsLong();
+            if (value != field.value) {
+                field.value = value;
+                mask |= 1 << i;
+            }
+        }
+
+        if ((mask & throttledMask) != 0) {
+            lastThrottledSend = gameTime;
+        }
+        send(mask);
+    }
+
+    /**
+     * Envia todos os campos, alterados ou não (abertura do menu e
+     * ressincronizações pedidas pelo vanilla)
+     */
+    public void broadcastAll() {
+        if (player == null) {
+            return;
+        }
+
+        int mask = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            field.value = field.source.getAsLong();
+            mask |= 1 << i;
+        }
+
+        lastThrottledSend = player.serverLevel().getGameTime();
+        send(mask);
+    }
+
+    private void send(int mask) {
+        if (mask == 0) {
+            return;
+        }
+
+        long[] values = new long[Integer.bitCount(mask)];
+        int next = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            if ((mask & (1 << i)) != 0) {
+                values[next++] = fields.get(i).value;
+            }
+        }
+        PacketDistributor.sendToPlayer(player, new MenuSyncPayload(containerId, mask, values));
+    }
+
+    /**
+     * Aplica os valores recebidos do servidor (cliente)
+     *
+     * @param mask Campos presentes no pacote
+     * @param values Valores desses campos, na ordem dos bits
+     */
+    public void apply(int mask, long[] values) {
+        int next = 0;
+        for (int i = 0; i < fields.size() && next < values.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                fields.get(i).value = values[next++];
+            }
+        }
+    }
+
+    /**
+     * Menus que sincronizam seus valores por um MenuSync
+     */
+    public interface Holder {
+        MenuSync getMenuSync();
+    }
+
+    private static final class Field {
+        final LongSupplier source;
+        long value;
+
+        Field(LongSupplier source) {
+            this.source = source;
+        }
+    }
+}
@@ -6,9 +6,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.SimpleContainerData;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -25,7 +23,7 @@ import net.neoforged.neoforge.items.SlotItemHandler;
  * - Energia armazenada e capacidade máxima
  * - Tempo de queima atual e máximo
  * - Progresso de aquecimento
- * - Nível de água
+ * - Nível de água e capacidade do tanque
  * - Estado ativo/inativo
  * 
  * Layout de slots:
@@ -34,13 +32,13 @@ import net.neoforged.neoforge.items.SlotItemHandler;
  * - Slots 2-28: Inventário do jogador (hotbar)
  * - Slots 29-37: Inventário do jogador (9 slots principais)
  */
-public class SteamEngineMenu extends AbstractContainerMenu {
+public class SteamEngineMenu extends AbstractContainerMenu implements MenuSync.Holder {
     
     private final SteamEngineBlockEntity blockEntity;
     private final ContainerLevelAccess levelAccess;
-    private final ContainerData data;
+    private final MenuSync sync;
     
-    // Índices dos dados sincronizados
+    // Índices dos campos sincronizados (ordem de registro no MenuSync)
     private static final int DATA_ENERGY = 0;
     private static final int DATA_MAX_ENERGY = 1;
     private static final int DATA_FUEL_TIME = 2;
@@ -48,7 +46,7 @@ public class SteamEngineMenu extends AbstractContainerMenu {
     private static final int DATA_WARMUP_PROGRESS = 4;
     private static final int DATA_WATER_LEVEL = 5;
     private static final int DATA_IS_ACTIVE = 6;
-    private static final int DATA_COUNT = 7;
+    private static final int DATA_WATER_CAPACITY = 7;
     
     /**
      * Construtor para o servidor
@@ -57,7 +55,15 @@ public class SteamEngineMenu extends AbstractContainerMenu {
         super(ModMenuTypes.STEAM_ENGINE.get(), containerId);
         this.blockEntity = blockEntity;
         this.levelAccess = ContainerLevelAccess.create(blockEntity.getLevel(), blockEntity.getBlockPos());
-        this.data = new SimpleContainerData(DATA_COUNT);
+        this.sync = new MenuSync(containerId, playerInventory.player);
+        sync.trackInt(blockEntity::getEnergyStored, true);   // DATA_ENERGY
+        sync.trackInt(blockEntity::getMaxEnergy, false);     // DATA_MAX_ENERGY
+        sync.trackInt(blockEntity::getFuelBurnTime, true);   // DATA_FUEL_TIME
+        sync.trackInt(blockEntity::getMaxBurnTime, false);   // DATA_MAX_FUEL_TIME
+        sync.trackInt(blockEntity::getWarmupProgress, true); // DATA_WARMUP_PROGRESS
+        sync.trackInt(blockEntity::getWaterLevel, true);     // DATA_WATER_LEVEL
+        sync.trackBoolean(blockEntity::isActive);            // DATA_IS_ACTIVE
+        sync.trackInt(blockEntity::getWaterCapacity, false); // DATA_WATER_CAPACITY
         
         // Adiciona slots da máquina
         addSlot(new SlotItemHandler(blockEntity.getInventory(), 0, 56, 35)); // Combustível
@@ -65,9 +71,6 @@ public class SteamEngineMenu extends AbstractContainerMenu {
         
         // Adiciona slots do jogador
         addPlayerInventory(playerInventory);
-        
-        // Adiciona container data para sincronização
-        addDataSlots(this.data);
     }
     
     /**
@@ -142,30 +145,37 @@ public class SteamEngineMenu extends AbstractContainerMenu {
     }
     
     /**
-     * Atualiza os dados sincronizados a cada tick
+     * Envia ao cliente apenas os campos que mudaram
      */
     @Override
     public void broadcastChanges() {
         super.broadcastChanges();
-        
-        // Atualiza dados da BlockEntity
-        data.set(DATA_ENERGY, blockEntity.getEnergyStored());
-        data.set(DATA_MAX_ENERGY, blockEntity.getMaxEnergy());
-        data.set(DATA_FUEL_TIME, blockEntity.getFuelBurnTime());
-        data.set(DATA_MAX_FUEL_TIME, blockEntity.getMaxBurnTime());
-        data.set(DATA_WARMUP_PROGRESS, blockEntity.getWarmupProgress());
-        data.set(DATA_WATER_LEVEL, blockEntity.getWaterLevel());
-        data.set(DATA_IS_ACTIVE, blockEntity.isActive() ? 1 : 0);
+        sync.broadcast();
+    }
+    
+    /**
+     * Envia todos os campos (abertura do menu e ressincronizações)
+     */
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcastAll();
+    }
+    
+    @Override
+    public MenuSync getMenuSync() {
+        return sync;
     }
     
     // Getters para a GUI acessar os dados sincronizados
-    public int getEnergyStored() { return data.get(DATA_ENERGY); }
-    public int getMaxEnergy() { return data.get(DATA_MAX_ENERGY); }
-    public int getFuelBurnTime() { return data.get(DATA_FUEL_TIME); }
-    public int getMaxFuelTime() { return data.get(DATA_MAX_FUEL_TIME); }
-    public int getWarmupProgress() { return data.get(DATA_WARMUP_PROGRESS); }
-    public int getWaterLevel() { return data.get(DATA_WATER_LEVEL); }
-    public boolean isActive() { return data.get(DATA_IS_ACTIVE) == 1; }
+    public int getEnergyStored() { return sync.getInt(DATA_ENERGY); }
+    public int getMaxEnergy() { return sync.getInt(DATA_MAX_ENERGY); }
+    public int getFuelBurnTime() { return sync.getInt(DATA_FUEL_TIME); }
+    public int getMaxFuelTime() { return sync.getInt(DATA_MAX_FUEL_TIME); }
+    public int getWarmupProgress() { return sync.getInt(DATA_WARMUP_PROGRESS); }
+    public int getWaterLevel() { return sync.getInt(DATA_WATER_LEVEL); }
+    public boolean isActive() { return sync.getBoolean(DATA_IS_ACTIVE); }
+    public int getWaterCapacity() { return sync.getInt(DATA_WATER_CAPACITY); }
     
     /**
      * Calcula a altura da barra de energia para renderização
@@ -173,7 +183,7 @@ public class SteamEngineMenu extends AbstractContainerMenu {
     public int getEnergyBarHeight() {
         int maxHeight = 52; // Altura máxima da barra em pixels
         if (getMaxEnergy() == 0) return 0;
-        return (getEnergyStored() * maxHeight) / getMaxEnergy();
+        return (int) ((long) getEnergyStored() * maxHeight / getMaxEnergy());
     }
     
     /**
@@ -198,7 +208,7 @@ public class SteamEngineMenu extends AbstractContainerMenu {
      */
     public int getWaterBarHeight() {
         int maxHeight = 32; // Altura máxima da barra em pixels
-        int maxWater = 1000; // Capacidade máxima de água
-        return (getWaterLevel() * maxHeight) / maxWater;
+        if (getWaterCapacity() == 0) return 0;
+        return (int) ((long) getWaterLevel() * maxHeight / getWaterCapacity());
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.cronicasaetherium.mod.common.logistics;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.items.IItemHandler;
+
+import java.util.Arrays;
+
+/**
+ * Linha de esteiras: trecho reto de esteiras voltadas para a mesma direção
+ *
+ * Os itens não existem como ItemEntity: cada linha guarda apenas dois
+ * arrays paralelos, as pilhas e a posição de cada uma ao longo da linha
+ * (em passos de 1/16 de bloco), ordenados da frente para trás. Avançar
+ * todos os itens é um único laço sobre esses arrays.
+ *
+ * O mesmo código de avanço roda no cliente, que assim anima os itens
+ * sozinho entre uma sincronização e outra.
+ */
+public class BeltLine {
+
+    public static final int STEPS_PER_BELT = 16; // Passos por bloco de esteira
+    public static final int SPEED = 1; // Passos por tick (16 ticks por bloco)
+    public static final int SPACING = 4; // Distância mínima entre itens (4 itens por bloco)
+    public static final int CENTER = STEPS_PER_BELT / 2;
+
+    final int id;
+    final long head;
+    final Direction facing;
+    final long[] belts;
+
+    ItemStack[] stacks = new ItemStack[4];
+    int[] offsets = new int[4];
+    int count;
+
+    // Inventário depois da última esteira (resolvido na construção)
+    BlockCapabilityCache<IItemHandler, Direction> output;
+    // Espera entre tentativas de entrega a um inventário cheio (ver NeighborIO)
+    long retryAt;
+    int backoff;
+    boolean valid = true;
+
+    BeltLine(int id, BlockPos head, Direction facing, int length) {
+        this.id = id;
+        this.head = head.asLong();
+        this.facing = facing;
+        this.belts = new long[length];
+
+        BlockPos.MutableBlockPos pos = head.mutable();
+        for (int i = 0; i < length; i++) {
+            belts[i] = pos.asLong();
+            pos.move(facing);
+        }
+    }
+
+    /**
+     * Posição final da linha (borda de saída da última esteira)
+     */
+    public int end() {
+        return belts.length * STEPS_PER_BELT;
+    }
+
+    /**
+     * Coloca uma pilha na linha, se houver espaço
+     *
+     * @param offset Posição ao longo da linha
+     * @param stack Pilha a colocar (não é copiada)
+     * @param simulate Apenas verifica o espaço
+     * @return true se a pilha coube
+     */
+    boolean insert(int offset, ItemStack stack, boolean simulate) {
+        // Itens ordenados da frente (maior posição) para trás
+        int index = 0;
+        while (index < count && offsets[index] > offset) {
+            index++;
+        }
+        if (index > 0 && offsets[index - 1] - offset < SPACING) {
+            return false;
+        }
+        if (index < count && offset - offsets[index] < SPACING) {
+            return false;
+        }
+        if (!simulate) {
+            place(index, offset, stack);
+        }
+        return true;
+    }
+
+    /**
+     * Recoloca uma pilha salva na linha, sem verificar o espaçamento
+     */
+    void restore(int offset, ItemStack stack) {
+        int index = 0;
+        while (index < count && offsets[index] > offset) {
+            index++;
+        }
+        place(index, offset, stack);
+    }
+
+    private void place(int index, int offset, ItemStack stack) {
+        if (count == stacks.length) {
+            stacks = Arrays.copyOf(stacks, count * 2);
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        System.arraycopy(stacks, index, stacks, index + 1, count - index);
+        System.arraycopy(offsets, index, offsets, index + 1, count - index);
+        stacks[index] = stack;
+        offsets[index] = offset;
+        count++;
+    }
+
+    /**
+     * Remove o item da frente da linha
+     */
+    void removeFront() {
+        System.arraycopy(stacks, 1, stacks, 0, count - 1);
+        System.arraycopy(offsets, 1, offsets, 0, count - 1);
+        stacks[--count] = null;
+    }
+
+    /**
+     * Avança todos os itens de uma linha em um tick
+     *
+     * Cada item anda até encostar no item da frente (respeitando o
+     * espaçamento) ou no fim da linha. Compartilhado entre servidor e
+     * cliente para que a animação do cliente siga a mesma regra.
+     *
+     * @param offsets Posições ordenadas da frente para trás
+     * @param count Quantidade de itens
+     * @param end Posição final da linha
+     * @return true se algum item andou
+     */
+    public static boolean step(int[] offsets, int count, int end) {
+        boolean moved = false;
+        int limit = end;
+        for (int i = 0; i < count; i++) {
+            int target = Math.min(offsets[i] + SPEED, limit);
+            if (target > offsets[i]) {
+                offsets[i] = target;
+                moved = true;
+            }
+            limit = offsets[i] - SPACING;
+        }
+        return moved;
+    }
+
+    /**
+     * Índice da esteira que contém uma posição ao longo da linha
+     */
+    int beltAt(int offset) {
+        return Math.min(offset / STEPS_PER_BELT, belts.length - 1);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getLength() {
+        return belts.length;
+    }
+
+    public int getItemCount() {
+        return count;
+    }
+}
@@ -0,0 +1,40 @@
+package com.cronicasaetherium.mod.common.logistics;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Rede de blocos conectados (cabos, canos, dutos)
+ *
+ * Guarda apenas o que o BlockNetworkManager precisa para manter a
+ * topologia: as posições dos blocos da rede, os chunks que eles ocupam e
+ * se a rede ainda está em uso. O que a rede transporta fica nas
+ * subclasses.
+ */
+public abstract class BlockNetwork {
+
+    // Posições dos blocos da rede (BlockPos.asLong)
+    final LongOpenHashSet members = new LongOpenHashSet();
+    // Chunks ocupados pelos blocos (ChunkPos.asLong)
+    final LongOpenHashSet chunks = new LongOpenHashSet();
+
+    boolean valid = true;
+
+    /**
+     * Posições dos blocos da rede (somente leitura)
+     */
+    public LongSet getMembers() {
+        return members;
+    }
+
+    /**
+     * A rede ainda está em uso; false depois de descartada
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    public int getMemberCount() {
+        return members.size();
+    }
+}
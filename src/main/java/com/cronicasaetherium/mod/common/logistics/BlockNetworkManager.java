@@ -0,0 +1,441 @@
+package com.cronicasaetherium.mod.common.logistics;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.neoforged.neoforge.capabilities.BlockCapability;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Base dos gerenciadores de redes de blocos de um mundo (energia, canos
+ * e dutos)
+ *
+ * Mantém o mapa bloco → rede e reconstrói apenas as redes afetadas por
+ * uma mudança: um bloco colocado cria uma rede nova que absorve as redes
+ * vizinhas ao ser inundada; um bloco removido (ou um chunk descarregado,
+ * ou uma capability invalidada) descarta a rede dele, e os blocos que
+ * sobraram são reagrupados no tick seguinte.
+ *
+ * Todas as mudanças são acumuladas e aplicadas no início do tick, antes
+ * do trabalho das redes, então vários blocos colocados de uma vez custam
+ * uma única reconstrução. As subclasses dizem quais blocos formam a rede,
+ * o que fazer com cada ponto conectado e o trabalho de cada tick.
+ *
+ * Acessado apenas na thread do servidor.
+ *
+ * @param <N> Tipo da rede
+ * @param <T> Capability dos pontos conectados (energia, fluido, itens)
+ */
+public abstract class BlockNetworkManager<N extends BlockNetwork, T> {
+
+    protected final ServerLevel level;
+    private final BlockCapability<T, Direction> capability;
+
+    private final Long2ObjectOpenHashMap<N> networkByBlock = new Long2ObjectOpenHashMap<>();
+    protected final ObjectArrayList<N> networks = new ObjectArrayList<>();
+    // Redes por chunk ocupado (ChunkPos.asLong)
+    private final Long2ObjectOpenHashMap<ObjectArrayList<N>> networksByChunk = new Long2ObjectOpenHashMap<>();
+
+    // Blocos sem rede aguardando a próxima reconstrução
+    private final LongOpenHashSet pending = new LongOpenHashSet();
+    // Redes que precisam ser descartadas no próximo tick
+    private final ReferenceOpenHashSet<N> dirty = new ReferenceOpenHashSet<>();
+
+    private long rebuilds;
+
+    protected BlockNetworkManager(ServerLevel level, BlockCapability<T, Direction> capability) {
+        this.level = level;
+        this.capability = capability;
+    }
+
+    /**
+     * O bloco faz parte deste tipo de rede
+     */
+    protected abstract boolean isMember(BlockState state);
+
+    /**
+     * Cria uma rede vazia, antes da inundação
+     */
+    protected abstract N createNetwork();
+
+    /**
+     * O bloco já está conectado à rede no papel que este membro daria
+     */
+    protected abstract boolean isConnected(N network, long member, long pos);
+
+    /**
+     * Conecta um ponto resolvido na construção
+     *
+     * @param member Bloco da rede encostado no ponto
+     * @param pos Posição do ponto
+     * @param cache Cache da capability (a rede deve mantê-lo vivo)
+     * @param target Capability resolvida
+     */
+    protected abstract void attach(N network, long member, BlockPos pos, BlockCapabilityCache<T, Direction> cache, T target);
+
+    /**
+     * Trabalho de uma rede a cada tick
+     */
+    protected abstract void tickNetwork(N network);
+
+    /**
+     * Um bloco acabou de entrar na rede
+     */
+    protected void onClaimed(N network, long pos) {
+    }
+
+    /**
+     * A rede terminou de ser inundada e conectada
+     */
+    protected void onBuilt(N network) {
+    }
+
+    /**
+     * A rede foi descartada; seus blocos já voltaram para a fila
+     */
+    protected void onDissolved(N network) {
+    }
+
+    /**
+     * A fila de reconstrução acabou de ser processada
+     */
+    protected void onRebuilt() {
+    }
+
+    /**
+     * Um bloco da rede foi colocado, removido ou mudou nesta posição
+     */
+    public void onMemberChanged(BlockPos pos) {
+        N network = networkByBlock.get(pos.asLong());
+        if (network != null) {
+            dirty.add(network);
+        } else {
+            pending.add(pos.asLong());
+        }
+    }
+
+    /**
+     * Um bloco vizinho de um bloco da rede mudou
+     *
+     * Pontos já conectados avisam sozinhos pela invalidação da capability;
+     * aqui só é preciso descobrir pontos novos.
+     */
+    public void onNeighborChanged(BlockPos memberPos, BlockPos neighborPos) {
+        N network = networkByBlock.get(memberPos.asLong());
+        if (network == null) {
+            pending.add(memberPos.asLong());
+            return;
+        }
+        if (isConnected(network, memberPos.asLong(), neighborPos.asLong()) || isMember(level.getBlockState(neighborPos))) {
+            return;
+        }
+
+        for (Direction direction : Direction.values()) {
+            if (memberPos.relative(direction).equals(neighborPos)) {
+                if (level.getCapability(capability, neighborPos, direction.getOpposite()) != null) {
+                    dirty.add(network);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rede de um bloco
+     *
+     * @return Rede ou null se o bloco ainda não foi reagrupado
+     */
+    @Nullable
+    protected N networkAt(long pos) {
+        return networkByBlock.get(pos);
+    }
+
+    /**
+     * Aplica as mudanças acumuladas e roda o trabalho de todas as redes
+     */
+    private void tick() {
+        if (!dirty.isEmpty()) {
+            for (N network : dirty) {
+                dissolve(network);
+            }
+            dirty.clear();
+        }
+
+        if (!pending.isEmpty()) {
+            // Cópia: absorver uma rede durante a inundação devolve blocos à fila
+            long[] queued = pending.toLongArray();
+            pending.clear();
+            for (long pos : queued) {
+                if (!networkByBlock.containsKey(pos) && isLoadedMember(BlockPos.of(pos))) {
+                    build(pos);
+                }
+            }
+            onRebuilt();
+        }
+
+        for (int i = 0; i < networks.size(); i++) {
+            tickNetwork(networks.get(i));
+        }
+    }
+
+    /**
+     * Descarta uma rede; seus blocos voltam para a fila de reconstrução
+     */
+    private void dissolve(N network) {
+        if (!network.valid) {
+            return;
+        }
+        network.valid = false;
+        networks.remove(network);
+
+        LongIterator iterator = network.members.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            networkByBlock.remove(pos);
+            pending.add(pos);
+        }
+
+        LongIterator chunks = network.chunks.iterator();
+        while (chunks.hasNext()) {
+            long chunk = chunks.nextLong();
+            ObjectArrayList<N> inChunk = networksByChunk.get(chunk);
+            if (inChunk != null) {
+                inChunk.remove(network);
+                if (inChunk.isEmpty()) {
+                    networksByChunk.remove(chunk);
+                }
+            }
+        }
+        onDissolved(network);
+    }
+
+    /**
+     * Inunda os blocos conectados a partir de uma posição, cria a rede
+     * deles e conecta os pontos encostados
+     *
+     * Redes encontradas pelo caminho são absorvidas, o que cobre a junção
+     * de duas redes por um bloco novo.
+     */
+    private void build(long start) {
+        N network = createNetwork();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+
+        claim(network, start);
+        queue.enqueue(start);
+
+        // Primeiro os blocos da rede: o papel de um ponto pode depender deles
+        ObjectArrayList<BlockPos> faces = new ObjectArrayList<>();
+        ObjectArrayList<Direction> sides = new ObjectArrayList<>();
+        while (!queue.isEmpty()) {
+            BlockPos pos = BlockPos.of(queue.dequeueLong());
+
+            for (Direction direction : Direction.values()) {
+                neighbor.setWithOffset(pos, direction);
+                long key = neighbor.asLong();
+                if (network.members.contains(key)) {
+                    continue;
+                }
+
+                if (isLoadedMember(neighbor)) {
+                    N other = networkByBlock.get(key);
+                    if (other != null) {
+                        dissolve(other);
+                    }
+                    claim(network, key);
+                    queue.enqueue(key);
+                } else if (level.isLoaded(neighbor)) {
+                    faces.add(pos);
+                    faces.add(neighbor.immutable());
+                    sides.add(direction.getOpposite());
+                }
+            }
+        }
+
+        for (int i = 0; i < faces.size(); i += 2) {
+            connect(network, faces.get(i), faces.get(i + 1), sides.get(i / 2));
+        }
+        onBuilt(network);
+
+        networks.add(network);
+        rebuilds++;
+    }
+
+    private void claim(N network, long pos) {
+        network.members.add(pos);
+        long chunk = ChunkPos.asLong(BlockPos.getX(pos) >> 4, BlockPos.getZ(pos) >> 4);
+        if (network.chunks.add(chunk)) {
+            networksByChunk.computeIfAbsent(chunk, key -> new ObjectArrayList<>()).add(network);
+        }
+        networkByBlock.put(pos, network);
+        onClaimed(network, pos);
+    }
+
+    /**
+     * Resolve a capability de um bloco encostado na rede
+     */
+    private void connect(N network, BlockPos member, BlockPos pos, Direction side) {
+        if (isConnected(network, member.asLong(), pos.asLong())) {
+            return;
+        }
+
+        BlockCapabilityCache<T, Direction> cache = BlockCapabilityCache.create(
+            capability, level, pos, side,
+            () -> network.valid,
+            () -> dirty.add(network));
+
+        T target = cache.getCapability();
+        if (target != null) {
+            attach(network, member.asLong(), pos, cache, target);
+        }
+    }
+
+    private boolean isLoadedMember(BlockPos pos) {
+        return level.isLoaded(pos) && isMember(level.getBlockState(pos));
+    }
+
+    /**
+     * Procura blocos da rede em um chunk recém-carregado
+     *
+     * Seções cuja paleta não contém nenhum bloco da rede são puladas sem
+     * percorrer os blocos.
+     */
+    private void onChunkLoaded(LevelChunk chunk) {
+        LevelChunkSection[] sections = chunk.getSections();
+        ChunkPos chunkPos = chunk.getPos();
+
+        for (int i = 0; i < sections.length; i++) {
+            LevelChunkSection section = sections[i];
+            if (section.hasOnlyAir() || !section.maybeHas(this::isMember)) {
+                continue;
+            }
+
+            int baseY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (isMember(section.getBlockState(x, y, z))) {
+                            pending.add(BlockPos.asLong(chunkPos.getMinBlockX() + x, baseY + y, chunkPos.getMinBlockZ() + z));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void onChunkUnloaded(ChunkPos chunkPos) {
+        ObjectArrayList<N> inChunk = networksByChunk.get(chunkPos.toLong());
+        if (inChunk != null) {
+            dirty.addAll(inChunk);
+        }
+    }
+
+    /**
+     * Quantidade de redes ativas neste mundo
+     */
+    public int getNetworkCount() {
+        return networks.size();
+    }
+
+    /**
+     * Quantidade de blocos em redes ativas neste mundo
+     */
+    public int getMemberCount() {
+        return networkByBlock.size();
+    }
+
+    /**
+     * Quantidade de redes construídas desde que o mundo carregou
+     */
+    public long getRebuildCount() {
+        return rebuilds;
+    }
+
+    /**
+     * Gerenciadores de um tipo de rede, um por mundo carregado
+     *
+     * Cada subclasse guarda um Registry estático e encaminha para ele os
+     * eventos do mundo a partir dos seus próprios @SubscribeEvent. O
+     * gerenciador é criado no LevelEvent.Load e descartado no Unload, e
+     * nunca é recriado depois: chamadas que chegam durante o
+     * descarregamento (capabilities consultadas por BlockEntities sendo
+     * removidas, por exemplo) não prendem o mundo na memória.
+     */
+    protected static final class Registry<M extends BlockNetworkManager<?, ?>> {
+
+        private final Map<ServerLevel, M> managers = new IdentityHashMap<>();
+        private final Function<ServerLevel, M> factory;
+
+        public Registry(Function<ServerLevel, M> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Gerenciador de um mundo
+         *
+         * @return Gerenciador ou null se o mundo não está carregado
+         */
+        @Nullable
+        public M get(ServerLevel level) {
+            return managers.get(level);
+        }
+
+        public void onLevelLoad(LevelEvent.Load event) {
+            if (event.getLevel() instanceof ServerLevel serverLevel) {
+                managers.put(serverLevel, factory.apply(serverLevel));
+            }
+        }
+
+        public void onLevelTick(LevelTickEvent.Post event) {
+            if (event.getLevel() instanceof ServerLevel serverLevel) {
+                BlockNetworkManager<?, ?> manager = managers.get(serverLevel);
+                if (manager != null) {
+                    manager.tick();
+                }
+            }
+        }
+
+        public void onChunkLoad(ChunkEvent.Load event) {
+            if (event.getLevel() instanceof ServerLevel serverLevel && event.getChunk() instanceof LevelChunk chunk) {
+                BlockNetworkManager<?, ?> manager = managers.get(serverLevel);
+                if (manager != null) {
+                    manager.onChunkLoaded(chunk);
+                }
+            }
+        }
+
+        public void onChunkUnload(ChunkEvent.Unload event) {
+            if (event.getLevel() instanceof ServerLevel serverLevel) {
+                BlockNetworkManager<?, ?> manager = managers.get(serverLevel);
+                if (manager != null) {
+                    manager.onChunkUnloaded(event.getChunk().getPos());
+                }
+            }
+        }
+
+        public void onLevelUnload(LevelEvent.Unload event) {
+            if (event.getLevel() instanceof ServerLevel serverLevel) {
+                managers.remove(serverLevel);
+            }
+        }
+    }
+}
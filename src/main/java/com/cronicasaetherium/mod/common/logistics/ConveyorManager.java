@@ -0,0 +1,667 @@
+package com.cronicasaetherium.mod.common.logistics;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.blocks.tech.ConveyorBeltBlock;
+import com.cronicasaetherium.mod.common.machine.NeighborIO;
+import com.cronicasaetherium.mod.common.network.BeltLinePayload;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.ChunkWatchEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemHandlerHelper;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Gerenciador das esteiras transportadoras de um mundo
+ *
+ * As esteiras não possuem BlockEntity e os itens sobre elas não são
+ * ItemEntity: cada trecho reto vira uma BeltLine, e um tick de todas as
+ * esteiras do mundo é um laço curto por linha. As linhas seguem o mesmo
+ * desenho das redes de energia: mudanças são acumuladas e aplicadas no
+ * início do tick, e uma linha descartada devolve seus itens a um mapa por
+ * esteira, de onde a linha reconstruída os recolhe.
+ *
+ * Os itens são salvos como SavedData do mundo, já que não há BlockEntity
+ * para guardá-los. Os clientes recebem o estado de uma linha apenas
+ * quando a composição dela muda.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class ConveyorManager extends SavedData {
+
+    private static final String DATA_NAME = CronicasAetherium.MODID + "_conveyors";
+
+    // Um gerenciador por mundo carregado
+    private static final Map<ServerLevel, ConveyorManager> MANAGERS = new IdentityHashMap<>();
+
+    // Identificadores únicos entre mundos: o cliente guarda as linhas por id
+    private static int nextId;
+
+    private ServerLevel level;
+    private final Long2ObjectOpenHashMap<BeltLine> lineByBelt = new Long2ObjectOpenHashMap<>();
+    private final ObjectArrayList<BeltLine> lines = new ObjectArrayList<>();
+    // Linhas por chunk ocupado (ChunkPos.asLong)
+    private final Long2ObjectOpenHashMap<ObjectArrayList<BeltLine>> linesByChunk = new Long2ObjectOpenHashMap<>();
+
+    // Esteiras sem linha aguardando a próxima reconstrução
+    private final LongOpenHashSet pending = new LongOpenHashSet();
+    // Linhas que precisam ser descartadas no próximo tick
+    private final ReferenceOpenHashSet<BeltLine> dirty = new ReferenceOpenHashSet<>();
+    // Linhas cuja composição mudou e precisam ser enviadas aos clientes
+    private final ReferenceOpenHashSet<BeltLine> changed = new ReferenceOpenHashSet<>();
+
+    // Itens de linhas descartadas (ou recém-carregados), por esteira
+    private final Long2ObjectOpenHashMap<ObjectArrayList<LooseItem>> residual = new Long2ObjectOpenHashMap<>();
+    // Uma esteira foi removida: itens sem esteira devem cair no chão
+    private boolean checkStranded;
+
+    private long rebuilds;
+
+    private ConveyorManager() {
+    }
+
+    /**
+     * Obtém o gerenciador de um mundo
+     *
+     * O gerenciador é carregado no LevelEvent.Load e descartado no Unload,
+     * e nunca é recriado depois, para não prender o mundo na memória.
+     *
+     * @param level Mundo do servidor
+     * @return Gerenciador do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static ConveyorManager get(ServerLevel level) {
+        return MANAGERS.get(level);
+    }
+
+    /**
+     * Uma esteira foi colocada, removida ou girada nesta posição
+     *
+     * A linha da própria esteira e as das quatro vizinhas podem mudar.
+     */
+    public void onBeltChanged(BlockPos pos) {
+        BeltLine line = lineByBelt.get(pos.asLong());
+        if (line != null) {
+            dirty.add(line);
+        }
+        for (Direction direction : Direction.Plane.HORIZONTAL) {
+            BeltLine neighbor = lineByBelt.get(pos.relative(direction).asLong());
+            if (neighbor != null) {
+                dirty.add(neighbor);
+            }
+        }
+        pending.add(pos.asLong());
+        checkStranded = true;
+    }
+
+    /**
+     * Coloca uma pilha sobre uma esteira
+     *
+     * @param pos Posição da esteira
+     * @param stack Pilha a colocar (passa a pertencer à esteira)
+     * @param local Posição dentro da esteira, de 0 a STEPS_PER_BELT
+     * @param simulate Apenas verifica o espaço
+     * @return true se a pilha coube
+     */
+    public boolean insert(BlockPos pos, ItemStack stack, int local, boolean simulate) {
+        BeltLine line = lineByBelt.get(pos.asLong());
+        if (line == null || stack.isEmpty()) {
+            return false;
+        }
+
+        int index = BlockPos.of(line.head).distManhattan(pos);
+        if (!line.insert(index * BeltLine.STEPS_PER_BELT + local, stack, simulate)) {
+            return false;
+        }
+        if (!simulate) {
+            changed.add(line);
+            setDirty();
+        }
+        return true;
+    }
+
+    /**
+     * Inventário de inserção de uma esteira, exposto como capability do bloco
+     *
+     * Dutos e funis podem colocar itens na esteira; nada sai por ele.
+     */
+    public IItemHandler getHandler(BlockPos pos) {
+        return new BeltItemHandler(this, pos.immutable());
+    }
+
+    /**
+     * Aplica as mudanças acumuladas e avança os itens de todas as linhas
+     */
+    private void tick() {
+        if (!dirty.isEmpty()) {
+            for (BeltLine line : dirty) {
+                dissolve(line);
+            }
+            dirty.clear();
+        }
+
+        if (!pending.isEmpty()) {
+            // Cópia: absorver uma linha durante a construção devolve esteiras à fila
+            long[] queued = pending.toLongArray();
+            pending.clear();
+            for (long pos : queued) {
+                if (!lineByBelt.containsKey(pos) && isLoadedBelt(BlockPos.of(pos))) {
+                    build(BlockPos.of(pos));
+                }
+            }
+        }
+
+        if (checkStranded) {
+            dropStranded();
+            checkStranded = false;
+        }
+
+        // Só salva de novo se algo andou: itens parados na ponta não mudam nada
+        boolean moved = false;
+        for (int i = 0; i < lines.size(); i++) {
+            BeltLine line = lines.get(i);
+            if (line.count > 0) {
+                moved |= BeltLine.step(line.offsets, line.count, line.end());
+                if (line.offsets[0] >= line.end()) {
+                    moved |= handOff(line);
+                }
+            }
+        }
+        if (moved) {
+            setDirty();
+        }
+
+        if (!changed.isEmpty()) {
+            for (BeltLine line : changed) {
+                if (line.valid) {
+                    PacketDistributor.sendToPlayersTrackingChunk(level, headChunk(line), snapshot(line));
+                }
+            }
+            changed.clear();
+        }
+    }
+
+    /**
+     * Entrega o item da frente da linha ao que estiver depois dela
+     *
+     * Outra esteira recebe o item pelo centro; um inventário recebe pelo
+     * cache de capability resolvido na construção. Se nada aceitar, o
+     * item fica parado na ponta e segura a fila, e o inventário só é
+     * tentado de novo após a espera do NeighborIO (ou quando o cache for
+     * invalidado).
+     *
+     * @return true se o item da frente mudou
+     */
+    private boolean handOff(BeltLine line) {
+        ItemStack stack = line.stacks[0];
+        BlockPos target = BlockPos.of(line.belts[line.belts.length - 1]).relative(line.facing);
+
+        BeltLine next = lineByBelt.get(target.asLong());
+        if (next != null) {
+            // Esteira de frente para esta: o item ficaria preso entre as duas
+            if (next.facing != line.facing.getOpposite() && insert(target, stack, BeltLine.CENTER, false)) {
+                line.removeFront();
+                changed.add(line);
+                return true;
+            }
+            return false;
+        }
+
+        long gameTime = level.getGameTime();
+        if (line.output == null || gameTime < line.retryAt || !level.isLoaded(target)) {
+            return false;
+        }
+        IItemHandler handler = line.output.getCapability();
+        if (handler == null) {
+            // Sem inventário: espera o cache ser invalidado
+            line.retryAt = Long.MAX_VALUE;
+            return false;
+        }
+
+        ItemStack rest = ItemHandlerHelper.insertItem(handler, stack, false);
+        if (rest.getCount() == stack.getCount()) {
+            line.backoff = NeighborIO.nextBackoff(line.backoff);
+            line.retryAt = gameTime + line.backoff;
+            return false;
+        }
+
+        line.backoff = 0;
+        if (rest.isEmpty()) {
+            line.removeFront();
+        } else {
+            line.stacks[0] = rest;
+        }
+        changed.add(line);
+        return true;
+    }
+
+    /**
+     * Descarta uma linha; seus itens e esteiras voltam para reconstrução
+     */
+    private void dissolve(BeltLine line) {
+        if (!line.valid) {
+            return;
+        }
+        line.valid = false;
+        lines.remove(line);
+        changed.remove(line);
+
+        for (int i = 0; i < line.count; i++) {
+            int index = line.beltAt(line.offsets[i]);
+            residual.computeIfAbsent(line.belts[index], key -> new ObjectArrayList<>())
+                .add(new LooseItem(line.offsets[i] - index * BeltLine.STEPS_PER_BELT, line.stacks[i]));
+        }
+
+        for (long belt : line.belts) {
+            lineByBelt.remove(belt);
+            pending.add(belt);
+
+            long chunk = ChunkPos.asLong(BlockPos.getX(belt) >> 4, BlockPos.getZ(belt) >> 4);
+            ObjectArrayList<BeltLine> inChunk = linesByChunk.get(chunk);
+            if (inChunk != null) {
+                inChunk.remove(line);
+                if (inChunk.isEmpty()) {
+                    linesByChunk.remove(chunk);
+                }
+            }
+        }
+
+        PacketDistributor.sendToPlayersTrackingChunk(level, headChunk(line), BeltLinePayload.removed(line.id));
+    }
+
+    /**
+     * Monta a linha do trecho reto que contém uma esteira
+     *
+     * Linhas antigas que compartilham esteiras com a nova são absorvidas,
+     * o que cobre a junção de dois trechos por uma esteira nova.
+     */
+    private void build(BlockPos start) {
+        Direction facing = level.getBlockState(start).getValue(ConveyorBeltBlock.FACING);
+
+        // Recua até o início do trecho e mede o comprimento
+        BlockPos head = start;
+        while (isLoadedBelt(head.relative(facing.getOpposite()), facing)) {
+            head = head.relative(facing.getOpposite());
+        }
+        int length = 1;
+        BlockPos.MutableBlockPos cursor = head.mutable().move(facing);
+        while (isLoadedBelt(cursor, facing)) {
+            length++;
+            cursor.move(facing);
+        }
+
+        BeltLine line = new BeltLine(nextId++, head, facing, length);
+        for (int i = 0; i < length; i++) {
+            long belt = line.belts[i];
+            BeltLine other = lineByBelt.get(belt);
+            if (other != null) {
+                dissolve(other);
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            long belt = line.belts[i];
+            lineByBelt.put(belt, line);
+            ObjectArrayList<BeltLine> inChunk = linesByChunk.computeIfAbsent(
+                ChunkPos.asLong(BlockPos.getX(belt) >> 4, BlockPos.getZ(belt) >> 4), key -> new ObjectArrayList<>());
+            if (!inChunk.contains(line)) {
+                inChunk.add(line);
+            }
+
+            ObjectArrayList<LooseItem> loose = residual.remove(belt);
+            if (loose != null) {
+                for (LooseItem item : loose) {
+                    line.restore(i * BeltLine.STEPS_PER_BELT + item.local(), item.stack());
+                }
+            }
+        }
+
+        // A capability de destino é resolvida uma vez; o cache acompanha as trocas de bloco
+        line.output = BlockCapabilityCache.create(Capabilities.ItemHandler.BLOCK, level,
+            cursor.immutable(), facing.getOpposite(),
+            () -> line.valid,
+            () -> {
+                // Destino mudou: tenta de novo já no próximo tick
+                line.retryAt = 0;
+                line.backoff = 0;
+            });
+
+        lines.add(line);
+        changed.add(line);
+        rebuilds++;
+    }
+
+    /**
+     * Derruba os itens cujas esteiras foram removidas
+     */
+    private void dropStranded() {
+        ObjectIterator<Long2ObjectMap.Entry<ObjectArrayList<LooseItem>>> iterator = residual.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Long2ObjectMap.Entry<ObjectArrayList<LooseItem>> entry = iterator.next();
+            BlockPos pos = BlockPos.of(entry.getLongKey());
+            if (level.isLoaded(pos) && !isLoadedBelt(pos)) {
+                for (LooseItem item : entry.getValue()) {
+                    Block.popResource(level, pos, item.stack());
+                }
+                iterator.remove();
+                setDirty();
+            }
+        }
+    }
+
+    /**
+     * Cópia do estado de uma linha para envio aos clientes
+     */
+    private static BeltLinePayload snapshot(BeltLine line) {
+        ItemStack[] stacks = new ItemStack[line.count];
+        for (int i = 0; i < line.count; i++) {
+            stacks[i] = line.stacks[i].copy();
+        }
+        return new BeltLinePayload(line.id, line.head, line.facing, line.belts.length,
+            stacks, Arrays.copyOf(line.offsets, line.count));
+    }
+
+    private static ChunkPos headChunk(BeltLine line) {
+        return new ChunkPos(BlockPos.of(line.head));
+    }
+
+    private boolean isLoadedBelt(BlockPos pos) {
+        return level.isLoaded(pos) && level.getBlockState(pos).getBlock() instanceof ConveyorBeltBlock;
+    }
+
+    private boolean isLoadedBelt(BlockPos pos, Direction facing) {
+        if (!level.isLoaded(pos)) {
+            return false;
+        }
+        BlockState state = level.getBlockState(pos);
+        return state.getBlock() instanceof ConveyorBeltBlock && state.getValue(ConveyorBeltBlock.FACING) == facing;
+    }
+
+    /**
+     * Procura esteiras em um chunk recém-carregado
+     *
+     * Seções cuja paleta não contém nenhuma esteira são puladas sem
+     * percorrer os blocos.
+     */
+    private void onChunkLoaded(LevelChunk chunk) {
+        LevelChunkSection[] sections = chunk.getSections();
+        ChunkPos chunkPos = chunk.getPos();
+
+        for (int i = 0; i < sections.length; i++) {
+            LevelChunkSection section = sections[i];
+            if (section.hasOnlyAir() || !section.maybeHas(state -> state.getBlock() instanceof ConveyorBeltBlock)) {
+                continue;
+            }
+
+            int baseY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (section.getBlockState(x, y, z).getBlock() instanceof ConveyorBeltBlock) {
+                            pending.add(BlockPos.asLong(chunkPos.getMinBlockX() + x, baseY + y, chunkPos.getMinBlockZ() + z));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void onChunkUnloaded(ChunkPos chunkPos) {
+        ObjectArrayList<BeltLine> inChunk = linesByChunk.get(chunkPos.toLong());
+        if (inChunk != null) {
+            dirty.addAll(inChunk);
+        }
+    }
+
+    /**
+     * Envia a um jogador as linhas que começam em um chunk que ele passou a ver
+     */
+    private void onChunkWatched(ServerPlayer player, ChunkPos chunkPos) {
+        ObjectArrayList<BeltLine> inChunk = linesByChunk.get(chunkPos.toLong());
+        if (inChunk == null) {
+            return;
+        }
+        for (BeltLine line : inChunk) {
+            if (headChunk(line).equals(chunkPos)) {
+                PacketDistributor.sendToPlayer(player, snapshot(line));
+            }
+        }
+    }
+
+    /**
+     * Remove do cliente as linhas que começam em um chunk que ele deixou de ver
+     *
+     * Quando o chunk descarregar a linha é descartada, mas aí ninguém
+     * mais acompanha o chunk para receber a remoção; sem isto o cliente
+     * guardaria a linha antiga e, ao voltar, também a reconstruída.
+     */
+    private void onChunkUnwatched(ServerPlayer player, ChunkPos chunkPos) {
+        ObjectArrayList<BeltLine> inChunk = linesByChunk.get(chunkPos.toLong());
+        if (inChunk == null) {
+            return;
+        }
+        for (BeltLine line : inChunk) {
+            if (headChunk(line).equals(chunkPos)) {
+                PacketDistributor.sendToPlayer(player, BeltLinePayload.removed(line.id));
+            }
+        }
+    }
+
+    /**
+     * Salva os itens de todas as linhas e os que aguardam reconstrução
+     */
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag items = new ListTag();
+        for (BeltLine line : lines) {
+            for (int i = 0; i < line.count; i++) {
+                int index = line.beltAt(line.offsets[i]);
+                items.add(writeItem(line.belts[index], line.offsets[i] - index * BeltLine.STEPS_PER_BELT, line.stacks[i], registries));
+            }
+        }
+        for (Long2ObjectMap.Entry<ObjectArrayList<LooseItem>> entry : residual.long2ObjectEntrySet()) {
+            for (LooseItem item : entry.getValue()) {
+                items.add(writeItem(entry.getLongKey(), item.local(), item.stack(), registries));
+            }
+        }
+        tag.put("items", items);
+        return tag;
+    }
+
+    private static CompoundTag writeItem(long belt, int local, ItemStack stack, HolderLookup.Provider registries) {
+        CompoundTag entry = new CompoundTag();
+        entry.putLong("pos", belt);
+        entry.putInt("offset", local);
+        entry.put("stack", stack.save(registries));
+        return entry;
+    }
+
+    /**
+     * Carrega os itens salvos; as linhas os recolhem quando seus chunks carregam
+     */
+    private static ConveyorManager load(CompoundTag tag, HolderLookup.Provider registries) {
+        ConveyorManager manager = new ConveyorManager();
+        ListTag items = tag.getList("items", Tag.TAG_COMPOUND);
+        for (int i = 0; i < items.size(); i++) {
+            CompoundTag entry = items.getCompound(i);
+            int local = entry.getInt("offset");
+            ItemStack.parse(registries, entry.getCompound("stack")).ifPresent(stack ->
+                manager.residual.computeIfAbsent(entry.getLong("pos"), key -> new ObjectArrayList<>())
+                    .add(new LooseItem(local, stack)));
+        }
+        return manager;
+    }
+
+    /**
+     * Quantidade de linhas ativas neste mundo
+     */
+    public int getLineCount() {
+        return lines.size();
+    }
+
+    /**
+     * Quantidade de esteiras em linhas ativas neste mundo
+     */
+    public int getBeltCount() {
+        return lineByBelt.size();
+    }
+
+    /**
+     * Quantidade de itens sobre esteiras ativas neste mundo
+     */
+    public int getItemCount() {
+        int count = 0;
+        for (BeltLine line : lines) {
+            count += line.count;
+        }
+        return count;
+    }
+
+    /**
+     * Quantidade de linhas construídas desde que o mundo carregou
+     */
+    public long getRebuildCount() {
+        return rebuilds;
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            ConveyorManager manager = serverLevel.getDataStorage().computeIfAbsent(
+                new SavedData.Factory<>(ConveyorManager::new, ConveyorManager::load, null), DATA_NAME);
+            manager.level = serverLevel;
+            MANAGERS.put(serverLevel, manager);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            ConveyorManager manager = MANAGERS.get(serverLevel);
+            if (manager != null) {
+                manager.tick();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel && event.getChunk() instanceof LevelChunk chunk) {
+            ConveyorManager manager = MANAGERS.get(serverLevel);
+            if (manager != null) {
+                manager.onChunkLoaded(chunk);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            ConveyorManager manager = MANAGERS.get(serverLevel);
+            if (manager != null) {
+                manager.onChunkUnloaded(event.getChunk().getPos());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+        ConveyorManager manager = MANAGERS.get(event.getLevel());
+        if (manager != null) {
+            manager.onChunkWatched(event.getPlayer(), event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnwatch(ChunkWatchEvent.UnWatch event) {
+        ConveyorManager manager = MANAGERS.get(event.getLevel());
+        if (manager != null) {
+            manager.onChunkUnwatched(event.getPlayer(), event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MANAGERS.remove(serverLevel);
+        }
+    }
+
+    /**
+     * Item guardado fora de uma linha: posição dentro da esteira e pilha
+     */
+    private record LooseItem(int local, ItemStack stack) {
+    }
+
+    /**
+     * Inventário de um slot que apenas coloca itens no centro da esteira
+     */
+    private record BeltItemHandler(ConveyorManager manager, BlockPos pos) implements IItemHandler {
+
+        @Override
+        public int getSlots() {
+            return 1;
+        }
+
+        @Override
+        public ItemStack getStackInSlot(int slot) {
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
+            if (stack.isEmpty()) {
+                return stack;
+            }
+            return manager.insert(pos, simulate ? stack : stack.copy(), BeltLine.CENTER, simulate) ? ItemStack.EMPTY : stack;
+        }
+
+        @Override
+        public ItemStack extractItem(int slot, int amount, boolean simulate) {
+            return ItemStack.EMPTY;
+        }
+
+        @Override
+        public int getSlotLimit(int slot) {
+            return 64;
+        }
+
+        @Override
+        public boolean isItemValid(int slot, ItemStack stack) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.cronicasaetherium.mod.common.logistics;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemHandlerHelper;
+
+import java.util.Comparator;
+
+/**
+ * Rede de dutos pneumáticos conectados
+ *
+ * Inventários encostados em dutos de extração são origens; os demais
+ * inventários encostados na rede são destinos. Na construção, cada origem
+ * recebe uma tabela de rotas: os destinos ordenados pela distância em
+ * dutos, calculada uma única vez por busca em largura. Nenhum item
+ * dispara busca de caminho.
+ *
+ * Os itens viajam em pacotes: a cada intervalo de envio, cada origem
+ * manda até uma pilha parcial para o primeiro destino da tabela que a
+ * aceitar, começando por um cursor em rodízio, o que espalha o minério
+ * igualmente entre vários trituradores.
+ */
+public class DuctNetwork extends BlockNetwork {
+
+    public static final int SEND_INTERVAL = 20; // Ticks entre pacotes (dutos lentos)
+    public static final int PACKET_SIZE = 16; // Itens por pacote
+
+    // Posições dos dutos de extração (BlockPos.asLong)
+    final LongOpenHashSet extractors = new LongOpenHashSet();
+    // Posições dos inventários conectados, como origem e como destino
+    final LongOpenHashSet sourcePositions = new LongOpenHashSet();
+    final LongOpenHashSet destinationPositions = new LongOpenHashSet();
+
+    private final ObjectArrayList<Endpoint> sources = new ObjectArrayList<>();
+    private final ObjectArrayList<Endpoint> destinations = new ObjectArrayList<>();
+
+    // Fase do envio, para que redes diferentes não enviem no mesmo tick
+    final int phase;
+
+    DuctNetwork(int phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * Conecta um inventário encostado em um duto
+     *
+     * Um inventário encostado em um duto de extração e em um duto comum é
+     * ao mesmo tempo origem e destino; cada papel é registrado uma vez.
+     *
+     * @param duct Posição do duto
+     * @param pos Posição do inventário
+     * @param cache Cache da capability (mantido vivo pela rede)
+     * @param handler Handler resolvido na construção
+     */
+    void addEndpoint(long duct, BlockPos pos, BlockCapabilityCache<IItemHandler, Direction> cache, IItemHandler handler) {
+        long key = pos.asLong();
+        if (extractors.contains(duct)) {
+            if (sourcePositions.add(key)) {
+                sources.add(new Endpoint(duct, key, cache, handler));
+            }
+        } else if (destinationPositions.add(key)) {
+            destinations.add(new Endpoint(duct, key, cache, handler));
+        }
+    }
+
+    /**
+     * Verifica se o inventário já está conectado no papel que este duto daria
+     */
+    boolean isConnected(long duct, long pos) {
+        return extractors.contains(duct) ? sourcePositions.contains(pos) : destinationPositions.contains(pos);
+    }
+
+    /**
+     * Calcula as tabelas de rotas de todas as origens
+     *
+     * Uma busca em largura por origem sobre os dutos; o custo só é pago
+     * quando a topologia muda.
+     */
+    void computeRoutes() {
+        Long2IntOpenHashMap distance = new Long2IntOpenHashMap();
+        distance.defaultReturnValue(-1);
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+
+        for (Endpoint source : sources) {
+            distance.clear();
+            queue.clear();
+            distance.put(source.duct, 0);
+            queue.enqueue(source.duct);
+
+            while (!queue.isEmpty()) {
+                long current = queue.dequeueLong();
+                int next = distance.get(current) + 1;
+                for (Direction direction : Direction.values()) {
+                    neighbor.set(current).move(direction);
+                    long key = neighbor.asLong();
+                    if (members.contains(key) && distance.get(key) < 0) {
+                        distance.put(key, next);
+                        queue.enqueue(key);
+                    }
+                }
+            }
+
+            Endpoint[] route = destinations.stream()
+                .filter(destination -> destination.pos != source.pos && distance.get(destination.duct) >= 0)
+                .sorted(Comparator.comparingInt(destination -> distance.get(destination.duct)))
+                .toArray(Endpoint[]::new);
+            source.route = route;
+        }
+    }
+
+    /**
+     * Envia um pacote de cada origem, se for o tick desta rede
+     */
+    void tick(long gameTime) {
+        if ((gameTime + phase) % SEND_INTERVAL != 0) {
+            return;
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            send(sources.get(i));
+        }
+    }
+
+    private void send(Endpoint source) {
+        if (source.route.length == 0) {
+            return;
+        }
+
+        IItemHandler from = source.handler;
+        for (int slot = 0; slot < from.getSlots(); slot++) {
+            ItemStack packet = from.extractItem(slot, PACKET_SIZE, true);
+            if (packet.isEmpty()) {
+                continue;
+            }
+
+            // Primeiro destino da tabela (a partir do cursor) que aceita o pacote
+            for (int k = 0; k < source.route.length; k++) {
+                int index = (source.cursor + k) % source.route.length;
+                IItemHandler to = source.route[index].handler;
+
+                int accepted = packet.getCount() - ItemHandlerHelper.insertItem(to, packet, true).getCount();
+                if (accepted <= 0) {
+                    continue;
+                }
+
+                ItemStack moved = from.extractItem(slot, accepted, false);
+                ItemStack rejected = ItemHandlerHelper.insertItem(to, moved, false);
+                if (!rejected.isEmpty()) {
+                    // O destino mentiu na simulação: devolve à origem
+                    ItemHandlerHelper.insertItem(from, rejected, false);
+                }
+                source.cursor = (index + 1) % source.route.length;
+                return; // Um pacote por origem por envio
+            }
+        }
+    }
+
+    public int getDuctCount() {
+        return members.size();
+    }
+
+    public int getSourceCount() {
+        return sources.size();
+    }
+
+    public int getDestinationCount() {
+        return destinations.size();
+    }
+
+    public int getRouteCount() {
+        int count = 0;
+        for (Endpoint source : sources) {
+            count += source.route.length;
+        }
+        return count;
+    }
+
+    /**
+     * Inventário conectado à rede
+     */
+    static final class Endpoint {
+        final long duct;
+        final long pos;
+        final IItemHandler handler;
+        // Mantém o cache vivo: é ele que avisa quando o inventário muda
+        final BlockCapabilityCache<IItemHandler, Direction> cache;
+
+        // Tabela de rotas (apenas origens): destinos por distância
+        Endpoint[] route = new Endpoint[0];
+        int cursor;
+
+        Endpoint(long duct, long pos, BlockCapabilityCache<IItemHandler, Direction> cache, IItemHandler handler) {
+            this.duct = duct;
+            this.pos = pos;
+            this.cache = cache;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.cronicasaetherium.mod.common.logistics;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.blocks.tech.PneumaticDuctBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Gerenciador das redes de dutos pneumáticos de um mundo
+ *
+ * A manutenção da topologia fica no BlockNetworkManager. Ao ser
+ * reconstruída, a rede recalcula as tabelas de rotas de suas origens;
+ * entre reconstruções, o envio de itens não faz nenhuma busca de caminho
+ * nem consulta de capability.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class DuctNetworkManager extends BlockNetworkManager<DuctNetwork, IItemHandler> {
+
+    // Um gerenciador por mundo carregado
+    private static final Registry<DuctNetworkManager> MANAGERS = new Registry<>(DuctNetworkManager::new);
+
+    private DuctNetworkManager(ServerLevel level) {
+        super(level, Capabilities.ItemHandler.BLOCK);
+    }
+
+    /**
+     * Obtém o gerenciador de um mundo
+     *
+     * @param level Mundo do servidor
+     * @return Gerenciador do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static DuctNetworkManager get(ServerLevel level) {
+        return MANAGERS.get(level);
+    }
+
+    @Override
+    protected boolean isMember(BlockState state) {
+        return state.getBlock() instanceof PneumaticDuctBlock;
+    }
+
+    @Override
+    protected DuctNetwork createNetwork() {
+        return new DuctNetwork((int) (getRebuildCount() % DuctNetwork.SEND_INTERVAL));
+    }
+
+    /**
+     * O papel de cada inventário depende do modo do duto
+     */
+    @Override
+    protected void onClaimed(DuctNetwork network, long pos) {
+        if (level.getBlockState(BlockPos.of(pos)).getValue(PneumaticDuctBlock.EXTRACT)) {
+            network.extractors.add(pos);
+        }
+    }
+
+    @Override
+    protected boolean isConnected(DuctNetwork network, long duct, long pos) {
+        return network.isConnected(duct, pos);
+    }
+
+    @Override
+    protected void attach(DuctNetwork network, long duct, BlockPos pos, BlockCapabilityCache<IItemHandler, Direction> cache, IItemHandler handler) {
+        network.addEndpoint(duct, pos, cache, handler);
+    }
+
+    @Override
+    protected void onBuilt(DuctNetwork network) {
+        network.computeRoutes();
+    }
+
+    @Override
+    protected void tickNetwork(DuctNetwork network) {
+        network.tick(level.getGameTime());
+    }
+
+    /**
+     * Total de rotas (pares origem → destino) calculadas neste mundo
+     */
+    public int getRouteCount() {
+        int count = 0;
+        for (DuctNetwork network : networks) {
+            count += network.getRouteCount();
+        }
+        return count;
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        MANAGERS.onLevelLoad(event);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        MANAGERS.onLevelTick(event);
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        MANAGERS.onChunkLoad(event);
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        MANAGERS.onChunkUnload(event);
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        MANAGERS.onLevelUnload(event);
+    }
+}
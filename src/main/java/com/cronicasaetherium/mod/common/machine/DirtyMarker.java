@@ -0,0 +1,141 @@
+package com.cronicasaetherium.mod.common.machine;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Agrupa as marcações de "modificado" das BlockEntities de um mundo
+ *
+ * setChanged marca o chunk como não salvo e avisa comparadores vizinhos;
+ * uma máquina ocupada chegava a chamá-lo várias vezes por tick (cada
+ * energia recebida, cada slot alterado). Com o {@link #mark} a BlockEntity
+ * apenas entra no conjunto do tick, e no fim do tick cada uma recebe um
+ * único setChanged. Um salvamento pode acontecer no meio do tick (o
+ * /save-all, por exemplo), então as marcações pendentes também são
+ * aplicadas no LevelEvent.Save, antes de os chunks serem gravados, e no
+ * Unload, antes de o agrupador ser descartado.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class DirtyMarker {
+
+    // Um agrupador por mundo carregado
+    private static final Map<ServerLevel, DirtyMarker> MARKERS = new IdentityHashMap<>();
+
+    private final ReferenceOpenHashSet<BlockEntity> pending = new ReferenceOpenHashSet<>();
+
+    private long marksRequested;
+    private long marksFlushed;
+
+    /**
+     * Obtém o agrupador de um mundo
+     *
+     * Criado no LevelEvent.Load e descartado no Unload, como o
+     * MachineTicker.
+     *
+     * @param level Mundo do servidor
+     * @return Agrupador do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static DirtyMarker get(ServerLevel level) {
+        return MARKERS.get(level);
+    }
+
+    /**
+     * Marca uma BlockEntity como modificada até o fim do tick
+     *
+     * No cliente (ou fora de um mundo carregado) chama setChanged
+     * diretamente.
+     *
+     * @param blockEntity BlockEntity modificada
+     */
+    public static void mark(BlockEntity blockEntity) {
+        DirtyMarker marker = blockEntity.getLevel() instanceof ServerLevel serverLevel ? MARKERS.get(serverLevel) : null;
+        if (marker != null) {
+            marker.marksRequested++;
+            marker.pending.add(blockEntity);
+        } else {
+            blockEntity.setChanged();
+        }
+    }
+
+    private void flush() {
+        for (BlockEntity blockEntity : pending) {
+            if (!blockEntity.isRemoved()) {
+                blockEntity.setChanged();
+                marksFlushed++;
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Marcações pedidas desde que o mundo carregou
+     */
+    public long getMarksRequested() {
+        return marksRequested;
+    }
+
+    /**
+     * setChanged realmente executados desde que o mundo carregou
+     */
+    public long getMarksFlushed() {
+        return marksFlushed;
+    }
+
+    /**
+     * Marcações redundantes evitadas (mesma BlockEntity no mesmo tick, ou
+     * BlockEntity removida antes do fim do tick)
+     */
+    public long getMarksAvoided() {
+        return marksRequested - marksFlushed - pending.size();
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MARKERS.put(serverLevel, new DirtyMarker());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            DirtyMarker marker = MARKERS.get(serverLevel);
+            if (marker != null && !marker.pending.isEmpty()) {
+                marker.flush();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelSave(LevelEvent.Save event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            DirtyMarker marker = MARKERS.get(serverLevel);
+            if (marker != null && !marker.pending.isEmpty()) {
+                marker.flush();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            DirtyMarker marker = MARKERS.remove(serverLevel);
+            if (marker != null && !marker.pending.isEmpty()) {
+                marker.flush();
+            }
+        }
+    }
+}
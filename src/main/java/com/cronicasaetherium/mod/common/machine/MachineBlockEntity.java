@@ -0,0 +1,343 @@
+package com.cronicasaetherium.mod.common.machine;
+
+import com.cronicasaetherium.mod.common.capability.AutomationItemHandler;
+import com.cronicasaetherium.mod.common.capability.ModEnergyStorage;
+import com.cronicasaetherium.mod.common.capability.SideConfig;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemStackHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base das máquinas do mod com ticking sob demanda
+ *
+ * Em vez de usar o ticker do bloco (chamado todo tick, mesmo sem trabalho),
+ * as máquinas são avançadas pelo MachineTicker do mundo apenas enquanto
+ * estão acordadas, em lotes de ticks conforme o intervalo configurado.
+ * Quando uma máquina não consegue progredir (sem entrada, sem energia,
+ * saída cheia), ela adormece e deixa de custar qualquer coisa.
+ *
+ * Uma máquina adormecida é acordada por:
+ * - Mudança no inventário
+ * - Recebimento de energia
+ * - Atualização de bloco vizinho
+ * - Carregamento do chunk
+ *
+ * Subclasses implementam {@link #advance(int)} e chamam {@link #wake()}
+ * sempre que algo externo pode permitir que voltem a trabalhar.
+ *
+ * O tempo de jogo até o qual a máquina foi avançada é salvo no NBT. Ao
+ * recarregar o chunk, o primeiro avanço cobre todo o período em que ele
+ * ficou descarregado, então advance(int) deve resolver grandes lotes de
+ * ticks de forma analítica, limitada pelo inventário e pela energia.
+ *
+ * Estado visual (processando, ativo...) chega aos clientes por deltas:
+ * a subclasse numera seus campos visuais como bits, chama
+ * {@link #markSync(int)} quando um deles muda e implementa
+ * {@link #writeSync} / {@link #readSync}. O MachineSyncDispatcher agrupa
+ * as mudanças e envia no máximo um pacote por máquina por intervalo.
+ *
+ * Mudanças que precisam ser salvas usam {@link #markDirty()} em vez de
+ * setChanged, para que o chunk seja marcado uma única vez por tick.
+ *
+ * Energia e itens são expostos por lado conforme o SideConfig da máquina
+ * (editado com a Chave de Calibração): as capabilities registradas em
+ * ModCapabilities chamam {@link #getEnergyHandler} e
+ * {@link #getItemHandler}, que só fazem um teste de bits.
+ */
+public abstract class MachineBlockEntity extends BlockEntity {
+
+    // Estado no agendador (acessado apenas na thread do servidor)
+    boolean awake = false;
+    boolean registered = false;
+    int slot = -1;
+    long lastAdvance;
+
+    // Tempo de jogo salvo no NBT, consumido no onLoad (-1 = nenhum)
+    private long resumeFrom = -1;
+
+    // Sincronização com o cliente (acessado apenas na thread do servidor)
+    public static final int SYNC_ALL = 0xFF; // Até 8 campos visuais por máquina
+    int syncDirty;
+    boolean syncQueued;
+    long lastSync = Long.MIN_VALUE / 2;
+
+    // Configuração por lado (salva no NBT como um único int)
+    private final SideConfig sideConfig = new SideConfig();
+    // Visões de automação do inventário, uma por combinação de modos de itens
+    private final IItemHandler[] itemViews = new IItemHandler[4];
+
+    protected MachineBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
+        super(type, pos, state);
+    }
+
+    /**
+     * Avança a máquina pelo número de ticks decorridos desde o último avanço
+     *
+     * Chamado apenas no servidor e apenas enquanto a máquina está acordada.
+     * Com o intervalo de atualização configurado em N, recebe ticks = N;
+     * o resultado deve ser o mesmo de N chamadas de um tick cada.
+     *
+     * @param ticks Ticks decorridos (sempre maior que zero)
+     * @return true se a máquina ainda pode progredir; false a faz adormecer
+     */
+    protected abstract boolean advance(int ticks);
+
+    /**
+     * Quantos múltiplos de um período existem no intervalo (from, to]
+     *
+     * Usado para converter efeitos periódicos ("a cada 20 ticks") em uma
+     * única conta ao avançar vários ticks de uma vez.
+     */
+    protected static int periodsCrossed(int from, int to, int period) {
+        return to / period - from / period;
+    }
+
+    /**
+     * Variante de {@link #periodsCrossed(int, int, int)} para tempo de jogo
+     */
+    protected static long periodsCrossed(long from, long to, int period) {
+        return Math.floorDiv(to, period) - Math.floorDiv(from, period);
+    }
+
+    /**
+     * Acorda a máquina para que volte a ser avançada pelo agendador
+     *
+     * Seguro de chamar a qualquer momento, inclusive no cliente ou antes
+     * do bloco estar no mundo (nesses casos não faz nada).
+     */
+    public void wake() {
+        if (!awake && registered && level instanceof ServerLevel serverLevel) {
+            MachineTicker ticker = MachineTicker.get(serverLevel);
+            if (ticker != null) {
+                awake = true;
+                ticker.schedule(this);
+            }
+        }
+    }
+
+    /**
+     * Marca a máquina como modificada, com no máximo um setChanged por
+     * tick (ver DirtyMarker)
+     */
+    protected void markDirty() {
+        DirtyMarker.mark(this);
+    }
+
+    /**
+     * Marca campos visuais como alterados para envio aos clientes
+     *
+     * Várias marcações dentro do intervalo de sincronização viram um único
+     * pacote com a união dos bits. No cliente não faz nada.
+     *
+     * @param fields Bits dos campos alterados
+     */
+    protected void markSync(int fields) {
+        if (level instanceof ServerLevel serverLevel) {
+            syncDirty |= fields;
+            MachineSyncDispatcher dispatcher = MachineSyncDispatcher.get(serverLevel);
+            if (!syncQueued && dispatcher != null) {
+                syncQueued = true;
+                dispatcher.queue(this);
+            }
+        }
+    }
+
+    /**
+     * Escreve os valores dos campos visuais marcados, na ordem dos bits
+     *
+     * @param fields Bits dos campos a escrever
+     * @param buf Buffer de saída
+     */
+    protected void writeSync(int fields, FriendlyByteBuf buf) {
+    }
+
+    /**
+     * Lê os valores escritos por {@link #writeSync}, na mesma ordem (cliente)
+     *
+     * @param fields Bits dos campos presentes
+     * @param buf Buffer de entrada
+     */
+    protected void readSync(int fields, FriendlyByteBuf buf) {
+    }
+
+    byte[] encodeSync(int fields) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        writeSync(fields, buf);
+        byte[] data = new byte[buf.readableBytes()];
+        buf.readBytes(data);
+        return data;
+    }
+
+    /**
+     * Aplica um delta recebido do servidor (cliente)
+     */
+    public void applySync(int fields, byte[] data) {
+        readSync(fields, new FriendlyByteBuf(Unpooled.wrappedBuffer(data)));
+    }
+
+    /**
+     * Armazenamento de energia da máquina (null se não usa energia)
+     */
+    @Nullable
+    public ModEnergyStorage getEnergyStorage() {
+        return null;
+    }
+
+    /**
+     * Inventário interno da máquina (null se não tem inventário)
+     */
+    @Nullable
+    public ItemStackHandler getInventory() {
+        return null;
+    }
+
+    /**
+     * Primeiro slot de saída; slots anteriores não saem por automação
+     */
+    protected int getFirstOutputSlot() {
+        ItemStackHandler inventory = getInventory();
+        return inventory != null ? inventory.getSlots() : 0;
+    }
+
+    public SideConfig getSideConfig() {
+        return sideConfig;
+    }
+
+    /**
+     * Energia exposta em um lado, conforme a configuração dele
+     *
+     * @param side Lado consultado (null = interno)
+     * @return Armazenamento, ou null se o lado não permite o sentido dele
+     */
+    @Nullable
+    public IEnergyStorage getEnergyHandler(@Nullable Direction side) {
+        ModEnergyStorage storage = getEnergyStorage();
+        if (storage == null) {
+            return null;
+        }
+        int modes = (storage.canReceive() ? SideConfig.ENERGY_IN : 0) | (storage.canExtract() ? SideConfig.ENERGY_OUT : 0);
+        return sideConfig.allows(side, modes) ? storage : null;
+    }
+
+    /**
+     * Inventário exposto em um lado para automação, conforme a
+     * configuração dele
+     *
+     * @param side Lado consultado (null = interno)
+     * @return Visão do inventário, ou null se o lado não permite itens
+     */
+    @Nullable
+    public IItemHandler getItemHandler(@Nullable Direction side) {
+        ItemStackHandler inventory = getInventory();
+        int modes = sideConfig.get(side) & SideConfig.ITEMS;
+        if (inventory == null || modes == 0) {
+            return null;
+        }
+
+        // ITEM_IN e ITEM_OUT ocupam os bits 2 e 3: índices 1 a 3
+        IItemHandler view = itemViews[modes >>> 2];
+        if (view == null) {
+            view = new AutomationItemHandler(inventory, getFirstOutputSlot(), modes);
+            itemViews[modes >>> 2] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Aplica uma mudança no SideConfig: salva, avisa os caches de
+     * capability dos vizinhos e acorda a máquina
+     */
+    public void onSideConfigChanged() {
+        markDirty();
+        if (level != null && !level.isClientSide()) {
+            level.invalidateCapabilities(worldPosition);
+        }
+        wake();
+    }
+
+    /**
+     * Verifica se a máquina está sendo avançada pelo agendador
+     */
+    public boolean isAwake() {
+        return awake;
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+
+        MachineTicker ticker = level instanceof ServerLevel serverLevel ? MachineTicker.get(serverLevel) : null;
+        if (ticker != null) {
+            ticker.register(this);
+            wake(); // Avalia o estado salvo no primeiro tick
+
+            if (awake && resumeFrom >= 0) {
+                // O primeiro avanço cobre o tempo em que o chunk ficou descarregado
+                lastAdvance = Math.min(resumeFrom, level.getGameTime());
+            }
+            resumeFrom = -1;
+        }
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.saveAdditional(tag, registries);
+
+        if (level instanceof ServerLevel serverLevel) {
+            // Uma máquina acordada pode estar até um intervalo atrás do mundo
+            tag.putLong("last_advance", awake ? lastAdvance : serverLevel.getGameTime());
+        }
+        tag.putInt("sides", sideConfig.getBits());
+    }
+
+    @Override
+    protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.loadAdditional(tag, registries);
+
+        resumeFrom = tag.contains("last_advance") ? tag.getLong("last_advance") : -1;
+        if (tag.contains("sides")) {
+            sideConfig.setBits(tag.getInt("sides"));
+        }
+    }
+
+    /**
+     * Estado visual completo enviado junto com o chunk
+     *
+     * Usa o mesmo formato dos deltas em vez do NBT salvo da máquina.
+     */
+    @Override
+    public CompoundTag getUpdateTag(HolderLookup.Provider registries) {
+        CompoundTag tag = super.getUpdateTag(registries);
+        tag.putByteArray("sync", encodeSync(SYNC_ALL));
+        return tag;
+    }
+
+    @Override
+    public void handleUpdateTag(CompoundTag tag, HolderLookup.Provider registries) {
+        if (tag.contains("sync")) {
+            applySync(SYNC_ALL, tag.getByteArray("sync"));
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+
+        // Sem recriar o agendador: o mundo pode estar sendo descarregado
+        MachineTicker ticker = level instanceof ServerLevel serverLevel ? MachineTicker.get(serverLevel) : null;
+        if (ticker != null) {
+            ticker.unregister(this);
+        }
+    }
+}
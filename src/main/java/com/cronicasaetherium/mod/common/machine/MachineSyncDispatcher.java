@@ -0,0 +1,132 @@
+package com.cronicasaetherium.mod.common.machine;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.network.MachineSyncPayload;
+import com.cronicasaetherium.mod.config.ModConfig;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Envio agrupado do estado visual das máquinas de um mundo
+ *
+ * Uma máquina que muda um campo visual apenas marca o bit dele e entra
+ * na fila. No fim do tick, cada máquina da fila cujo último envio foi há
+ * pelo menos machineSyncInterval ticks manda um único MachineSyncPayload
+ * com todos os campos marcados desde então, apenas para os jogadores que
+ * acompanham o chunk dela. As demais esperam na fila, acumulando bits.
+ *
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class MachineSyncDispatcher {
+
+    // Um despachante por mundo carregado
+    private static final Map<ServerLevel, MachineSyncDispatcher> DISPATCHERS = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final ObjectArrayList<MachineBlockEntity> queue = new ObjectArrayList<>();
+
+    private long packetsSent;
+
+    private MachineSyncDispatcher(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Obtém o despachante de um mundo
+     *
+     * Criado no LevelEvent.Load e descartado no Unload, como o
+     * MachineTicker.
+     *
+     * @param level Mundo do servidor
+     * @return Despachante do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static MachineSyncDispatcher get(ServerLevel level) {
+        return DISPATCHERS.get(level);
+    }
+
+    void queue(MachineBlockEntity machine) {
+        queue.add(machine);
+    }
+
+    /**
+     * Envia as máquinas da fila cujo intervalo mínimo já passou
+     */
+    private void flush() {
+        int interval = ModConfig.MACHINE_SYNC_INTERVAL.get();
+        long gameTime = level.getGameTime();
+
+        int kept = 0;
+        for (int i = 0; i < queue.size(); i++) {
+            MachineBlockEntity machine = queue.get(i);
+            if (machine.isRemoved()) {
+                machine.syncQueued = false;
+                machine.syncDirty = 0;
+                continue;
+            }
+            if (gameTime - machine.lastSync < interval) {
+                queue.set(kept++, machine); // Ainda dentro do intervalo: acumula
+                continue;
+            }
+
+            int fields = machine.syncDirty;
+            machine.syncDirty = 0;
+            machine.syncQueued = false;
+            machine.lastSync = gameTime;
+
+            PacketDistributor.sendToPlayersTrackingChunk(level, new ChunkPos(machine.getBlockPos()),
+                new MachineSyncPayload(machine.getBlockPos(), fields, machine.encodeSync(fields)));
+            packetsSent++;
+        }
+        queue.size(kept);
+    }
+
+    /**
+     * Máquinas aguardando envio neste mundo
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Pacotes de estado enviados desde que o mundo carregou
+     */
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            DISPATCHERS.put(serverLevel, new MachineSyncDispatcher(serverLevel));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MachineSyncDispatcher dispatcher = DISPATCHERS.get(serverLevel);
+            if (dispatcher != null && !dispatcher.queue.isEmpty()) {
+                dispatcher.flush();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            DISPATCHERS.remove(serverLevel);
+        }
+    }
+}
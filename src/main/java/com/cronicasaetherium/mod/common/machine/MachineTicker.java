@@ -0,0 +1,228 @@
+package com.cronicasaetherium.mod.common.machine;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.config.ModConfig;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Agendador central de ticks das máquinas de um mundo
+ *
+ * As máquinas acordadas ficam em arrays contíguos, um por tipo de
+ * BlockEntity, e são distribuídas em fases conforme o intervalo
+ * configurado (machineUpdateInterval). A cada tick do mundo, apenas a
+ * fase atual de cada array é percorrida: com intervalo N, cada máquina
+ * roda uma vez a cada N ticks e avança N ticks de uma vez, então o custo
+ * por tick cai para 1/N e fica ajustável pelo administrador.
+ *
+ * O delta é calculado a partir do último avanço de cada máquina, então
+ * mudanças de posição no array (remoções) nunca fazem uma máquina
+ * perder ou repetir ticks.
+ *
+ * Máquinas adormecidas não aparecem em nenhum array.
+ * Acessado apenas na thread do servidor.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class MachineTicker {
+
+    // Um agendador por mundo carregado
+    private static final Map<ServerLevel, MachineTicker> TICKERS = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final Reference2ObjectOpenHashMap<BlockEntityType<?>, Group> groupsByType = new Reference2ObjectOpenHashMap<>();
+    private final ObjectArrayList<Group> groups = new ObjectArrayList<>();
+    private int loaded;
+    private int awake;
+
+    private MachineTicker(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Obtém o agendador de um mundo
+     *
+     * O agendador é criado no LevelEvent.Load e descartado no Unload, e
+     * nunca é recriado depois: máquinas que acordam ou são removidas
+     * durante o descarregamento não prendem o mundo na memória.
+     *
+     * @param level Mundo do servidor
+     * @return Agendador do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static MachineTicker get(ServerLevel level) {
+        return TICKERS.get(level);
+    }
+
+    void register(MachineBlockEntity machine) {
+        if (!machine.registered) {
+            machine.registered = true;
+            loaded++;
+        }
+    }
+
+    void unregister(MachineBlockEntity machine) {
+        if (machine.registered) {
+            machine.registered = false;
+            loaded--;
+        }
+        if (machine.awake) {
+            machine.awake = false;
+            awake--;
+            group(machine).remove(machine);
+        }
+    }
+
+    /**
+     * Coloca uma máquina acordada no fim do array do seu tipo
+     *
+     * Pode ser chamado durante o tick: a máquina entra com delta zero e
+     * só avança quando sua fase chegar.
+     */
+    void schedule(MachineBlockEntity machine) {
+        machine.lastAdvance = level.getGameTime();
+        awake++;
+        group(machine).add(machine);
+    }
+
+    private Group group(MachineBlockEntity machine) {
+        Group group = groupsByType.get(machine.getType());
+        if (group == null) {
+            group = new Group();
+            groupsByType.put(machine.getType(), group);
+            groups.add(group);
+        }
+        return group;
+    }
+
+    /**
+     * Executa a fase atual de todos os tipos de máquina
+     */
+    private void tick() {
+        int interval = ModConfig.MACHINE_UPDATE_INTERVAL.get();
+        long gameTime = level.getGameTime();
+        int phase = (int) (gameTime % interval);
+
+        // Índices em vez de iteradores: tipos novos podem surgir durante o tick
+        for (int g = 0; g < groups.size(); g++) {
+            Group group = groups.get(g);
+            int i = phase;
+            while (i < group.size) {
+                MachineBlockEntity machine = group.machines[i];
+
+                if (!machine.awake || machine.isRemoved()) {
+                    if (machine.awake) {
+                        machine.awake = false;
+                        awake--;
+                    }
+                    group.removeAt(i);
+                    continue; // O último elemento foi movido para i
+                }
+
+                long delta = gameTime - machine.lastAdvance;
+                if (delta > 0) {
+                    machine.lastAdvance = gameTime;
+                    if (!machine.advance((int) Math.min(delta, Integer.MAX_VALUE))) {
+                        // Sem trabalho possível: adormece até ser acordada
+                        machine.awake = false;
+                        awake--;
+                        group.removeAt(i);
+                        continue;
+                    }
+                }
+                i += interval;
+            }
+        }
+    }
+
+    /**
+     * Quantidade de máquinas acordadas neste mundo
+     */
+    public int getAwakeCount() {
+        return awake;
+    }
+
+    /**
+     * Quantidade de máquinas adormecidas neste mundo
+     */
+    public int getAsleepCount() {
+        return Math.max(0, loaded - awake);
+    }
+
+    /**
+     * Quantidade de tipos de máquina com arrays ativos neste mundo
+     */
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            TICKERS.put(serverLevel, new MachineTicker(serverLevel));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            MachineTicker ticker = TICKERS.get(serverLevel);
+            if (ticker != null && ticker.awake > 0) {
+                ticker.tick();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            TICKERS.remove(serverLevel);
+        }
+    }
+
+    /**
+     * Array contíguo das máquinas acordadas de um tipo
+     *
+     * Remoção por troca com o último elemento; cada máquina guarda seu
+     * índice para remoção em O(1).
+     */
+    private static final class Group {
+        private MachineBlockEntity[] machines = new MachineBlockEntity[16];
+        private int size;
+
+        private void add(MachineBlockEntity machine) {
+            if (size == machines.length) {
+                machines = Arrays.copyOf(machines, size * 2);
+            }
+            machine.slot = size;
+            machines[size++] = machine;
+        }
+
+        private void remove(MachineBlockEntity machine) {
+            int slot = machine.slot;
+            if (slot >= 0 && slot < size && machines[slot] == machine) {
+                removeAt(slot);
+            }
+        }
+
+        private void removeAt(int index) {
+            machines[index].slot = -1;
+            int last = --size;
+            if (index != last) {
+                machines[index] = machines[last];
+                machines[index].slot = index;
+            }
+            machines[last] = null;
+        }
+    }
+}
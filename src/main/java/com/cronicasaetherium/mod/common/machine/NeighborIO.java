@@ -0,0 +1,238 @@
+package com.cronicasaetherium.mod.common.machine;
+
+import com.cronicasaetherium.mod.common.capability.ModEnergyStorage;
+import com.cronicasaetherium.mod.common.capability.SideConfig;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.capabilities.BlockCapability;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.IItemHandlerModifiable;
+import net.neoforged.neoforge.items.ItemHandlerHelper;
+
+import java.util.Arrays;
+
+/**
+ * Troca de itens e energia de uma máquina com os blocos encostados nela
+ *
+ * Cada lado tem um BlockCapabilityCache (criado no primeiro uso) em vez
+ * de um level.getCapability por avanço. Um lado sem capability fica
+ * ignorado até o cache ser invalidado (bloco vizinho trocado); um lado
+ * cheio ou sem energia é tentado de novo com espera exponencial, de
+ * MIN_BACKOFF até MAX_BACKOFF ticks. Qualquer invalidação zera a espera
+ * do lado e acorda a máquina.
+ *
+ * Só são usados os lados que o SideConfig da máquina permite: saída de
+ * itens (ITEM_OUT) e entrada de energia (ENERGY_IN).
+ *
+ * Usado apenas na thread do servidor, dentro de advance(int).
+ */
+public class NeighborIO {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Espera entre tentativas em um lado cheio (ticks)
+    private static final int MIN_BACKOFF = 10;
+    private static final int MAX_BACKOFF = 160;
+
+    // Lado sem capability: só volta a ser tentado quando o cache for invalidado
+    private static final long ABSENT = Long.MAX_VALUE;
+
+    private final MachineBlockEntity machine;
+
+    private BlockCapabilityCache<IItemHandler, Direction>[] itemCaches;
+    private final long[] itemRetryAt = new long[DIRECTIONS.length];
+    private final int[] itemBackoff = new int[DIRECTIONS.length];
+
+    private BlockCapabilityCache<IEnergyStorage, Direction>[] energyCaches;
+    private final long[] energyRetryAt = new long[DIRECTIONS.length];
+    private final int[] energyBackoff = new int[DIRECTIONS.length];
+    private final IEnergyStorage[] energySources = new IEnergyStorage[DIRECTIONS.length];
+
+    public NeighborIO(MachineBlockEntity machine) {
+        this.machine = machine;
+    }
+
+    /**
+     * Empurra o conteúdo de um intervalo de slots para os vizinhos
+     *
+     * @param inventory Inventário da máquina
+     * @param firstSlot Primeiro slot de saída
+     * @param lastSlot Último slot de saída (inclusivo)
+     * @return true se sobrou saída e algum vizinho pode aceitá-la mais
+     *         tarde (a máquina deve continuar acordada)
+     */
+    public boolean pushItems(IItemHandlerModifiable inventory, int firstSlot, int lastSlot) {
+        if (!(machine.getLevel() instanceof ServerLevel level) || isEmpty(inventory, firstSlot, lastSlot)) {
+            return false;
+        }
+        if (itemCaches == null) {
+            itemCaches = createCaches(level, Capabilities.ItemHandler.BLOCK, itemRetryAt, itemBackoff);
+        }
+
+        long gameTime = level.getGameTime();
+        SideConfig sides = machine.getSideConfig();
+        boolean waiting = false;
+        for (int side = 0; side < DIRECTIONS.length; side++) {
+            if (!sides.allows(DIRECTIONS[side], SideConfig.ITEM_OUT)) {
+                continue;
+            }
+            if (gameTime < itemRetryAt[side]) {
+                waiting |= itemRetryAt[side] != ABSENT;
+                continue;
+            }
+
+            IItemHandler target = itemCaches[side].getCapability();
+            if (target == null) {
+                itemRetryAt[side] = ABSENT;
+                continue;
+            }
+
+            if (moveItems(inventory, firstSlot, lastSlot, target)) {
+                itemBackoff[side] = 0;
+                if (isEmpty(inventory, firstSlot, lastSlot)) {
+                    return false;
+                }
+            } else {
+                backOff(itemRetryAt, itemBackoff, side, gameTime);
+            }
+            waiting = true;
+        }
+        return waiting;
+    }
+
+    /**
+     * Puxa energia dos vizinhos que fornecem energia, em uma única
+     * transferência (um único callback de mudança)
+     *
+     * @param target Armazenamento da máquina
+     * @return true se algum vizinho fornecedor existe mas está sem energia
+     *         agora (a máquina deve continuar acordada)
+     */
+    public boolean pullEnergy(ModEnergyStorage target) {
+        if (!(machine.getLevel() instanceof ServerLevel level) || !target.canReceive(1)) {
+            return false;
+        }
+        if (energyCaches == null) {
+            energyCaches = createCaches(level, Capabilities.EnergyStorage.BLOCK, energyRetryAt, energyBackoff);
+        }
+
+        long gameTime = level.getGameTime();
+        SideConfig sides = machine.getSideConfig();
+        boolean waiting = false;
+        int count = 0;
+        for (int side = 0; side < DIRECTIONS.length; side++) {
+            energySources[side] = null;
+            if (!sides.allows(DIRECTIONS[side], SideConfig.ENERGY_IN)) {
+                continue;
+            }
+            if (gameTime < energyRetryAt[side]) {
+                waiting |= energyRetryAt[side] != ABSENT;
+                continue;
+            }
+
+            IEnergyStorage source = energyCaches[side].getCapability();
+            if (source == null || !source.canExtract()) {
+                energyRetryAt[side] = ABSENT;
+                continue;
+            }
+            if (source.extractEnergy(1, true) == 0) {
+                backOff(energyRetryAt, energyBackoff, side, gameTime);
+                waiting = true;
+                continue;
+            }
+            energyBackoff[side] = 0;
+            energySources[side] = source;
+            count++;
+        }
+
+        if (count > 0) {
+            target.transferFrom(energySources);
+            Arrays.fill(energySources, null);
+        }
+        return waiting;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BlockCapabilityCache<T, Direction>[] createCaches(ServerLevel level,
+            BlockCapability<T, Direction> capability,
+            long[] retryAt, int[] backoff) {
+        BlockCapabilityCache<T, Direction>[] caches = new BlockCapabilityCache[DIRECTIONS.length];
+        for (int side = 0; side < DIRECTIONS.length; side++) {
+            Direction direction = DIRECTIONS[side];
+            int index = side;
+            caches[side] = BlockCapabilityCache.create(capability, level,
+                machine.getBlockPos().relative(direction), direction.getOpposite(),
+                () -> !machine.isRemoved(),
+                () -> {
+                    // Vizinho mudou: tenta de novo já no próximo avanço
+                    retryAt[index] = 0;
+                    backoff[index] = 0;
+                    machine.wake();
+                });
+        }
+        return caches;
+    }
+
+    private static void backOff(long[] retryAt, int[] backoff, int side, long gameTime) {
+        backoff[side] = nextBackoff(backoff[side]);
+        retryAt[side] = gameTime + backoff[side];
+    }
+
+    /**
+     * Próxima espera após mais uma tentativa sem sucesso
+     *
+     * Também usada pelas esteiras ao entregar para um inventário cheio.
+     *
+     * @param backoff Espera atual (0 se a última tentativa funcionou)
+     * @return Espera em ticks, entre MIN_BACKOFF e MAX_BACKOFF
+     */
+    public static int nextBackoff(int backoff) {
+        return backoff == 0 ? MIN_BACKOFF : Math.min(backoff * 2, MAX_BACKOFF);
+    }
+
+    /**
+     * Move o que couber dos slots para o destino
+     *
+     * @return true se algum item foi movido
+     */
+    private static boolean moveItems(IItemHandlerModifiable inventory, int firstSlot, int lastSlot, IItemHandler target) {
+        boolean moved = false;
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            ItemStack available = inventory.extractItem(slot, Integer.MAX_VALUE, true);
+            if (available.isEmpty()) {
+                continue;
+            }
+
+            ItemStack remainder = ItemHandlerHelper.insertItemStacked(target, available, true);
+            int accepted = available.getCount() - remainder.getCount();
+            if (accepted > 0) {
+                ItemStack extracted = inventory.extractItem(slot, accepted, false);
+                ItemStack leftover = ItemHandlerHelper.insertItemStacked(target, extracted, false);
+                if (!leftover.isEmpty()) {
+                    // O destino mentiu na simulação: devolve o que não entrou
+                    ItemStack current = inventory.getStackInSlot(slot);
+                    if (current.isEmpty()) {
+                        inventory.setStackInSlot(slot, leftover);
+                    } else {
+                        current.grow(leftover.getCount());
+                    }
+                }
+                moved = true;
+            }
+        }
+        return moved;
+    }
+
+    private static boolean isEmpty(IItemHandler inventory, int firstSlot, int lastSlot) {
+        for (int slot = firstSlot; slot <= lastSlot; slot++) {
+            if (!inventory.getStackInSlot(slot).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.cronicasaetherium.mod.common.network;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import net.minecraft.core.Direction;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Estado de uma linha de esteiras (servidor → cliente)
+ *
+ * Enviado apenas quando a composição da linha muda (item entrou, saiu ou
+ * a linha foi reconstruída), nunca a cada tick: entre um pacote e outro o
+ * cliente avança os itens com a mesma regra do servidor.
+ *
+ * Uma linha removida é enviada com comprimento zero.
+ */
+public record BeltLinePayload(int id, long head, Direction facing, int length, ItemStack[] stacks, int[] offsets)
+    implements CustomPacketPayload {
+
+    public static final Type<BeltLinePayload> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "belt_line"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, BeltLinePayload> STREAM_CODEC =
+        CustomPacketPayload.codec(BeltLinePayload::write, BeltLinePayload::read);
+
+    /**
+     * Pacote que remove a linha do cliente
+     */
+    public static BeltLinePayload removed(int id) {
+        return new BeltLinePayload(id, 0L, Direction.NORTH, 0, new ItemStack[0], new int[0]);
+    }
+
+    public boolean isRemoval() {
+        return length == 0;
+    }
+
+    private void write(RegistryFriendlyByteBuf buf) {
+        buf.writeVarInt(id);
+        buf.writeVarInt(length);
+        if (length == 0) {
+            return;
+        }
+
+        buf.writeLong(head);
+        buf.writeByte(facing.get3DDataValue());
+        buf.writeVarInt(stacks.length);
+        for (int i = 0; i < stacks.length; i++) {
+            ItemStack.STREAM_CODEC.encode(buf, stacks[i]);
+            buf.writeVarInt(offsets[i]);
+        }
+    }
+
+    private static BeltLinePayload read(RegistryFriendlyByteBuf buf) {
+        int id = buf.readVarInt();
+        int length = buf.readVarInt();
+        if (length == 0) {
+            return removed(id);
+        }
+
+        long head = buf.readLong();
+        Direction facing = Direction.from3DDataValue(buf.readByte());
+        int count = buf.readVarInt();
+        ItemStack[] stacks = new ItemStack[count];
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            stacks[i] = ItemStack.STREAM_CODEC.decode(buf);
+            offsets[i] = buf.readVarInt();
+        }
+
+        return new BeltLinePayload(id, head, facing, length, stacks, offsets);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cronicasaetherium.mod.common.network;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.machine.MachineBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Estado visual de uma máquina (servidor → cliente)
+ *
+ * Carrega apenas os campos que mudaram desde o último pacote: fields é a
+ * máscara de bits desses campos e data contém os valores deles, na ordem
+ * dos bits, escritos pela própria máquina (MachineBlockEntity.writeSync).
+ * Um pacote típico tem menos de 12 bytes, contra um CompoundTag completo
+ * de getUpdateTag.
+ */
+public record MachineSyncPayload(BlockPos pos, int fields, byte[] data) implements CustomPacketPayload {
+
+    public static final Type<MachineSyncPayload> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "machine_sync"));
+
+    public static final StreamCodec<FriendlyByteBuf, MachineSyncPayload> STREAM_CODEC =
+        CustomPacketPayload.codec(MachineSyncPayload::write, MachineSyncPayload::read);
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeBlockPos(pos);
+        buf.writeByte(fields);
+        buf.writeByteArray(data);
+    }
+
+    private static MachineSyncPayload read(FriendlyByteBuf buf) {
+        return new MachineSyncPayload(buf.readBlockPos(), buf.readUnsignedByte(), buf.readByteArray());
+    }
+
+    /**
+     * Aplica o pacote na máquina do cliente (thread principal do cliente)
+     *
+     * Máquinas fora dos chunks carregados no cliente são ignoradas; o
+     * estado delas chega completo junto com o chunk.
+     */
+    public static void handle(MachineSyncPayload payload, IPayloadContext context) {
+        if (context.player().level().isLoaded(payload.pos())
+            && context.player().level().getBlockEntity(payload.pos()) instanceof MachineBlockEntity machine) {
+            machine.applySync(payload.fields(), payload.data());
+        }
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
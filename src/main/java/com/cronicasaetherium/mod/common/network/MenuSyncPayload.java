@@ -0,0 +1,62 @@
+package com.cronicasaetherium.mod.common.network;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.gui.menu.MenuSync;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Valores alterados de um menu de máquina aberto (servidor → cliente)
+ *
+ * mask indica quais campos do MenuSync estão presentes e values traz os
+ * valores deles, na ordem dos bits. Os valores vão como VarLong, então
+ * números pequenos ocupam um byte e energia acima de 32767 não é
+ * truncada.
+ */
+public record MenuSyncPayload(int containerId, int mask, long[] values) implements CustomPacketPayload {
+
+    public static final Type<MenuSyncPayload> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "menu_sync"));
+
+    public static final StreamCodec<FriendlyByteBuf, MenuSyncPayload> STREAM_CODEC =
+        CustomPacketPayload.codec(MenuSyncPayload::write, MenuSyncPayload::read);
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(containerId);
+        buf.writeInt(mask);
+        for (long value : values) {
+            buf.writeVarLong(value);
+        }
+    }
+
+    private static MenuSyncPayload read(FriendlyByteBuf buf) {
+        int containerId = buf.readVarInt();
+        int mask = buf.readInt();
+        long[] values = new long[Integer.bitCount(mask)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buf.readVarLong();
+        }
+        return new MenuSyncPayload(containerId, mask, values);
+    }
+
+    /**
+     * Aplica o pacote no menu aberto do cliente (thread principal do
+     * cliente)
+     *
+     * Pacotes de um menu que já foi fechado são ignorados.
+     */
+    public static void handle(MenuSyncPayload payload, IPayloadContext context) {
+        if (context.player().containerMenu.containerId == payload.containerId()
+            && context.player().containerMenu instanceof MenuSync.Holder holder) {
+            holder.getMenuSync().apply(payload.mask(), payload.values());
+        }
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cronicasaetherium.mod.common.network;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.client.render.ConveyorItemRenderer;
+import com.cronicasaetherium.mod.client.render.OreHighlightRenderer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registro central dos pacotes de rede do mod Crônicas de Aetherium
+ *
+ * Todos os payloads customizados são registrados aqui. Handlers do lado
+ * do cliente são chamados dentro de lambdas para que as classes de cliente
+ * só sejam carregadas quando um pacote realmente chega (nunca no servidor
+ * dedicado).
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID, bus = EventBusSubscriber.Bus.MOD)
+public class ModNetwork {
+
+    // Versão do protocolo - incrementar ao mudar o formato de qualquer pacote
+    private static final String PROTOCOL_VERSION = "1";
+
+    /**
+     * Registra todos os payloads do mod
+     *
+     * @param event Evento de registro de payloads
+     */
+    @SubscribeEvent
+    public static void registerPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+
+        // Destaque de minérios do Ritual da Veia Oculta
+        registrar.playToClient(OreHighlightPayload.TYPE, OreHighlightPayload.STREAM_CODEC,
+            (payload, context) -> OreHighlightRenderer.handle(payload));
+
+        // Itens sobre as esteiras transportadoras
+        registrar.playToClient(BeltLinePayload.TYPE, BeltLinePayload.STREAM_CODEC,
+            (payload, context) -> ConveyorItemRenderer.handle(payload));
+
+        // Estado visual das máquinas (apenas os campos alterados)
+        registrar.playToClient(MachineSyncPayload.TYPE, MachineSyncPayload.STREAM_CODEC,
+            MachineSyncPayload::handle);
+
+        // Valores dos menus de máquina abertos (apenas os campos alterados)
+        registrar.playToClient(MenuSyncPayload.TYPE, MenuSyncPayload.STREAM_CODEC,
+            MenuSyncPayload::handle);
+
+        // Proficiências do jogador (no máximo um pacote por tick)
+        registrar.playToClient(ProficiencySyncPayload.TYPE, ProficiencySyncPayload.STREAM_CODEC,
+            ProficiencySyncPayload::handle);
+
+        CronicasAetherium.LOGGER.info("Pacotes de rede do mod registrados");
+    }
+}
@@ -0,0 +1,107 @@
+package com.cronicasaetherium.mod.common.network;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pacote de destaque de minérios do Ritual da Veia Oculta (servidor → cliente)
+ *
+ * Em vez de reenviar todos os minérios a cada atualização, o servidor envia
+ * apenas o que mudou desde o último pacote para aquele jogador:
+ * - reset: o cliente descarta tudo antes de aplicar o pacote
+ * - clearedSections: seções que saíram do raio de detecção
+ * - deltas: posições adicionadas/removidas por seção
+ *
+ * Posições são enviadas como shorts relativos à seção (y << 8 | z << 4 | x),
+ * então cada minério custa 3 bytes (posição + tipo) independente da distância.
+ */
+public record OreHighlightPayload(boolean reset, long[] clearedSections, List<SectionDelta> deltas)
+    implements CustomPacketPayload {
+
+    public static final Type<OreHighlightPayload> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "ore_highlight"));
+
+    public static final StreamCodec<FriendlyByteBuf, OreHighlightPayload> STREAM_CODEC =
+        CustomPacketPayload.codec(OreHighlightPayload::write, OreHighlightPayload::read);
+
+    /**
+     * Pacote que apaga todos os destaques do cliente
+     */
+    public static OreHighlightPayload clearAll() {
+        return new OreHighlightPayload(true, new long[0], List.of());
+    }
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeBoolean(reset);
+
+        buf.writeVarInt(clearedSections.length);
+        for (long key : clearedSections) {
+            buf.writeLong(key);
+        }
+
+        buf.writeVarInt(deltas.size());
+        for (SectionDelta delta : deltas) {
+            buf.writeLong(delta.sectionKey());
+
+            buf.writeVarInt(delta.added().length);
+            for (int i = 0; i < delta.added().length; i++) {
+                buf.writeShort(delta.added()[i]);
+                buf.writeByte(delta.addedTypes()[i]);
+            }
+
+            buf.writeVarInt(delta.removed().length);
+            for (short local : delta.removed()) {
+                buf.writeShort(local);
+            }
+        }
+    }
+
+    private static OreHighlightPayload read(FriendlyByteBuf buf) {
+        boolean reset = buf.readBoolean();
+
+        long[] cleared = new long[buf.readVarInt()];
+        for (int i = 0; i < cleared.length; i++) {
+            cleared[i] = buf.readLong();
+        }
+
+        int deltaCount = buf.readVarInt();
+        List<SectionDelta> deltas = new ArrayList<>(deltaCount);
+        for (int d = 0; d < deltaCount; d++) {
+            long key = buf.readLong();
+
+            int addedCount = buf.readVarInt();
+            short[] added = new short[addedCount];
+            byte[] addedTypes = new byte[addedCount];
+            for (int i = 0; i < addedCount; i++) {
+                added[i] = buf.readShort();
+                addedTypes[i] = buf.readByte();
+            }
+
+            short[] removed = new short[buf.readVarInt()];
+            for (int i = 0; i < removed.length; i++) {
+                removed[i] = buf.readShort();
+            }
+
+            deltas.add(new SectionDelta(key, added, addedTypes, removed));
+        }
+
+        return new OreHighlightPayload(reset, cleared, deltas);
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * Alterações de uma seção: posições adicionadas (com tipo) e removidas
+     */
+    public record SectionDelta(long sectionKey, short[] added, byte[] addedTypes, short[] removed) {
+    }
+}
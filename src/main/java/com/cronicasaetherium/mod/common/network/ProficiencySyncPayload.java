@@ -0,0 +1,54 @@
+package com.cronicasaetherium.mod.common.network;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.registry.ModAttachmentTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Proficiências atuais do jogador (servidor → cliente)
+ *
+ * Enviado no máximo uma vez por tick por jogador, pelo
+ * ProficiencyAccrual, e ao entrar, renascer ou trocar de dimensão.
+ * values traz o XP de cada tipo na ordem de índices do servidor, como
+ * VarLong.
+ */
+public record ProficiencySyncPayload(long[] values) implements CustomPacketPayload {
+
+    public static final Type<ProficiencySyncPayload> TYPE =
+        new Type<>(ResourceLocation.fromNamespaceAndPath(CronicasAetherium.MODID, "proficiency_sync"));
+
+    public static final StreamCodec<FriendlyByteBuf, ProficiencySyncPayload> STREAM_CODEC =
+        CustomPacketPayload.codec(ProficiencySyncPayload::write, ProficiencySyncPayload::read);
+
+    private void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(values.length);
+        for (long value : values) {
+            buf.writeVarLong(value);
+        }
+    }
+
+    private static ProficiencySyncPayload read(FriendlyByteBuf buf) {
+        long[] values = new long[buf.readVarInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buf.readVarLong();
+        }
+        return new ProficiencySyncPayload(values);
+    }
+
+    /**
+     * Copia os valores para as proficiências do jogador do cliente
+     * (thread principal do cliente)
+     */
+    public static void handle(ProficiencySyncPayload payload, IPayloadContext context) {
+        context.player().getData(ModAttachmentTypes.PLAYER_PROFICIENCY).setAll(payload.values());
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,215 @@
+package com.cronicasaetherium.mod.common.recipe;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.util.ExtraCodecs;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeSerializer;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.SingleRecipeInput;
+import net.minecraft.world.level.Level;
+
+import java.util.List;
+
+/**
+ * Receita do Triturador Mecânico - Processamento de minérios Tier 1
+ *
+ * Cada receita transforma 1 item de entrada em uma saída principal fixa
+ * e, com uma certa chance, em um subproduto sorteado de uma tabela com pesos.
+ *
+ * Formato JSON (data/<namespace>/recipe/...):
+ * {
+ *   "type": "cronicasaetherium:crushing",
+ *   "ingredient": { "item": "minecraft:iron_ore" },
+ *   "result": { "id": "minecraft:raw_iron", "count": 2 },
+ *   "byproduct_chance": 0.15,
+ *   "byproducts": [
+ *     { "item": { "id": "minecraft:raw_gold" }, "weight": 3 },
+ *     { "item": { "id": "cronicasaetherium:raw_tin" }, "weight": 1 }
+ *   ]
+ * }
+ *
+ * As ItemStacks da receita são compartilhadas e nunca devem ser modificadas;
+ * quem produz a saída sempre usa cópias.
+ */
+public class CrushingRecipe implements Recipe<SingleRecipeInput> {
+
+    private final Ingredient ingredient;
+    private final ItemStack result;
+    private final float byproductChance;
+    private final List<Byproduct> byproducts;
+    private final int totalWeight;
+
+    /**
+     * Construtor da receita de trituração
+     *
+     * @param ingredient Item de entrada
+     * @param result Saída principal
+     * @param byproductChance Chance (0-1) de produzir algum subproduto por ciclo
+     * @param byproducts Tabela de subprodutos com pesos
+     */
+    public CrushingRecipe(Ingredient ingredient, ItemStack result, float byproductChance, List<Byproduct> byproducts) {
+        this.ingredient = ingredient;
+        this.result = result;
+        this.byproductChance = byproductChance;
+        this.byproducts = List.copyOf(byproducts);
+        this.totalWeight = this.byproducts.stream().mapToInt(Byproduct::weight).sum();
+    }
+
+    @Override
+    public boolean matches(SingleRecipeInput input, Level level) {
+        return matches(input.item());
+    }
+
+    /**
+     * Verifica a entrada sem precisar montar um RecipeInput
+     *
+     * @param stack Item de entrada
+     * @return true se a receita aceita o item
+     */
+    public boolean matches(ItemStack stack) {
+        return ingredient.test(stack);
+    }
+
+    @Override
+    public ItemStack assemble(SingleRecipeInput input, HolderLookup.Provider provider) {
+        return result.copy();
+    }
+
+    @Override
+    public boolean canCraftInDimensions(int width, int height) {
+        return width * height >= 1;
+    }
+
+    @Override
+    public ItemStack getResultItem(HolderLookup.Provider provider) {
+        return result;
+    }
+
+    /**
+     * Saída principal compartilhada (não modificar)
+     */
+    public ItemStack getResult() {
+        return result;
+    }
+
+    /**
+     * Subprodutos possíveis desta receita
+     */
+    public List<Byproduct> getByproducts() {
+        return byproducts;
+    }
+
+    /**
+     * Sorteia o subproduto de um ciclo completo
+     *
+     * Deve ser chamado uma única vez por ciclo, no início; quem processa
+     * guarda o resultado até a conclusão.
+     *
+     * @param random Gerador aleatório do mundo
+     * @return Subproduto compartilhado (não modificar) ou ItemStack.EMPTY
+     */
+    public ItemStack rollByproduct(RandomSource random) {
+        if (totalWeight <= 0 || random.nextFloat() >= byproductChance) {
+            return ItemStack.EMPTY;
+        }
+
+        int roll = random.nextInt(totalWeight);
+        for (Byproduct byproduct : byproducts) {
+            roll -= byproduct.weight();
+            if (roll < 0) {
+                return byproduct.item();
+            }
+        }
+        return ItemStack.EMPTY;
+    }
+
+    @Override
+    public RecipeSerializer<?> getSerializer() {
+        return ModRecipeTypes.CRUSHING_SERIALIZER.get();
+    }
+
+    @Override
+    public RecipeType<?> getType() {
+        return ModRecipeTypes.CRUSHING.get();
+    }
+
+    @Override
+    public NonNullList<Ingredient> getIngredients() {
+        NonNullList<Ingredient> list = NonNullList.create();
+        list.add(ingredient);
+        return list;
+    }
+
+    @Override
+    public boolean isSpecial() {
+        return true; // Não aparece no livro de receitas
+    }
+
+    /**
+     * Entrada da tabela de subprodutos
+     *
+     * @param item Subproduto
+     * @param weight Peso relativo no sorteio
+     */
+    public record Byproduct(ItemStack item, int weight) {
+
+        public static final Codec<Byproduct> CODEC = RecordCodecBuilder.create(
+            instance -> instance.group(
+                ItemStack.STRICT_CODEC.fieldOf("item").forGetter(Byproduct::item),
+                ExtraCodecs.POSITIVE_INT.optionalFieldOf("weight", 1).forGetter(Byproduct::weight)
+            ).apply(instance, Byproduct::new)
+        );
+
+        public static final StreamCodec<RegistryFriendlyByteBuf, Byproduct> STREAM_CODEC =
+            StreamCodec.composite(
+                ItemStack.STREAM_CODEC, Byproduct::item,
+                ByteBufCodecs.VAR_INT, Byproduct::weight,
+                Byproduct::new
+            );
+    }
+
+    /**
+     * Serializer para receitas de trituração
+     * Responsável por serializar/deserializar as receitas para JSON e rede
+     */
+    public static class Serializer implements RecipeSerializer<CrushingRecipe> {
+
+        private static final MapCodec<CrushingRecipe> CODEC = RecordCodecBuilder.mapCodec(
+            instance -> instance.group(
+                Ingredient.CODEC_NONEMPTY.fieldOf("ingredient").forGetter(recipe -> recipe.ingredient),
+                ItemStack.STRICT_CODEC.fieldOf("result").forGetter(recipe -> recipe.result),
+                Codec.floatRange(0.0F, 1.0F).optionalFieldOf("byproduct_chance", 0.0F).forGetter(recipe -> recipe.byproductChance),
+                Byproduct.CODEC.listOf().optionalFieldOf("byproducts", List.of()).forGetter(recipe -> recipe.byproducts)
+            ).apply(instance, CrushingRecipe::new)
+        );
+
+        private static final StreamCodec<RegistryFriendlyByteBuf, CrushingRecipe> STREAM_CODEC =
+            StreamCodec.composite(
+                Ingredient.CONTENTS_STREAM_CODEC, recipe -> recipe.ingredient,
+                ItemStack.STREAM_CODEC, recipe -> recipe.result,
+                ByteBufCodecs.FLOAT, recipe -> recipe.byproductChance,
+                Byproduct.STREAM_CODEC.apply(ByteBufCodecs.list()), recipe -> recipe.byproducts,
+                CrushingRecipe::new
+            );
+
+        @Override
+        public MapCodec<CrushingRecipe> codec() {
+            return CODEC;
+        }
+
+        @Override
+        public StreamCodec<RegistryFriendlyByteBuf, CrushingRecipe> streamCodec() {
+            return STREAM_CODEC;
+        }
+    }
+}
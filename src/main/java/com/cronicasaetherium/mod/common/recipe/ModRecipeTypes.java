@@ -84,6 +84,10 @@ public class ModRecipeTypes {
             RecipeType.simple(CronicasAetherium.id("runic_transmutation")));
 
     // Serializers para as receitas
+    public static final Supplier<RecipeSerializer<CrushingRecipe>> CRUSHING_SERIALIZER = 
+        RECIPE_SERIALIZERS.register("crushing", 
+            () -> new CrushingRecipe.Serializer());
+    
     public static final Supplier<RecipeSerializer<RunicTransmutationRecipe>> RUNIC_TRANSMUTATION_SERIALIZER = 
         RECIPE_SERIALIZERS.register("runic_transmutation", 
             () -> new RunicTransmutationRecipe.Serializer());
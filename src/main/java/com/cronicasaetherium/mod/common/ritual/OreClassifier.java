@@ -0,0 +1,104 @@
+package com.cronicasaetherium.mod.common.ritual;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import net.minecraft.world.item.BlockItem;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+/**
+ * Tabela de classificação de minérios compartilhada pelo mod
+ *
+ * Os tipos de minério são definidos por tags de bloco
+ * (cronicasaetherium:vein_ores/<tipo>) e compilados, a cada recarga de
+ * tags, em um array denso indexado pelo id do BlockState. Classificar um
+ * estado é então uma única leitura de array, sem comparações encadeadas.
+ *
+ * Usada pelo Ritual da Veia Oculta, pelo Triturador Mecânico e por
+ * qualquer estatística de geração de mundo que precise saber o que é minério.
+ *
+ * A tabela é publicada de forma atômica (campo volatile), então pode ser
+ * lida pelos workers de varredura do ritual.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class OreClassifier {
+
+    // Tipo (ordinal de OreType) por id de BlockState; vazio até as tags carregarem
+    private static volatile byte[] table = new byte[0];
+
+    /**
+     * Classifica um estado de bloco
+     *
+     * @param state Estado a classificar
+     * @return Tipo do minério, ou NONE
+     */
+    public static VeinRitualEffect.OreType classify(BlockState state) {
+        return VeinRitualEffect.OreType.VALUES[typeId(state)];
+    }
+
+    /**
+     * Classifica o bloco de um item (minérios em forma de item)
+     *
+     * @param stack Item a classificar
+     * @return Tipo do minério, ou NONE se não for um bloco de minério
+     */
+    public static VeinRitualEffect.OreType classify(ItemStack stack) {
+        if (stack.getItem() instanceof BlockItem blockItem) {
+            return classify(blockItem.getBlock().defaultBlockState());
+        }
+        return VeinRitualEffect.OreType.NONE;
+    }
+
+    /**
+     * Ordinal do tipo de minério de um estado (0 = NONE)
+     */
+    public static byte typeId(BlockState state) {
+        byte[] current = table;
+        int id = Block.getId(state);
+        return id < current.length ? current[id] : 0;
+    }
+
+    /**
+     * Verifica se um estado é minério de qualquer tipo
+     */
+    public static boolean isOre(BlockState state) {
+        return typeId(state) != 0;
+    }
+
+    /**
+     * Recompila a tabela a partir das tags atuais
+     */
+    static void rebuild() {
+        byte[] rebuilt = new byte[Block.BLOCK_STATE_REGISTRY.size()];
+        int ores = 0;
+
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            for (VeinRitualEffect.OreType type : VeinRitualEffect.OreType.VALUES) {
+                if (type.getTag() != null && state.is(type.getTag())) {
+                    rebuilt[Block.getId(state)] = (byte) type.ordinal();
+                    ores++;
+                    break;
+                }
+            }
+        }
+
+        table = rebuilt;
+        CronicasAetherium.LOGGER.debug("Tabela de minérios recompilada: {} estados classificados", ores);
+    }
+
+    /**
+     * Tags recarregadas (datapacks no servidor ou sincronização no cliente)
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event) {
+        rebuild();
+        
+        // Seções indexadas com a tabela antiga precisam ser reconstruídas
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            OreSectionIndex.clearAll();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.cronicasaetherium.mod.common.ritual;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.network.OreHighlightPayload;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rastreia o que cada jogador já recebeu de destaque de minérios
+ *
+ * Para cada jogador com o Ritual da Veia Oculta, guarda os minérios por
+ * seção do último pacote enviado. A cada nova varredura, calcula apenas a
+ * diferença e envia um OreHighlightPayload com as posições adicionadas e
+ * removidas. Seções que não mudaram são detectadas por identidade (as
+ * entradas do índice são imutáveis) e não custam nada.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class OreHighlightTracker {
+
+    // Último estado enviado por jogador (acessado apenas na thread principal)
+    private static final Map<UUID, Session> SESSIONS = new HashMap<>();
+
+    // Buffer de trabalho para o diff: tipo + 1 por índice local da seção
+    private static final byte[] SCRATCH = new byte[4096];
+    private static final byte SEEN = -1;
+
+    /**
+     * Envia ao jogador as mudanças em relação ao último estado enviado
+     *
+     * @param player Jogador com o ritual
+     * @param current Minérios detectados por seção (chave = SectionPos.asLong)
+     */
+    static void update(ServerPlayer player, Long2ObjectMap<OreSectionIndex.SectionOres> current) {
+        ResourceKey<Level> dimension = player.level().dimension();
+        Session session = SESSIONS.get(player.getUUID());
+        boolean reset = false;
+
+        // Primeira atualização ou troca de dimensão: o cliente começa do zero
+        if (session == null || session.dimension != dimension) {
+            session = new Session(dimension);
+            SESSIONS.put(player.getUUID(), session);
+            reset = true;
+        }
+
+        LongArrayList cleared = new LongArrayList();
+        for (Long2ObjectMap.Entry<OreSectionIndex.SectionOres> entry : session.sent.long2ObjectEntrySet()) {
+            if (!current.containsKey(entry.getLongKey())) {
+                cleared.add(entry.getLongKey());
+            }
+        }
+
+        List<OreHighlightPayload.SectionDelta> deltas = new ArrayList<>();
+        for (Long2ObjectMap.Entry<OreSectionIndex.SectionOres> entry : current.long2ObjectEntrySet()) {
+            OreSectionIndex.SectionOres previous = session.sent.get(entry.getLongKey());
+            if (previous != entry.getValue()) {
+                OreHighlightPayload.SectionDelta delta = diff(entry.getLongKey(), previous, entry.getValue());
+                if (delta != null) {
+                    deltas.add(delta);
+                }
+            }
+        }
+
+        session.sent = current;
+
+        if (reset || !cleared.isEmpty() || !deltas.isEmpty()) {
+            PacketDistributor.sendToPlayer(player, new OreHighlightPayload(reset, cleared.toLongArray(), deltas));
+        }
+    }
+
+    /**
+     * Remove todos os destaques do jogador
+     *
+     * @param player Jogador cujo ritual terminou
+     */
+    static void clear(ServerPlayer player) {
+        if (SESSIONS.remove(player.getUUID()) != null) {
+            PacketDistributor.sendToPlayer(player, OreHighlightPayload.clearAll());
+        }
+    }
+
+    /**
+     * Calcula as posições adicionadas/removidas de uma seção em O(n + m)
+     *
+     * @return Delta da seção, ou null se nada mudou
+     */
+    private static OreHighlightPayload.SectionDelta diff(long key, OreSectionIndex.SectionOres previous,
+                                                         OreSectionIndex.SectionOres current) {
+        if (previous == null) {
+            previous = OreSectionIndex.SectionOres.EMPTY;
+        }
+
+        for (int i = 0; i < previous.positions.length; i++) {
+            SCRATCH[previous.positions[i]] = (byte) (previous.types[i] + 1);
+        }
+
+        ShortArrayList added = new ShortArrayList();
+        ByteArrayList addedTypes = new ByteArrayList();
+        for (int i = 0; i < current.positions.length; i++) {
+            short local = current.positions[i];
+            if (SCRATCH[local] != current.types[i] + 1) {
+                added.add(local);
+                addedTypes.add(current.types[i]);
+            }
+            SCRATCH[local] = SEEN;
+        }
+
+        ShortArrayList removed = new ShortArrayList();
+        for (short local : previous.positions) {
+            if (SCRATCH[local] != SEEN) {
+                removed.add(local);
+            }
+            SCRATCH[local] = 0;
+        }
+        for (short local : current.positions) {
+            SCRATCH[local] = 0;
+        }
+
+        if (added.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return new OreHighlightPayload.SectionDelta(key, added.toShortArray(), addedTypes.toByteArray(), removed.toShortArray());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        SESSIONS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        SESSIONS.clear();
+    }
+
+    /**
+     * Estado enviado a um jogador
+     */
+    private static final class Session {
+        private final ResourceKey<Level> dimension;
+        private Long2ObjectMap<OreSectionIndex.SectionOres> sent = new Long2ObjectOpenHashMap<>();
+
+        private Session(ResourceKey<Level> dimension) {
+            this.dimension = dimension;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.cronicasaetherium.mod.common.ritual;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Agendador de varreduras assíncronas do Ritual da Veia Oculta
+ *
+ * A thread principal apenas decide quais seções estão no raio do ritual:
+ * seções já indexadas são usadas diretamente e as demais têm sua paleta
+ * copiada. A classificação das cópias e o filtro pelo cubo de detecção
+ * acontecem em um pool de workers, e o resultado volta para a thread
+ * principal em um tick posterior.
+ *
+ * Garantias:
+ * - O mundo nunca é lido fora da thread principal (apenas cópias)
+ * - Cada jogador tem no máximo uma varredura em andamento
+ * - Resultados só são entregues se o jogador ainda está no mesmo mundo
+ * - Seções varridas recentemente são compartilhadas entre jogadores
+ *   próximos através do SectionScanCache do mundo
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class OreScanScheduler {
+
+    // Número de workers: uma fração dos núcleos, sem competir com o servidor
+    private static final int WORKER_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    // Tarefas a executar na thread principal (instalação no índice e entrega de resultados)
+    private static final ConcurrentLinkedQueue<Runnable> MAIN_THREAD_TASKS = new ConcurrentLinkedQueue<>();
+
+    // Jogadores com varredura em andamento (acessado apenas na thread principal)
+    private static final Set<UUID> IN_FLIGHT = new HashSet<>();
+
+    private static ExecutorService workers;
+
+    /**
+     * Solicita uma varredura de minérios ao redor do jogador
+     *
+     * Retorna imediatamente; o callback é chamado na thread principal
+     * quando o resultado estiver pronto. Ignorado se o jogador já tem
+     * uma varredura em andamento.
+     *
+     * @param player Jogador com o ritual
+     * @param radius Raio de detecção em blocos
+     * @param callback Recebe, na thread principal, os minérios de cada seção
+     *                 restritos ao cubo de detecção (chave = SectionPos.asLong)
+     */
+    static void request(ServerPlayer player, int radius, Consumer<Long2ObjectMap<OreSectionIndex.SectionOres>> callback) {
+        ServerLevel level = player.serverLevel();
+        OreSectionIndex index = OreSectionIndex.get(level);
+        if (index == null || !IN_FLIGHT.add(player.getUUID())) {
+            return;
+        }
+
+        BoundingBox box = OreSectionIndex.scanBox(player.blockPosition(), radius);
+        SectionScanCache cache = index.getScanCache();
+        long gameTime = level.getGameTime();
+        ExecutorService pool = workers();
+
+        List<Long> keys = new ArrayList<>();
+        List<CompletableFuture<OreSectionIndex.SectionOres>> sections = new ArrayList<>();
+
+        for (int sx = SectionPos.blockToSectionCoord(box.minX()); sx <= SectionPos.blockToSectionCoord(box.maxX()); sx++) {
+            for (int sz = SectionPos.blockToSectionCoord(box.minZ()); sz <= SectionPos.blockToSectionCoord(box.maxZ()); sz++) {
+                for (int sy = SectionPos.blockToSectionCoord(box.minY()); sy <= SectionPos.blockToSectionCoord(box.maxY()); sy++) {
+                    long key = SectionPos.asLong(sx, sy, sz);
+                    final int fx = sx, fy = sy, fz = sz;
+                    CompletableFuture<OreSectionIndex.SectionOres> section =
+                        cache.resolve(key, gameTime, () -> load(index, pool, key, fx, fy, fz));
+                    if (section != null) {
+                        keys.add(key);
+                        sections.add(section);
+                    }
+                }
+            }
+        }
+
+        UUID playerId = player.getUUID();
+        CompletableFuture.allOf(sections.toArray(CompletableFuture[]::new))
+            .thenApplyAsync(ignored -> {
+                Long2ObjectOpenHashMap<OreSectionIndex.SectionOres> detected = new Long2ObjectOpenHashMap<>();
+                for (int i = 0; i < keys.size(); i++) {
+                    OreSectionIndex.SectionOres inBox = sections.get(i).join().within(keys.get(i), box);
+                    if (!inBox.isEmpty()) {
+                        detected.put((long) keys.get(i), inBox);
+                    }
+                }
+                return detected;
+            }, pool)
+            .whenComplete((detected, error) -> MAIN_THREAD_TASKS.add(() -> {
+                IN_FLIGHT.remove(playerId);
+
+                if (error != null) {
+                    CronicasAetherium.LOGGER.error("Falha na varredura do Ritual da Veia para {}", player.getName().getString(), error);
+                    return;
+                }
+
+                // O jogador pode ter saído, morrido ou trocado de dimensão enquanto isso
+                if (!player.isRemoved() && player.serverLevel() == level) {
+                    callback.accept(detected);
+                }
+            }));
+    }
+
+    /**
+     * Obtém os minérios de uma seção que não está no cache
+     *
+     * Seções já indexadas são usadas diretamente; as demais têm a paleta
+     * copiada e classificada no pool de workers.
+     *
+     * @return Resultado da seção, ou null se não houver o que varrer
+     */
+    private static CompletableFuture<OreSectionIndex.SectionOres> load(OreSectionIndex index, ExecutorService pool,
+                                                                        long key, int sx, int sy, int sz) {
+        OreSectionIndex.SectionOres indexed = index.lookup(key);
+        if (indexed != null) {
+            return CompletableFuture.completedFuture(indexed);
+        }
+
+        // Seção não indexada: copia a paleta e classifica fora da thread principal
+        PalettedContainer<BlockState> snapshot = index.snapshot(sx, sy, sz);
+        if (snapshot == null) {
+            OreSectionIndex.SectionOres empty = index.lookup(key);
+            return empty != null ? CompletableFuture.completedFuture(empty) : null;
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            OreSectionIndex.SectionOres ores = OreSectionIndex.SectionOres.build(snapshot);
+            MAIN_THREAD_TASKS.add(() -> index.install(key, ores));
+            return ores;
+        }, pool);
+    }
+
+    /**
+     * Entrega os resultados prontos na thread principal
+     */
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event) {
+        Runnable task;
+        while ((task = MAIN_THREAD_TASKS.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Encerra o pool e descarta resultados pendentes ao parar o servidor
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+        MAIN_THREAD_TASKS.clear();
+        IN_FLIGHT.clear();
+    }
+
+    private static ExecutorService workers() {
+        if (workers == null) {
+            AtomicInteger counter = new AtomicInteger();
+            workers = Executors.newFixedThreadPool(WORKER_COUNT, runnable -> {
+                Thread thread = new Thread(runnable, "Aetherium-OreScan-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
+    }
+}
@@ -0,0 +1,500 @@
+package com.cronicasaetherium.mod.common.ritual;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.EventPriority;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice de minérios por seção de chunk - Base do Ritual da Veia Oculta
+ *
+ * Em vez de consultar cada bloco ao redor do jogador a cada atualização,
+ * o índice guarda, para cada seção 16x16x16, a lista compacta dos minérios
+ * que ela contém. A lista é construída uma única vez a partir da paleta da
+ * seção e mantida atualizada de forma incremental.
+ *
+ * Funcionamento:
+ * - Seções sem nenhum minério na paleta são descartadas sem varredura
+ * - Toda mudança de bloco que notifica os vizinhos (jogadores, pistões,
+ *   fluidos, explosões, comandos, outros mods) atualiza apenas a posição
+ *   afetada; mudanças feitas sem notificar os vizinhos (setBlock só com
+ *   a flag 2) só aparecem quando o chunk for recarregado
+ * - Descarregar um chunk remove todas as suas seções do índice
+ * - O índice de cada mundo existe do carregamento ao descarregamento do mundo
+ *
+ * Cada seção indexada é imutável: atualizações produzem uma nova instância,
+ * então leituras nunca observam um estado parcial.
+ */
+@EventBusSubscriber(modid = CronicasAetherium.MODID)
+public class OreSectionIndex {
+
+    // Um índice por mundo carregado (acessado apenas na thread do servidor)
+    private static final Map<ServerLevel, OreSectionIndex> INDEXES = new IdentityHashMap<>();
+
+    private final ServerLevel level;
+    private final Long2ObjectOpenHashMap<SectionOres> sections = new Long2ObjectOpenHashMap<>();
+    
+    // Seções copiadas para varredura assíncrona e ainda não alteradas desde a cópia
+    private final LongOpenHashSet pending = new LongOpenHashSet();
+
+    // Resultados recentes compartilhados entre os rituais deste mundo
+    private final SectionScanCache scanCache = new SectionScanCache();
+
+    private OreSectionIndex(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Obtém o índice de minérios de um mundo
+     *
+     * O índice é criado no LevelEvent.Load e descartado no Unload, e nunca
+     * é recriado depois: um ritual que termina durante o descarregamento
+     * não prende o mundo na memória.
+     *
+     * @param level Mundo do servidor
+     * @return Índice do mundo, ou null se o mundo não está carregado
+     */
+    @Nullable
+    public static OreSectionIndex get(ServerLevel level) {
+        return INDEXES.get(level);
+    }
+
+    /**
+     * Coleta todos os minérios dentro de um cubo ao redor de uma posição
+     *
+     * Produz exatamente o mesmo resultado de uma varredura bloco a bloco
+     * do cubo [centro - raio, centro + raio] nos três eixos. Seções ainda
+     * não indexadas são construídas na hora, na thread atual; o ritual usa
+     * o OreScanScheduler para fazer essa construção fora da thread principal.
+     *
+     * @param center Centro do cubo
+     * @param radius Raio em blocos
+     * @param out Lista que recebe as detecções
+     */
+    public void collect(BlockPos center, int radius, List<VeinRitualEffect.OreDetection> out) {
+        BoundingBox box = scanBox(center, radius);
+
+        for (int sx = SectionPos.blockToSectionCoord(box.minX()); sx <= SectionPos.blockToSectionCoord(box.maxX()); sx++) {
+            for (int sz = SectionPos.blockToSectionCoord(box.minZ()); sz <= SectionPos.blockToSectionCoord(box.maxZ()); sz++) {
+                for (int sy = SectionPos.blockToSectionCoord(box.minY()); sy <= SectionPos.blockToSectionCoord(box.maxY()); sy++) {
+                    collectSection(SectionPos.asLong(sx, sy, sz), getOrBuild(sx, sy, sz), box, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cubo de varredura ao redor de uma posição
+     */
+    static BoundingBox scanBox(BlockPos center, int radius) {
+        return new BoundingBox(center.getX() - radius, center.getY() - radius, center.getZ() - radius,
+            center.getX() + radius, center.getY() + radius, center.getZ() + radius);
+    }
+
+    /**
+     * Adiciona à lista os minérios de uma seção que estão dentro do cubo
+     *
+     * Não acessa o mundo, então pode ser chamado de qualquer thread.
+     */
+    static void collectSection(long sectionKey, SectionOres ores, BoundingBox box, List<VeinRitualEffect.OreDetection> out) {
+        if (ores.isEmpty()) {
+            return;
+        }
+
+        int baseX = SectionPos.sectionToBlockCoord(SectionPos.x(sectionKey));
+        int baseY = SectionPos.sectionToBlockCoord(SectionPos.y(sectionKey));
+        int baseZ = SectionPos.sectionToBlockCoord(SectionPos.z(sectionKey));
+
+        // Seções totalmente dentro do cubo dispensam o filtro por posição
+        boolean inside = baseX >= box.minX() && baseX + 15 <= box.maxX()
+            && baseY >= box.minY() && baseY + 15 <= box.maxY()
+            && baseZ >= box.minZ() && baseZ + 15 <= box.maxZ();
+
+        for (int i = 0; i < ores.positions.length; i++) {
+            int local = ores.positions[i];
+            int x = baseX + (local & 15);
+            int y = baseY + ((local >> 8) & 15);
+            int z = baseZ + ((local >> 4) & 15);
+
+            if (inside || box.isInside(x, y, z)) {
+                out.add(new VeinRitualEffect.OreDetection(new BlockPos(x, y, z),
+                    VeinRitualEffect.OreType.VALUES[ores.types[i]]));
+            }
+        }
+    }
+
+    /**
+     * Obtém os minérios de uma seção, construindo a entrada se necessário
+     *
+     * Seções de chunks não carregados retornam vazio e não são guardadas,
+     * para que sejam indexadas quando o chunk carregar.
+     */
+    SectionOres getOrBuild(int sx, int sy, int sz) {
+        long key = SectionPos.asLong(sx, sy, sz);
+        SectionOres ores = sections.get(key);
+        if (ores != null) {
+            return ores;
+        }
+
+        LevelChunkSection section = loadedSection(sx, sy, sz);
+        if (section == null) {
+            return SectionOres.EMPTY;
+        }
+
+        ores = SectionOres.build(section);
+        pending.remove(key);
+        sections.put(key, ores);
+        return ores;
+    }
+
+    /**
+     * Obtém a seção indexada, se houver
+     *
+     * @return Minérios da seção ou null se ainda não indexada
+     */
+    @Nullable
+    SectionOres lookup(long key) {
+        return sections.get(key);
+    }
+
+    /**
+     * Captura uma cópia imutável da paleta de uma seção não indexada
+     *
+     * A cópia pode ser classificada em outra thread e o resultado devolvido
+     * por {@link #install}. Seções só de ar são indexadas imediatamente.
+     *
+     * @return Cópia da paleta, ou null se a seção não precisa de varredura
+     */
+    @Nullable
+    PalettedContainer<BlockState> snapshot(int sx, int sy, int sz) {
+        LevelChunkSection section = loadedSection(sx, sy, sz);
+        if (section == null) {
+            return null;
+        }
+
+        long key = SectionPos.asLong(sx, sy, sz);
+        if (section.hasOnlyAir()) {
+            sections.put(key, SectionOres.EMPTY);
+            return null;
+        }
+
+        pending.add(key);
+        return section.getStates().copy();
+    }
+
+    /**
+     * Instala o resultado de uma varredura feita sobre uma cópia
+     *
+     * Se a seção mudou desde a cópia, o resultado é descartado e a seção
+     * será copiada novamente na próxima consulta.
+     */
+    void install(long key, SectionOres ores) {
+        if (pending.remove(key)) {
+            sections.put(key, ores);
+        }
+    }
+
+    @Nullable
+    private LevelChunkSection loadedSection(int sx, int sy, int sz) {
+        if (sy < level.getMinSection() || sy >= level.getMaxSection()) {
+            return null;
+        }
+
+        LevelChunk chunk = level.getChunkSource().getChunkNow(sx, sz);
+        if (chunk == null) {
+            return null;
+        }
+
+        return chunk.getSection(chunk.getSectionIndexFromSectionY(sy));
+    }
+
+    /**
+     * Atualiza uma única posição do índice
+     *
+     * Só age sobre seções já indexadas; seções ainda não construídas
+     * refletirão o novo estado quando forem lidas pela primeira vez.
+     *
+     * @param pos Posição alterada
+     * @param state Novo estado do bloco
+     */
+    public void update(BlockPos pos, BlockState state) {
+        long key = SectionPos.asLong(pos);
+        SectionOres ores = sections.get(key);
+        if (ores != null) {
+            SectionOres updated = ores.with(SectionOres.localIndex(pos), OreClassifier.classify(state));
+            if (updated == ores) {
+                return; // Nada mudou para o índice (sinal de redstone, por exemplo)
+            }
+            sections.put(key, updated);
+        }
+
+        pending.remove(key); // Invalida varreduras em andamento sobre a seção
+        scanCache.invalidate(key);
+    }
+
+    /**
+     * Remove todas as seções de uma coluna de chunk do índice
+     */
+    private void dropChunk(int chunkX, int chunkZ) {
+        for (int sy = level.getMinSection(); sy < level.getMaxSection(); sy++) {
+            long key = SectionPos.asLong(chunkX, sy, chunkZ);
+            sections.remove(key);
+            pending.remove(key);
+            scanCache.invalidate(key);
+        }
+    }
+
+    /**
+     * Esvazia os índices de todos os mundos
+     *
+     * Usado quando a classificação de minérios muda (recarga de tags);
+     * as seções serão reindexadas na próxima consulta. Os índices continuam
+     * registrados, e varreduras em andamento são descartadas ao terminar.
+     */
+    static void clearAll() {
+        for (OreSectionIndex index : INDEXES.values()) {
+            index.sections.clear();
+            index.pending.clear();
+            index.scanCache.clear();
+        }
+    }
+
+    /**
+     * Cache de varreduras compartilhado pelos rituais deste mundo
+     */
+    public SectionScanCache getScanCache() {
+        return scanCache;
+    }
+
+    /**
+     * Quantidade de seções atualmente indexadas (para depuração)
+     */
+    public int getIndexedSectionCount() {
+        return sections.size();
+    }
+
+    // ================================
+    // MANUTENÇÃO INCREMENTAL
+    // ================================
+
+    @Nullable
+    private static OreSectionIndex existing(LevelAccessor level) {
+        return level instanceof ServerLevel serverLevel ? INDEXES.get(serverLevel) : null;
+    }
+
+    /**
+     * Bloco alterado no mundo
+     *
+     * O evento dispara depois de o novo estado estar no chunk, para toda
+     * mudança que notifica os vizinhos, inclusive as que não vêm de um
+     * jogador. Cancelá-lo só suprime a notificação, então o índice o
+     * recebe mesmo cancelado.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST, receiveCanceled = true)
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        OreSectionIndex index = existing(event.getLevel());
+        if (index != null) {
+            index.update(event.getPos(), event.getState());
+        }
+    }
+
+    /**
+     * Chunk descarregado: suas seções saem do índice
+     */
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        OreSectionIndex index = existing(event.getLevel());
+        if (index != null) {
+            ChunkAccess chunk = event.getChunk();
+            index.dropChunk(chunk.getPos().x, chunk.getPos().z);
+        }
+    }
+
+    /**
+     * Mundo carregado: cria o índice vazio
+     */
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            INDEXES.put(serverLevel, new OreSectionIndex(serverLevel));
+        }
+    }
+
+    /**
+     * Mundo descarregado: descarta o índice inteiro
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            INDEXES.remove(serverLevel);
+        }
+    }
+
+    /**
+     * Minérios de uma seção, em arrays paralelos compactos
+     *
+     * positions guarda o índice local (y << 8 | z << 4 | x) de cada minério
+     * e types o ordinal do OreType correspondente.
+     */
+    static final class SectionOres {
+
+        static final SectionOres EMPTY = new SectionOres(new short[0], new byte[0]);
+
+        final short[] positions;
+        final byte[] types;
+
+        private SectionOres(short[] positions, byte[] types) {
+            this.positions = positions;
+            this.types = types;
+        }
+
+        boolean isEmpty() {
+            return positions.length == 0;
+        }
+
+        static int localIndex(BlockPos pos) {
+            return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+        }
+
+        /**
+         * Restringe os minérios da seção ao cubo informado
+         *
+         * Retorna a própria instância quando a seção está inteira dentro
+         * do cubo, o que permite comparar resultados por identidade.
+         */
+        SectionOres within(long sectionKey, BoundingBox box) {
+            int baseX = SectionPos.sectionToBlockCoord(SectionPos.x(sectionKey));
+            int baseY = SectionPos.sectionToBlockCoord(SectionPos.y(sectionKey));
+            int baseZ = SectionPos.sectionToBlockCoord(SectionPos.z(sectionKey));
+
+            if (isEmpty() || (baseX >= box.minX() && baseX + 15 <= box.maxX()
+                && baseY >= box.minY() && baseY + 15 <= box.maxY()
+                && baseZ >= box.minZ() && baseZ + 15 <= box.maxZ())) {
+                return this;
+            }
+
+            short[] keptPositions = new short[positions.length];
+            byte[] keptTypes = new byte[types.length];
+            int size = 0;
+            for (int i = 0; i < positions.length; i++) {
+                int local = positions[i];
+                if (box.isInside(baseX + (local & 15), baseY + ((local >> 8) & 15), baseZ + ((local >> 4) & 15))) {
+                    keptPositions[size] = positions[i];
+                    keptTypes[size] = types[i];
+                    size++;
+                }
+            }
+
+            if (size == positions.length) {
+                return this;
+            }
+            return size == 0 ? EMPTY : new SectionOres(Arrays.copyOf(keptPositions, size), Arrays.copyOf(keptTypes, size));
+        }
+
+        /**
+         * Constrói a lista de minérios a partir de uma seção do chunk
+         *
+         * A paleta é consultada primeiro: se nenhum estado dela é minério,
+         * a seção inteira é descartada sem ler os 4096 blocos.
+         */
+        static SectionOres build(LevelChunkSection section) {
+            return section.hasOnlyAir() ? EMPTY : build(section.getStates());
+        }
+
+        /**
+         * Constrói a lista de minérios a partir da paleta de estados
+         *
+         * Aceita tanto a paleta viva quanto uma cópia feita por snapshot.
+         */
+        static SectionOres build(PalettedContainer<BlockState> states) {
+            if (!states.maybeHas(OreClassifier::isOre)) {
+                return EMPTY;
+            }
+
+            short[] positions = new short[16];
+            byte[] types = new byte[16];
+            int size = 0;
+
+            for (int local = 0; local < 4096; local++) {
+                byte type = OreClassifier.typeId(states.get(local & 15, (local >> 8) & 15, (local >> 4) & 15));
+                if (type != 0) {
+                    if (size == positions.length) {
+                        positions = Arrays.copyOf(positions, size * 2);
+                        types = Arrays.copyOf(types, size * 2);
+                    }
+                    positions[size] = (short) local;
+                    types[size] = type;
+                    size++;
+                }
+            }
+
+            return size == 0 ? EMPTY : new SectionOres(Arrays.copyOf(positions, size), Arrays.copyOf(types, size));
+        }
+
+        /**
+         * Cria uma cópia com a posição local definida para o tipo informado
+         * (NONE remove a posição)
+         */
+        SectionOres with(int local, VeinRitualEffect.OreType type) {
+            int existing = -1;
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == local) {
+                    existing = i;
+                    break;
+                }
+            }
+
+            if (type == VeinRitualEffect.OreType.NONE) {
+                if (existing < 0) {
+                    return this;
+                }
+                if (positions.length == 1) {
+                    return EMPTY;
+                }
+                short[] newPositions = new short[positions.length - 1];
+                byte[] newTypes = new byte[types.length - 1];
+                System.arraycopy(positions, 0, newPositions, 0, existing);
+                System.arraycopy(positions, existing + 1, newPositions, existing, positions.length - existing - 1);
+                System.arraycopy(types, 0, newTypes, 0, existing);
+                System.arraycopy(types, existing + 1, newTypes, existing, types.length - existing - 1);
+                return new SectionOres(newPositions, newTypes);
+            }
+
+            if (existing >= 0) {
+                if (types[existing] == type.ordinal()) {
+                    return this;
+                }
+                byte[] newTypes = types.clone();
+                newTypes[existing] = (byte) type.ordinal();
+                return new SectionOres(positions, newTypes);
+            }
+
+            short[] newPositions = Arrays.copyOf(positions, positions.length + 1);
+            byte[] newTypes = Arrays.copyOf(types, types.length + 1);
+            newPositions[positions.length] = (short) local;
+            newTypes[types.length] = (byte) type.ordinal();
+            return new SectionOres(newPositions, newTypes);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cronicasaetherium.mod.common.ritual;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameTests do índice de minérios por seção
+ *
+ * O índice precisa produzir exatamente o resultado de uma varredura bloco
+ * a bloco, inclusive depois de mudanças que não vêm de um jogador.
+ */
+@GameTestHolder(CronicasAetherium.MODID)
+@PrefixGameTestTemplate(false)
+public class OreSectionIndexTests {
+
+    // Cubo de 15 blocos no meio da estrutura vazia de 16x16x16
+    private static final BlockPos CENTER = new BlockPos(8, 8, 8);
+    private static final int RADIUS = 7;
+
+    private static final BlockState[] PALETTE = {
+        Blocks.IRON_ORE.defaultBlockState(),
+        Blocks.DEEPSLATE_GOLD_ORE.defaultBlockState(),
+        Blocks.COAL_ORE.defaultBlockState(),
+        Blocks.DIAMOND_ORE.defaultBlockState(),
+        Blocks.STONE.defaultBlockState(),
+        Blocks.AIR.defaultBlockState()
+    };
+
+    /**
+     * Preenche o cubo, indexa, altera blocos por setBlock e por explosão,
+     * e compara o índice com a varredura após cada etapa
+     */
+    @GameTest(template = "empty")
+    public static void indexMatchesBlockScan(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        OreSectionIndex index = OreSectionIndex.get(level);
+        helper.assertTrue(index != null, "Índice não criado no carregamento do mundo");
+        BlockPos center = helper.absolutePos(CENTER);
+        RandomSource random = RandomSource.create(1234L);
+
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-RADIUS, -RADIUS, -RADIUS), center.offset(RADIUS, RADIUS, RADIUS))) {
+            level.setBlock(pos, PALETTE[random.nextInt(PALETTE.length)], Block.UPDATE_ALL);
+        }
+        assertMatches(helper, index, center, "após preencher o cubo");
+
+        // Mudanças sem jogador envolvido, com as seções já indexadas
+        for (int i = 0; i < 400; i++) {
+            BlockPos pos = center.offset(random.nextIntBetweenInclusive(-RADIUS, RADIUS),
+                random.nextIntBetweenInclusive(-RADIUS, RADIUS), random.nextIntBetweenInclusive(-RADIUS, RADIUS));
+            level.setBlock(pos, PALETTE[random.nextInt(PALETTE.length)], Block.UPDATE_ALL);
+        }
+        assertMatches(helper, index, center, "após setBlock");
+
+        level.explode(null, center.getX() + 0.5, center.getY() + 0.5, center.getZ() + 0.5, 4.0F, Level.ExplosionInteraction.TNT);
+        assertMatches(helper, index, center, "após a explosão");
+
+        helper.succeed();
+    }
+
+    private static void assertMatches(GameTestHelper helper, OreSectionIndex index, BlockPos center, String stage) {
+        List<VeinRitualEffect.OreDetection> detections = new ArrayList<>();
+        index.collect(center, RADIUS, detections);
+
+        Long2ByteOpenHashMap indexed = new Long2ByteOpenHashMap();
+        for (VeinRitualEffect.OreDetection detection : detections) {
+            indexed.put(detection.position.asLong(), (byte) detection.type.ordinal());
+        }
+        helper.assertTrue(indexed.size() == detections.size(), "Minério repetido no índice " + stage);
+
+        // Varredura bloco a bloco, a referência
+        Long2ByteOpenHashMap scanned = new Long2ByteOpenHashMap();
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-RADIUS, -RADIUS, -RADIUS), center.offset(RADIUS, RADIUS, RADIUS))) {
+            byte type = OreClassifier.typeId(helper.getLevel().getBlockState(pos));
+            if (type != 0) {
+                scanned.put(pos.asLong(), type);
+            }
+        }
+
+        helper.assertTrue(!scanned.isEmpty(), "Nenhum minério no cubo " + stage);
+        helper.assertTrue(indexed.equals(scanned), "Índice diverge da varredura " + stage
+            + " (índice: " + indexed.size() + ", varredura: " + scanned.size() + ")");
+    }
+}
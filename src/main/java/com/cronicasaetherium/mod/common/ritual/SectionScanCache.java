@@ -0,0 +1,114 @@
+package com.cronicasaetherium.mod.common.ritual;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Cache de curta duração das seções varridas pelo Ritual da Veia Oculta
+ *
+ * Quando vários jogadores próximos usam o ritual, suas áreas de detecção
+ * se sobrepõem quase por completo. Este cache, compartilhado por todos os
+ * rituais de um mundo, guarda o resultado (ou a varredura em andamento)
+ * de cada seção junto do tick em que foi obtido. Dentro da janela de
+ * validade, outros jogadores reutilizam o mesmo resultado, então o custo
+ * cresce com o número de seções distintas e não com o número de jogadores.
+ *
+ * Entradas são invalidadas quando a seção muda ou seu chunk descarrega.
+ * Acessado apenas na thread do servidor.
+ */
+public class SectionScanCache {
+
+    // Janela de validade de uma entrada, igual ao intervalo de atualização do ritual
+    static final int TTL_TICKS = 20;
+
+    // Contadores globais (todos os mundos) para o comando de depuração
+    private static long hits;
+    private static long misses;
+
+    private final Long2ObjectOpenHashMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+    private long lastPrune;
+
+    /**
+     * Obtém o resultado de uma seção, reutilizando o de outro ritual se ainda válido
+     *
+     * @param key Seção (SectionPos.asLong)
+     * @param gameTime Tick atual do mundo
+     * @param loader Obtém o resultado em caso de falta; pode retornar null
+     *               se a seção não puder ser varrida agora (não é guardado)
+     * @return Resultado (possivelmente ainda em andamento), ou null
+     */
+    @Nullable
+    CompletableFuture<OreSectionIndex.SectionOres> resolve(long key, long gameTime,
+                                                           Supplier<CompletableFuture<OreSectionIndex.SectionOres>> loader) {
+        prune(gameTime);
+
+        Entry entry = entries.get(key);
+        if (entry != null && gameTime - entry.tick < TTL_TICKS) {
+            hits++;
+            return entry.result;
+        }
+
+        misses++;
+        CompletableFuture<OreSectionIndex.SectionOres> result = loader.get();
+        if (result != null) {
+            entries.put(key, new Entry(result, gameTime));
+        } else if (entry != null) {
+            entries.remove(key);
+        }
+        return result;
+    }
+
+    /**
+     * Descarta a entrada de uma seção que mudou
+     */
+    void invalidate(long key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Descarta todas as entradas (classificação de minérios alterada)
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Remove entradas expiradas, no máximo uma vez por janela de validade
+     */
+    private void prune(long gameTime) {
+        if (gameTime - lastPrune < TTL_TICKS) {
+            return;
+        }
+        lastPrune = gameTime;
+        entries.values().removeIf(entry -> gameTime - entry.tick >= TTL_TICKS);
+    }
+
+    /**
+     * Quantidade de entradas atualmente guardadas (para depuração)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Zera os contadores de acertos e faltas
+     */
+    public static void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    private record Entry(CompletableFuture<OreSectionIndex.SectionOres> result, long tick) {
+    }
+}
@@ -1,21 +1,23 @@
 package com.cronicasaetherium.mod.common.ritual;
 
 import com.cronicasaetherium.mod.CronicasAetherium;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.TagKey;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectCategory;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
 
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Ritual da Veia Oculta - Efeito mágico que auxilia a mineração tecnológica
@@ -117,96 +119,57 @@ public class VeinRitualEffect extends MobEffect {
     /**
      * Atualiza a detecção de minérios ao redor do jogador
      * 
+     * A varredura é assíncrona: a thread principal só copia as paletas
+     * das seções ainda não indexadas, e o highlighting é aplicado quando
+     * o resultado volta em um tick posterior.
+     * 
      * @param player Jogador com o efeito
      */
     private void updateOreDetection(Player player) {
-        Level level = player.level();
-        BlockPos playerPos = player.blockPosition();
-        List<OreDetection> detectedOres = new ArrayList<>();
-        
-        // Varre área ao redor do jogador
-        for (int x = -DETECTION_RADIUS; x <= DETECTION_RADIUS; x++) {
-            for (int y = -DETECTION_RADIUS; y <= DETECTION_RADIUS; y++) {
-                for (int z = -DETECTION_RADIUS; z <= DETECTION_RADIUS; z++) {
-                    BlockPos checkPos = playerPos.offset(x, y, z);
-                    BlockState blockState = level.getBlockState(checkPos);
-                    
-                    // Verifica se é um minério
-                    OreType oreType = getOreType(blockState.getBlock());
-                    if (oreType != OreType.NONE) {
-                        detectedOres.add(new OreDetection(checkPos, oreType));
-                    }
-                }
-            }
+        if (!(player instanceof ServerPlayer serverPlayer)) {
+            return;
         }
         
-        // Aplica highlighting aos minérios detectados
-        applyOreHighlighting(player, detectedOres);
-        
-        // Log para debug
-        if (!detectedOres.isEmpty()) {
-            CronicasAetherium.LOGGER.debug("Ritual da Veia detectou {} minérios ao redor de {}",
-                detectedOres.size(), player.getName().getString());
-        }
+        OreScanScheduler.request(serverPlayer, DETECTION_RADIUS, detectedSections -> {
+            // O efeito pode ter acabado enquanto a varredura rodava
+            if (!isActiveOn(serverPlayer)) {
+                return;
+            }
+            
+            // Aplica highlighting aos minérios detectados
+            applyOreHighlighting(serverPlayer, detectedSections);
+            
+            // Log para debug
+            if (!detectedSections.isEmpty()) {
+                CronicasAetherium.LOGGER.debug("Ritual da Veia detectou minérios em {} seções ao redor de {}",
+                    detectedSections.size(), serverPlayer.getName().getString());
+            }
+        });
     }
     
     /**
-     * Determina o tipo de minério de um bloco
-     * 
-     * @param block Bloco a verificar
-     * @return Tipo do minério
+     * Verifica se este efeito ainda está ativo no jogador
      */
-    private OreType getOreType(Block block) {
-        if (block == Blocks.IRON_ORE || block == Blocks.DEEPSLATE_IRON_ORE) {
-            return OreType.IRON;
-        } else if (block == Blocks.COAL_ORE || block == Blocks.DEEPSLATE_COAL_ORE) {
-            return OreType.COAL;
-        } else if (block == Blocks.GOLD_ORE || block == Blocks.DEEPSLATE_GOLD_ORE) {
-            return OreType.GOLD;
-        } else if (block == Blocks.DIAMOND_ORE || block == Blocks.DEEPSLATE_DIAMOND_ORE) {
-            return OreType.DIAMOND;
-        } else if (block == Blocks.REDSTONE_ORE || block == Blocks.DEEPSLATE_REDSTONE_ORE) {
-            return OreType.REDSTONE;
-        } else if (block == Blocks.LAPIS_ORE || block == Blocks.DEEPSLATE_LAPIS_ORE) {
-            return OreType.LAPIS;
-        } else if (block == Blocks.EMERALD_ORE || block == Blocks.DEEPSLATE_EMERALD_ORE) {
-            return OreType.EMERALD;
+    private boolean isActiveOn(Player player) {
+        for (MobEffectInstance instance : player.getActiveEffects()) {
+            if (instance.getEffect().value() == this) {
+                return true;
+            }
         }
-        
-        // TODO: Adicionar minérios customizados do mod
-        // } else if (block == ModBlocks.COPPER_ORE.get() || block == ModBlocks.DEEPSLATE_COPPER_ORE.get()) {
-        //     return OreType.COPPER;
-        // } else if (block == ModBlocks.TIN_ORE.get() || block == ModBlocks.DEEPSLATE_TIN_ORE.get()) {
-        //     return OreType.TIN;
-        // } else if (block == ModBlocks.COBALT_ORE.get() || block == ModBlocks.DEEPSLATE_COBALT_ORE.get()) {
-        //     return OreType.COBALT;
-        
-        return OreType.NONE;
+        return false;
     }
     
     /**
      * Aplica highlighting visual aos minérios detectados
      * 
+     * Envia ao cliente apenas as diferenças em relação à última
+     * atualização; o cliente desenha os contornos através das paredes.
+     * 
      * @param player Jogador que vê o highlighting
-     * @param ores Lista de minérios detectados
+     * @param sections Minérios detectados por seção
      */
-    private void applyOreHighlighting(Player player, List<OreDetection> ores) {
-        if (player instanceof ServerPlayer serverPlayer) {
-            // TODO: Implementar highlighting visual quando possível
-            // Por enquanto, envia informação via chat para debug
-            if (!ores.isEmpty() && player.tickCount % (20 * 10) == 0) { // A cada 10 segundos
-                int ironCount = (int) ores.stream().filter(o -> o.type == OreType.IRON).count();
-                int coalCount = (int) ores.stream().filter(o -> o.type == OreType.COAL).count();
-                int goldCount = (int) ores.stream().filter(o -> o.type == OreType.GOLD).count();
-                int diamondCount = (int) ores.stream().filter(o -> o.type == OreType.DIAMOND).count();
-                
-                if (ironCount + coalCount + goldCount + diamondCount > 0) {
-                    player.sendSystemMessage(Component.translatable("effect.cronicasaetherium.vein_ritual.detection",
-                        ironCount, coalCount, goldCount, diamondCount)
-                        .withStyle(net.minecraft.ChatFormatting.AQUA));
-                }
-            }
-        }
+    private void applyOreHighlighting(ServerPlayer player, Long2ObjectMap<OreSectionIndex.SectionOres> sections) {
+        OreHighlightTracker.update(player, sections);
     }
     
     /**
@@ -215,7 +178,9 @@ public class VeinRitualEffect extends MobEffect {
      * @param player Jogador para limpar highlighting
      */
     private void clearOreHighlighting(Player player) {
-        // TODO: Implementar limpeza do highlighting visual
+        if (player instanceof ServerPlayer serverPlayer) {
+            OreHighlightTracker.clear(serverPlayer);
+        }
         CronicasAetherium.LOGGER.debug("Limpando highlighting de minérios para {}", player.getName().getString());
     }
     
@@ -243,15 +208,55 @@ public class VeinRitualEffect extends MobEffect {
     
     /**
      * Enumeration para tipos de minério
+     * 
+     * Cada tipo (exceto NONE) é definido pela tag de bloco
+     * cronicasaetherium:vein_ores/<tipo>, compilada pelo OreClassifier.
      */
-    private enum OreType {
-        NONE, IRON, COAL, GOLD, DIAMOND, REDSTONE, LAPIS, EMERALD, COPPER, TIN, COBALT
+    public enum OreType {
+        NONE(0xFFFFFF),
+        IRON(0xD8AF93),
+        COAL(0x555555),
+        GOLD(0xFCEE4B),
+        DIAMOND(0x5DECF5),
+        REDSTONE(0xFF2020),
+        LAPIS(0x1E4FBF),
+        EMERALD(0x17DD62),
+        COPPER(0xE0763F),
+        TIN(0xC8CED3),
+        COBALT(0x2F5FE0);
+        
+        // Cache dos valores para conversão ordinal -> tipo sem alocar
+        public static final OreType[] VALUES = values();
+        
+        private final int color;
+        private final TagKey<Block> tag;
+        
+        OreType(int color) {
+            this.color = color;
+            this.tag = ordinal() == 0 ? null : BlockTags.create(ResourceLocation.fromNamespaceAndPath(
+                CronicasAetherium.MODID, "vein_ores/" + name().toLowerCase(Locale.ROOT)));
+        }
+        
+        /**
+         * Tag de blocos que definem este tipo (null para NONE)
+         */
+        @Nullable
+        public TagKey<Block> getTag() {
+            return tag;
+        }
+        
+        /**
+         * Cor RGB do contorno desenhado no cliente
+         */
+        public int getColor() {
+            return color;
+        }
     }
     
     /**
      * Classe para armazenar detecções de minério
      */
-    private static class OreDetection {
+    static class OreDetection {
         public final BlockPos position;
         public final OreType type;
         
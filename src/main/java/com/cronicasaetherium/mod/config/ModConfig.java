@@ -188,6 +188,30 @@ public class ModConfig {
      */
     public static final ModConfigSpec.IntValue MACHINE_UPDATE_INTERVAL;
     
+    /**
+     * Intervalo mínimo entre sincronizações de uma máquina
+     * 
+     * Mudanças de estado visual (processando, ativo, aquecido)
+     * acumuladas nesse intervalo são enviadas em um único
+     * pacote para os jogadores que enxergam a máquina.
+     * 
+     * Padrão: 5 ticks
+     * Faixa: 1 - 100
+     */
+    public static final ModConfigSpec.IntValue MACHINE_SYNC_INTERVAL;
+    
+    /**
+     * Intervalo mínimo entre atualizações das barras de um menu aberto
+     * 
+     * Energia, progresso e combustível de uma máquina com a interface
+     * aberta são conferidos e enviados no máximo uma vez nesse
+     * intervalo. Estados (ativo, processando) não esperam.
+     * 
+     * Padrão: 4 ticks
+     * Faixa: 1 - 40
+     */
+    public static final ModConfigSpec.IntValue MENU_SYNC_INTERVAL;
+    
     // Inicialização estática das configurações
     static {
         BUILDER.comment("Configurações de Proficiência")
@@ -267,6 +291,14 @@ public class ModConfig {
             .comment("Intervalo de atualização de máquinas em ticks")
             .defineInRange("machineUpdateInterval", 20, 1, 100);
         
+        MACHINE_SYNC_INTERVAL = BUILDER
+            .comment("Intervalo mínimo entre sincronizações de estado de uma máquina, em ticks")
+            .defineInRange("machineSyncInterval", 5, 1, 100);
+        
+        MENU_SYNC_INTERVAL = BUILDER
+            .comment("Intervalo mínimo entre atualizações das barras de um menu de máquina aberto, em ticks")
+            .defineInRange("menuSyncInterval", 4, 1, 40);
+        
         BUILDER.pop();
         
         SPEC = BUILDER.build();
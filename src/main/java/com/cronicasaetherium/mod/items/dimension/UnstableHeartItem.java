@@ -1,5 +1,7 @@
 package com.cronicasaetherium.mod.items.dimension;
 
+import com.cronicasaetherium.mod.common.capability.ProficiencyAccrual;
+import com.cronicasaetherium.mod.config.ModConfig;
 import com.cronicasaetherium.mod.registry.ModBlocks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
@@ -188,9 +190,7 @@ public class UnstableHeartItem extends Item {
             SoundSource.BLOCKS, 0.8f, 1.2f);
         
         // TODO: Adicionar partículas especiais quando o sistema for expandido
-        // TODO: Adicionar XP de proficiência arcana para o jogador
-        // ModCapabilities.ifPlayerProficiencyPresent(player, proficiency -> {
-        //     proficiency.addArcanaXp(ModConfig.BASE_ARCANA_XP.get() * 2); // Bônus por ativar portal
-        // });
+        // XP de proficiência arcana (bônus por ativar portal)
+        ProficiencyAccrual.grantArcana(player, ModConfig.BASE_ARCANA_XP.get() * 2);
     }
 }
\ No newline at end of file
@@ -185,7 +185,7 @@ public class RuneOfEfficiencyItem extends Item {
         
         // PlayerProficiency proficiency = ModCapabilities.getPlayerProficiency(player);
         // if (proficiency != null) {
-        //     int arcanaLevel = proficiency.getArcanaLevel();
+        //     int arcanaLevel = proficiency.getLevel(ProficiencyTypes.ARCANA);
         //     return BASE_EFFICIENCY_BONUS + (arcanaLevel * 5); // +5% por nível
         // }
         
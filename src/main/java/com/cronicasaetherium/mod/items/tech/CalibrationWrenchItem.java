@@ -0,0 +1,85 @@
+package com.cronicasaetherium.mod.items.tech;
+
+import com.cronicasaetherium.mod.common.capability.SideConfig;
+import com.cronicasaetherium.mod.common.machine.MachineBlockEntity;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Rarity;
+import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.Level;
+
+/**
+ * Chave de Calibração - Ferramenta essencial de tecnologia
+ *
+ * Configura o que entra e o que sai por cada face de uma máquina:
+ * - Clique direito em uma face: alterna os itens dessa face
+ * - Agachado + clique direito: alterna a energia dessa face
+ *
+ * Cada grupo alterna entre entrada e saída → só entrada → só saída →
+ * desligado. A mudança vale imediatamente para dutos, cabos, funis e
+ * para a saída automática da própria máquina.
+ */
+public class CalibrationWrenchItem extends Item {
+
+    public CalibrationWrenchItem() {
+        super(new Item.Properties()
+            .stacksTo(1)
+            .durability(250)
+            .rarity(Rarity.UNCOMMON));
+    }
+
+    @Override
+    public InteractionResult useOn(UseOnContext context) {
+        Level level = context.getLevel();
+        Player player = context.getPlayer();
+
+        if (!(level.getBlockEntity(context.getClickedPos()) instanceof MachineBlockEntity machine)) {
+            return InteractionResult.PASS;
+        }
+        if (level.isClientSide || player == null) {
+            return InteractionResult.SUCCESS; // Só processa no servidor
+        }
+
+        Direction face = context.getClickedFace();
+        boolean energy = player.isShiftKeyDown();
+        int modes = machine.getSideConfig().cycle(face, energy ? SideConfig.ENERGY : SideConfig.ITEMS);
+        machine.onSideConfigChanged();
+
+        player.displayClientMessage(Component.literal(String.format("§6Lado %s§r - %s: §e%s",
+            faceName(face), energy ? "Energia" : "Itens", modeName(modes))), true);
+        level.playSound(null, context.getClickedPos(), SoundEvents.IRON_TRAPDOOR_CLOSE, SoundSource.BLOCKS, 0.5f, 1.5f);
+
+        // Consome durabilidade da chave
+        context.getItemInHand().hurtAndBreak(1, player, context.getHand());
+
+        return InteractionResult.SUCCESS;
+    }
+
+    private static String faceName(Direction face) {
+        return switch (face) {
+            case DOWN -> "de baixo";
+            case UP -> "de cima";
+            case NORTH -> "norte";
+            case SOUTH -> "sul";
+            case WEST -> "oeste";
+            case EAST -> "leste";
+        };
+    }
+
+    private static String modeName(int modes) {
+        boolean in = (modes & (SideConfig.ENERGY_IN | SideConfig.ITEM_IN)) != 0;
+        boolean out = (modes & (SideConfig.ENERGY_OUT | SideConfig.ITEM_OUT)) != 0;
+        if (in && out) {
+            return "entrada e saída";
+        }
+        if (in) {
+            return "só entrada";
+        }
+        return out ? "só saída" : "desligado";
+    }
+}
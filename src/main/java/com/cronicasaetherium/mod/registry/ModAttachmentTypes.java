@@ -0,0 +1,43 @@
+package com.cronicasaetherium.mod.registry;
+
+import com.cronicasaetherium.mod.CronicasAetherium;
+import com.cronicasaetherium.mod.common.capability.PlayerProficiency;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.NeoForgeRegistries;
+
+import java.util.function.Supplier;
+
+/**
+ * Registro central dos data attachments do mod Crônicas de Aetherium
+ *
+ * Attachments guardam dados do mod diretamente em entidades, chunks ou
+ * BlockEntities: são criados uma única vez por portador, acessados com
+ * getData e salvos junto com ele.
+ */
+public class ModAttachmentTypes {
+
+    // DeferredRegister para registro eficiente de AttachmentTypes
+    public static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES =
+        DeferredRegister.create(NeoForgeRegistries.ATTACHMENT_TYPES, CronicasAetherium.MODID);
+
+    /**
+     * Proficiências do jogador (engenharia e arcana)
+     * Salvas com o jogador; a cópia após a morte é feita em
+     * CapabilityEventHandler.onPlayerClone
+     */
+    public static final Supplier<AttachmentType<PlayerProficiency>> PLAYER_PROFICIENCY =
+        ATTACHMENT_TYPES.register("player_proficiency", () ->
+            AttachmentType.serializable(PlayerProficiency::new).build());
+
+    /**
+     * Método de registro que deve ser chamado na inicialização do mod
+     * Registra o DeferredRegister no event bus do mod
+     *
+     * @param modEventBus Event bus do mod para registro
+     */
+    public static void register(IEventBus modEventBus) {
+        ATTACHMENT_TYPES.register(modEventBus);
+    }
+}
@@ -14,6 +14,13 @@ import net.minecraft.util.valueproviders.UniformInt;
 import com.cronicasaetherium.mod.blocks.synergy.ManaInfuserBlock;
 import com.cronicasaetherium.mod.blocks.synergy.ArcanePortalBlock;
 import com.cronicasaetherium.mod.blocks.synergy.SpiritCentrifugeBlock;
+import com.cronicasaetherium.mod.blocks.tech.BronzePipeBlock;
+import com.cronicasaetherium.mod.blocks.tech.ConveyorBeltBlock;
+import com.cronicasaetherium.mod.blocks.tech.EnergyCableBlock;
+import com.cronicasaetherium.mod.blocks.tech.ManualPumpBlock;
+import com.cronicasaetherium.mod.blocks.tech.MechanicalCrusherBlock;
+import com.cronicasaetherium.mod.blocks.tech.PneumaticDuctBlock;
+import com.cronicasaetherium.mod.blocks.tech.SteamEngineBlock;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.neoforge.registries.DeferredRegister;
 
@@ -192,7 +199,7 @@ public class ModBlocks {
      * Primeira fonte de energia do jogador
      */
     public static final Supplier<Block> STEAM_ENGINE = BLOCKS.register("steam_engine",
-        () -> new Block(BlockBehaviour.Properties.of()
+        () -> new SteamEngineBlock(BlockBehaviour.Properties.of()
             .strength(4.0f, 5.0f)
             .requiresCorrectToolForDrops()
             .sound(SoundType.ANVIL)
@@ -204,7 +211,7 @@ public class ModBlocks {
      * Deve ser conectada a canos de bronze
      */
     public static final Supplier<Block> MANUAL_PUMP = BLOCKS.register("manual_pump",
-        () -> new Block(BlockBehaviour.Properties.of()
+        () -> new ManualPumpBlock(BlockBehaviour.Properties.of()
             .strength(3.0f, 4.0f)
             .requiresCorrectToolForDrops()
             .sound(SoundType.METAL)));
@@ -215,7 +222,7 @@ public class ModBlocks {
      * Componente essencial da logística de fluidos inicial
      */
     public static final Supplier<Block> BRONZE_PIPE = BLOCKS.register("bronze_pipe",
-        () -> new Block(BlockBehaviour.Properties.of()
+        () -> new BronzePipeBlock(BlockBehaviour.Properties.of()
             .strength(2.0f, 3.0f)
             .sound(SoundType.METAL)
             .noOcclusion()));
@@ -226,7 +233,7 @@ public class ModBlocks {
      * Funciona com energia do Motor a Vapor
      */
     public static final Supplier<Block> MECHANICAL_CRUSHER = BLOCKS.register("mechanical_crusher",
-        () -> new Block(BlockBehaviour.Properties.of()
+        () -> new MechanicalCrusherBlock(BlockBehaviour.Properties.of()
             .strength(4.0f, 5.0f)
             .requiresCorrectToolForDrops()
             .sound(SoundType.ANVIL)));
@@ -260,11 +267,22 @@ public class ModBlocks {
      * Base da primeira linha de produção automatizada
      */
     public static final Supplier<Block> PNEUMATIC_DUCT = BLOCKS.register("pneumatic_duct",
-        () -> new Block(BlockBehaviour.Properties.of()
+        () -> new PneumaticDuctBlock(BlockBehaviour.Properties.of()
             .strength(2.0f, 3.0f)
             .sound(SoundType.METAL)
             .noOcclusion()));
     
+    /**
+     * Cabo de Energia - Transporte de FE Tier 1
+     * Conecta o Motor a Vapor às máquinas em uma rede de energia
+     * Sem BlockEntity: a rede inteira é gerenciada pelo EnergyGridManager
+     */
+    public static final Supplier<Block> ENERGY_CABLE = BLOCKS.register("energy_cable",
+        () -> new EnergyCableBlock(BlockBehaviour.Properties.of()
+            .strength(1.5f, 3.0f)
+            .sound(SoundType.COPPER)
+            .noOcclusion()));
+    
     // ========= MÁQUINAS TIER 2: TECNOLOGIA ==========
     
     /**
@@ -298,7 +316,7 @@ public class ModBlocks {
      * Componente básico da logística avançada
      */
     public static final Supplier<Block> CONVEYOR_BELT = BLOCKS.register("conveyor_belt",
-        () -> new Block(BlockBehaviour.Properties.of()
+        () -> new ConveyorBeltBlock(BlockBehaviour.Properties.of()
             .strength(3.0f, 4.0f)
             .requiresCorrectToolForDrops()
             .sound(SoundType.METAL)
@@ -781,6 +799,9 @@ public class ModBlocks {
     public static final Supplier<Item> PNEUMATIC_DUCT_ITEM = ModItems.ITEMS.register("pneumatic_duct",
         () -> new BlockItem(PNEUMATIC_DUCT.get(), new Item.Properties()));
     
+    public static final Supplier<Item> ENERGY_CABLE_ITEM = ModItems.ITEMS.register("energy_cable",
+        () -> new BlockItem(ENERGY_CABLE.get(), new Item.Properties()));
+    
     // ========= BLOCKITEMS MÁQUINAS TIER 2 ==========
     
     public static final Supplier<Item> GEOTHERMAL_GENERATOR_ITEM = ModItems.ITEMS.register("geothermal_generator",
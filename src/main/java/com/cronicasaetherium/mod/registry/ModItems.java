@@ -13,6 +13,7 @@ import com.cronicasaetherium.mod.items.lore.WornJournalItem;
 import com.cronicasaetherium.mod.items.dimension.UnstableHeartItem;
 import com.cronicasaetherium.mod.items.armor.BronzeArmorItem;
 import com.cronicasaetherium.mod.items.armor.TwistedWillowArmorItem;
+import com.cronicasaetherium.mod.items.tech.CalibrationWrenchItem;
 
 import java.util.function.Supplier;
 
@@ -84,13 +85,10 @@ public class ModItems {
     /**
      * Chave de Calibração - Ferramenta essencial de tecnologia
      * Primeira ferramenta especial que os jogadores devem criar
-     * Usada para configurar e rotacionar máquinas
+     * Usada para configurar a entrada e saída de cada lado das máquinas
      */
     public static final Supplier<Item> CALIBRATION_WRENCH = ITEMS.register("calibration_wrench",
-        () -> new Item(new Item.Properties()
-            .stacksTo(1)
-            .durability(250)
-            .rarity(Rarity.UNCOMMON)));
+        CalibrationWrenchItem::new);
     
     // ========= MATERIAIS TIER 1: MAGIA ==========
     